@@ -11,6 +11,27 @@ java {
 group = "net.cubexa.caseapi"
 version = "1.0.4"
 
+repositories {
+    mavenCentral()
+}
+
+sourceSets {
+    create("java21") {
+        java.setSrcDirs(listOf("src/main/java21"))
+    }
+    create("jmh") {
+        compileClasspath += sourceSets.main.get().output
+        runtimeClasspath += sourceSets.main.get().output
+    }
+}
+
+val jmhVersion = "1.37"
+
+dependencies {
+    "jmhImplementation"("org.openjdk.jmh:jmh-core:$jmhVersion")
+    "jmhAnnotationProcessor"("org.openjdk.jmh:jmh-generator-annprocess:$jmhVersion")
+}
+
 tasks {
     compileJava {
         options.encoding = "UTF-8"
@@ -21,10 +42,33 @@ tasks {
     javadoc {
         options.encoding = "UTF-8"
     }
+    named<JavaCompile>("compileJava21Java") {
+        javaCompiler.set(project.javaToolchains.compilerFor {
+            languageVersion.set(JavaLanguageVersion.of(21))
+        })
+        options.release.set(21)
+        options.encoding = "UTF-8"
+    }
+    named<JavaCompile>("compileJmhJava") {
+        options.encoding = "UTF-8"
+    }
+    register<JavaExec>("jmh") {
+        group = "benchmark"
+        description = "Runs the JMH benchmarks."
+        classpath = sourceSets["jmh"].runtimeClasspath
+        mainClass.set("org.openjdk.jmh.Main")
+        args(providers.gradleProperty("jmhInclude").getOrElse(".*"))
+    }
 }
 
 tasks {
     jar {
         archiveFileName.set("CaseAPI-${version}.jar")
+        into("META-INF/versions/21") {
+            from(sourceSets["java21"].output)
+        }
+        manifest {
+            attributes("Multi-Release" to "true")
+        }
     }
 }
\ No newline at end of file
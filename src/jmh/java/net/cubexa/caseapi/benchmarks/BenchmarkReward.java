@@ -0,0 +1,195 @@
+/*
+ * CaseAPI, a Minecraft plugin API by Cubexa Studio
+ * Copyright (C) 2025 Cubexa Studio <https://cubexa.net>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.cubexa.caseapi.benchmarks;
+
+import net.cubexa.caseapi.models.Case;
+import net.cubexa.caseapi.models.CaseReward;
+import net.cubexa.caseapi.models.CaseRewardType;
+import net.cubexa.caseapi.models.DurationUnit;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Minimal in-memory {@link CaseReward} used as benchmark fixture.
+ */
+public class BenchmarkReward implements CaseReward {
+
+    private final double chance;
+    private final int maxDraws;
+    private int remainingDraws;
+    private int index;
+
+    /**
+     * Constructs a new {@code BenchmarkReward}.
+     *
+     * @param index The index of the reward.
+     * @param chance The base chance of the reward.
+     * @param maxDraws The maximum draws, or {@code -1} if unlimited.
+     */
+    public BenchmarkReward(int index, double chance, int maxDraws) {
+        this.index = index;
+        this.chance = chance;
+        this.maxDraws = maxDraws;
+        this.remainingDraws = maxDraws;
+    }
+
+    /**
+     * Creates a list of rewards with random chances.
+     *
+     * @param count The number of rewards to create.
+     * @param limitedEvery Every n-th reward is limited, or {@code 0} for no limited rewards.
+     * @param seed The seed used for the chances.
+     * @return The created rewards.
+     */
+    public static List<CaseReward> create(int count, int limitedEvery, long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        List<CaseReward> rewards = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            boolean limited = limitedEvery > 0 && i % limitedEvery == 0;
+            rewards.add(new BenchmarkReward(i, 0.01 + random.nextDouble(100), limited ? Integer.MAX_VALUE : -1));
+        }
+        return rewards;
+    }
+
+    @Override
+    public CaseRewardType getType() {
+        return CaseRewardType.COMMAND;
+    }
+
+    @Override
+    public double getWinChance(double totalChance) {
+        return chance / totalChance;
+    }
+
+    @Override
+    public double getChance() {
+        return chance;
+    }
+
+    @Override
+    public String getItemStackBase64() {
+        return null;
+    }
+
+    @Override
+    public boolean isWithBroadcastMessage() {
+        return false;
+    }
+
+    @Override
+    public int getIndex() {
+        return index;
+    }
+
+    @Override
+    public CaseReward setIndex(int index) {
+        this.index = index;
+        return this;
+    }
+
+    @Override
+    public boolean isLimited() {
+        return maxDraws >= 0;
+    }
+
+    @Override
+    public boolean isAvailable() {
+        return !isLimited() || remainingDraws > 0;
+    }
+
+    @Override
+    public int getMaxDraws() {
+        return maxDraws;
+    }
+
+    @Override
+    public int getRemainingDraws() {
+        return remainingDraws;
+    }
+
+    @Override
+    public void reduceRemainingDraws() {
+        if (isLimited() && remainingDraws > 0) remainingDraws--;
+    }
+
+    @Override
+    public boolean tryReserveDraw() {
+        if (!isAvailable()) return false;
+        reduceRemainingDraws();
+        return true;
+    }
+
+    @Override
+    public void releaseDraw() {
+        if (isLimited()) remainingDraws++;
+    }
+
+    /**
+     * Sets the remaining draws of a limited reward, e.g. to deplete or refill it.
+     *
+     * @param remainingDraws The new remaining draws.
+     */
+    public void setRemainingDraws(int remainingDraws) {
+        this.remainingDraws = remainingDraws;
+    }
+
+    @Override
+    public Integer getGemsAmount() {
+        return null;
+    }
+
+    @Override
+    public Double getMoneyAmount() {
+        return null;
+    }
+
+    @Override
+    public String getCommand() {
+        return "say reward " + index;
+    }
+
+    @Override
+    public String getPermission() {
+        return null;
+    }
+
+    @Override
+    public Long getRawPermissionDuration() {
+        return null;
+    }
+
+    @Override
+    public DurationUnit getPermissionDurationUnit() {
+        return null;
+    }
+
+    @Override
+    public Duration getPermissionDuration() {
+        return null;
+    }
+
+    @Override
+    public CompletableFuture<Boolean> apply(UUID playerUuid, Case crate) {
+        return CompletableFuture.completedFuture(true);
+    }
+}
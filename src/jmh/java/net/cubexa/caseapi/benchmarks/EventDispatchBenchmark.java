@@ -0,0 +1,152 @@
+/*
+ * CaseAPI, a Minecraft plugin API by Cubexa Studio
+ * Copyright (C) 2025 Cubexa Studio <https://cubexa.net>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.cubexa.caseapi.benchmarks;
+
+import net.cubexa.caseapi.events.CaseEventBus;
+import net.cubexa.caseapi.events.CaseOpenCompleteEvent;
+import net.cubexa.caseapi.events.CaseOpenEvent;
+import net.cubexa.caseapi.events.CaseOpeningEventListener;
+import net.cubexa.caseapi.events.CaseRewardAnnounceEvent;
+import net.cubexa.caseapi.events.FailedCaseOpenEvent;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures dispatching events through a chain of {@link CaseOpeningEventListener}s, both by calling
+ * the listeners directly and through the {@link CaseEventBus}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EventDispatchBenchmark {
+
+    @Param({"1", "10", "50"})
+    private int listenerCount;
+
+    private final List<CaseOpeningEventListener> listeners = new ArrayList<>();
+    private CaseEventBus bus;
+    private CaseEventBus announceOnlyBus;
+    private UUID playerUuid;
+
+    /**
+     * Registers the listeners for the current parameter set.
+     *
+     * @param blackhole Consumes the events inside the listeners.
+     */
+    @Setup
+    public void setup(Blackhole blackhole) {
+        playerUuid = UUID.randomUUID();
+        bus = new CaseEventBus(Runnable::run);
+        announceOnlyBus = new CaseEventBus(Runnable::run);
+        for (int i = 0; i < listenerCount; i++) {
+            CaseOpeningEventListener listener = new ConsumingListener(blackhole);
+            listeners.add(listener);
+            bus.registerListener(listener);
+            announceOnlyBus.subscribe(CaseRewardAnnounceEvent.class, blackhole::consume);
+        }
+    }
+
+    /**
+     * Calls {@link CaseOpeningEventListener#onCaseOpen(CaseOpenEvent)} on every listener in order.
+     *
+     * @return The dispatched event.
+     */
+    @Benchmark
+    public CaseOpenEvent directChain() {
+        CaseOpenEvent event = new CaseOpenEvent(playerUuid, null);
+        for (CaseOpeningEventListener listener : listeners) {
+            listener.onCaseOpen(event);
+        }
+        return event;
+    }
+
+    /**
+     * Dispatches a {@link CaseOpenEvent} through the bus to all registered listeners.
+     *
+     * @return The dispatched event.
+     */
+    @Benchmark
+    public CaseOpenEvent busDispatch() {
+        return bus.dispatch(new CaseOpenEvent(playerUuid, null));
+    }
+
+    /**
+     * Dispatches a {@link CaseOpenEvent} through a bus where all handlers only subscribed to announcements.
+     *
+     * @return The dispatched event.
+     */
+    @Benchmark
+    public CaseOpenEvent busDispatchWithoutSubscribers() {
+        return announceOnlyBus.dispatch(new CaseOpenEvent(playerUuid, null));
+    }
+
+    /**
+     * Listener consuming every event it receives.
+     */
+    private static final class ConsumingListener implements CaseOpeningEventListener {
+
+        private final Blackhole blackhole;
+
+        /**
+         * Constructs a new {@code ConsumingListener}.
+         *
+         * @param blackhole Consumes the events.
+         */
+        private ConsumingListener(Blackhole blackhole) {
+            this.blackhole = blackhole;
+        }
+
+        @Override
+        public void onCaseOpen(CaseOpenEvent event) {
+            blackhole.consume(event);
+        }
+
+        @Override
+        public void onCaseOpenComplete(CaseOpenCompleteEvent event) {
+            blackhole.consume(event);
+        }
+
+        @Override
+        public void onFailedCaseOpen(FailedCaseOpenEvent event) {
+            blackhole.consume(event);
+        }
+
+        @Override
+        public void onCaseRewardAnnounce(CaseRewardAnnounceEvent event) {
+            blackhole.consume(event);
+        }
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * CaseAPI, a Minecraft plugin API by Cubexa Studio
+ * Copyright (C) 2025 Cubexa Studio <https://cubexa.net>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.cubexa.caseapi.benchmarks;
+
+import net.cubexa.caseapi.models.CaseReward;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.ByteBuffer;
+import java.util.Base64;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares accessing serialized items through {@link CaseReward#getItemStackBase64()} with
+ * the raw bytes of {@link CaseReward#getItemStackData()}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ItemDataBenchmark {
+
+    @Param({"256", "4096"})
+    private int itemSize;
+
+    private CaseReward reward;
+
+    /**
+     * Creates a reward holding a random serialized item of the configured size.
+     */
+    @Setup
+    public void setup() {
+        byte[] data = new byte[itemSize];
+        new SplittableRandom(42L).nextBytes(data);
+        reward = new ItemReward(data);
+    }
+
+    /**
+     * Decodes the Base64 representation, as callers had to before raw access existed.
+     *
+     * @return The decoded bytes.
+     */
+    @Benchmark
+    public byte[] base64Decode() {
+        return Base64.getDecoder().decode(reward.getItemStackBase64());
+    }
+
+    /**
+     * Reads the raw bytes view.
+     *
+     * @return The bytes view.
+     */
+    @Benchmark
+    public ByteBuffer rawData() {
+        return reward.getItemStackData();
+    }
+
+    /**
+     * Reward keeping both the Base64 and the raw representation of its item.
+     */
+    private static final class ItemReward extends BenchmarkReward {
+
+        private final String base64;
+        private final ByteBuffer data;
+
+        /**
+         * Constructs a new {@code ItemReward}.
+         *
+         * @param data The serialized item.
+         */
+        private ItemReward(byte[] data) {
+            super(0, 1, -1);
+            this.base64 = Base64.getEncoder().encodeToString(data);
+            this.data = ByteBuffer.wrap(data).asReadOnlyBuffer();
+        }
+
+        @Override
+        public String getItemStackBase64() {
+            return base64;
+        }
+
+        @Override
+        public ByteBuffer getItemStackData() {
+            return data.duplicate();
+        }
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * CaseAPI, a Minecraft plugin API by Cubexa Studio
+ * Copyright (C) 2025 Cubexa Studio <https://cubexa.net>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.cubexa.caseapi.benchmarks;
+
+import net.cubexa.caseapi.models.CaseRewardType;
+import net.cubexa.caseapi.models.DurationUnit;
+import net.cubexa.caseapi.utils.DurationUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link DurationUtil#getDuration(long, DurationUnit)} and the {@code fromString} lookups
+ * of {@link CaseRewardType} and {@link DurationUnit}, for both matching and unknown input.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ParsingBenchmark {
+
+    private String rewardTypeHit = "money";
+    private String durationUnitHit = "hours";
+    private String miss = "unknown";
+    private long amount = 12;
+    private DurationUnit unit = DurationUnit.WEEKS;
+
+    /**
+     * Converts an amount and unit into a {@link Duration}.
+     *
+     * @return The duration.
+     */
+    @Benchmark
+    public Duration getDuration() {
+        return DurationUtil.getDuration(amount, unit);
+    }
+
+    /**
+     * Parses a known reward type.
+     *
+     * @return The parsed type.
+     */
+    @Benchmark
+    public CaseRewardType rewardTypeHit() {
+        return CaseRewardType.fromString(rewardTypeHit);
+    }
+
+    /**
+     * Parses an unknown reward type.
+     *
+     * @return {@code null}.
+     */
+    @Benchmark
+    public CaseRewardType rewardTypeMiss() {
+        return CaseRewardType.fromString(miss);
+    }
+
+    /**
+     * Parses a known duration unit.
+     *
+     * @return The parsed unit.
+     */
+    @Benchmark
+    public DurationUnit durationUnitHit() {
+        return DurationUnit.fromString(durationUnitHit);
+    }
+
+    /**
+     * Parses an unknown duration unit.
+     *
+     * @return {@code null}.
+     */
+    @Benchmark
+    public DurationUnit durationUnitMiss() {
+        return DurationUnit.fromString(miss);
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * CaseAPI, a Minecraft plugin API by Cubexa Studio
+ * Copyright (C) 2025 Cubexa Studio <https://cubexa.net>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.cubexa.caseapi.benchmarks;
+
+import net.cubexa.caseapi.models.CaseReward;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures computing the total chance of a case and the normalized win chance of every reward,
+ * as done when rendering a case preview.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RewardChanceBenchmark {
+
+    @Param({"10", "100", "1000"})
+    private int rewardCount;
+
+    private List<CaseReward> rewards;
+
+    /**
+     * Creates the rewards for the current parameter set.
+     */
+    @Setup
+    public void setup() {
+        rewards = BenchmarkReward.create(rewardCount, 0, 42L);
+    }
+
+    /**
+     * Sums the chances of all rewards.
+     *
+     * @return The total chance.
+     */
+    @Benchmark
+    public double totalChance() {
+        double totalChance = 0;
+        for (CaseReward reward : rewards) {
+            totalChance += reward.getChance();
+        }
+        return totalChance;
+    }
+
+    /**
+     * Sums the chances of all rewards and computes the win chance of each.
+     *
+     * @param blackhole Consumes the win chances.
+     */
+    @Benchmark
+    public void winChances(Blackhole blackhole) {
+        double totalChance = totalChance();
+        for (CaseReward reward : rewards) {
+            blackhole.consume(reward.getWinChance(totalChance));
+        }
+    }
+}
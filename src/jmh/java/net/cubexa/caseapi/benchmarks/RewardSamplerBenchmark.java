@@ -0,0 +1,127 @@
+/*
+ * CaseAPI, a Minecraft plugin API by Cubexa Studio
+ * Copyright (C) 2025 Cubexa Studio <https://cubexa.net>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.cubexa.caseapi.benchmarks;
+
+import net.cubexa.caseapi.models.CaseReward;
+import net.cubexa.caseapi.sampling.AliasRewardSampler;
+import net.cubexa.caseapi.sampling.FenwickRewardSampler;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares reward draws through the samplers with the linear scan over
+ * {@link CaseReward#getChance()} that callers had to perform before.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RewardSamplerBenchmark {
+
+    @Param({"10", "100", "1000", "5000"})
+    private int rewardCount;
+
+    private List<CaseReward> rewards;
+    private AliasRewardSampler aliasSampler;
+    private FenwickRewardSampler fenwickSampler;
+    private List<CaseReward> limitedRewards;
+    private FenwickRewardSampler limitedSampler;
+    private SplittableRandom random;
+
+    /**
+     * Creates the rewards and samplers for the current parameter set.
+     */
+    @Setup
+    public void setup() {
+        rewards = BenchmarkReward.create(rewardCount, 0, 42L);
+        aliasSampler = new AliasRewardSampler(rewards);
+        fenwickSampler = new FenwickRewardSampler(rewards);
+        limitedRewards = BenchmarkReward.create(rewardCount, 1, 42L);
+        limitedSampler = new FenwickRewardSampler(limitedRewards);
+        random = new SplittableRandom(7L);
+    }
+
+    /**
+     * Draws a reward by summing all chances and scanning the list linearly.
+     *
+     * @return The drawn reward.
+     */
+    @Benchmark
+    public CaseReward linearScan() {
+        double totalChance = 0;
+        for (CaseReward reward : rewards) {
+            if (reward.isAvailable()) totalChance += reward.getChance();
+        }
+        double target = random.nextDouble() * totalChance;
+        CaseReward last = null;
+        for (CaseReward reward : rewards) {
+            if (!reward.isAvailable()) continue;
+            last = reward;
+            target -= reward.getChance();
+            if (target < 0) return reward;
+        }
+        return last;
+    }
+
+    /**
+     * Draws a reward through the alias table.
+     *
+     * @return The drawn reward.
+     */
+    @Benchmark
+    public CaseReward aliasSampler() {
+        return aliasSampler.sample(random);
+    }
+
+    /**
+     * Draws a reward through the Fenwick tree.
+     *
+     * @return The drawn reward.
+     */
+    @Benchmark
+    public CaseReward fenwickSampler() {
+        return fenwickSampler.sample(random);
+    }
+
+    /**
+     * Depletes and refills a limited reward through {@code O(log n)} Fenwick tree updates.
+     */
+    @Benchmark
+    public void fenwickDepletion() {
+        BenchmarkReward reward = (BenchmarkReward) limitedRewards.get(random.nextInt(rewardCount));
+        reward.setRemainingDraws(0);
+        limitedSampler.update(reward);
+        reward.setRemainingDraws(Integer.MAX_VALUE);
+        limitedSampler.update(reward);
+    }
+}
@@ -17,8 +17,30 @@
  */
 package net.cubexa.caseapi;
 
+import net.cubexa.caseapi.announce.AnnouncementAggregator;
+import net.cubexa.caseapi.concurrent.ExecutorProvider;
+import net.cubexa.caseapi.events.CaseEventBus;
 import net.cubexa.caseapi.events.CaseOpeningEventListener;
+import net.cubexa.caseapi.expiry.PermissionExpiryScheduler;
+import net.cubexa.caseapi.journal.OpeningLog;
+import net.cubexa.caseapi.leaderboard.Leaderboards;
+import net.cubexa.caseapi.models.Case;
+import net.cubexa.caseapi.models.CaseCatalog;
+import net.cubexa.caseapi.models.CaseReward;
+import net.cubexa.caseapi.rewards.RewardApplicationPipeline;
+import net.cubexa.caseapi.sampling.RandomSource;
+import net.cubexa.caseapi.statistics.OpenRateTracker;
+import net.cubexa.caseapi.statistics.OpeningLatencyMonitor;
+import net.cubexa.caseapi.statistics.OpenStatistics;
+import net.cubexa.caseapi.storage.PlayerState;
+import net.cubexa.caseapi.storage.PlayerStateCache;
+import net.cubexa.caseapi.storage.WriteBehindBuffer;
+import net.cubexa.caseapi.storage.WriteBehindSettings;
+import net.cubexa.caseapi.stream.OpeningRecordPublisher;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 
@@ -28,6 +50,9 @@ import java.util.concurrent.CompletableFuture;
  * It allows interaction with cases, jewelry, and global statistics, as well as registering
  * event listeners for case-related actions.
  * <p>
+ * All returned {@link CompletableFuture}s run their storage calls on and are completed by the
+ * executors of the configured {@link ExecutorProvider}, see {@link #setExecutorProvider(ExecutorProvider)}.
+ * <p>
  * This interface should <b>not</b> be implemented manually. It is implemented internally
  * by the CaseOpening system.
  */
@@ -38,9 +63,30 @@ public interface CaseAPI {
      *
      * @param caseId The ID of the case to check.
      * @return A {@link CompletableFuture} that completes with {@code true} if the case exists; {@code false} otherwise.
+     * @see CaseCatalog#contains(String)
      */
     CompletableFuture<Boolean> caseExists(String caseId);
 
+    /**
+     * Returns the current snapshot of all loaded cases.
+     * <p>
+     * The snapshot is immutable and replaced atomically on every reload or case edit, so it can be
+     * read from any thread without blocking. Derived data can be cached keyed by {@link CaseCatalog#getVersion()}.
+     *
+     * @return The current {@link CaseCatalog}.
+     */
+    CaseCatalog getCaseCatalog();
+
+    /**
+     * Returns the case with the given ID from the current {@link CaseCatalog}.
+     *
+     * @param caseId The ID of the case.
+     * @return The {@link Case}, or {@code null} if no such case exists.
+     */
+    default Case getCase(String caseId) {
+        return getCaseCatalog().getCase(caseId);
+    }
+
     /**
      * Opens a case for the specified player and removes one instance of it from their cases.
      *
@@ -59,6 +105,28 @@ public interface CaseAPI {
      */
     CompletableFuture<Boolean> openCaseWithoutRemove(UUID playerUuid, String caseId);
 
+    /**
+     * Opens the given amount of cases for the specified player in a single operation.
+     * <p>
+     * The whole batch is handled as one opening: a single {@link net.cubexa.caseapi.events.CaseOpenEvent}
+     * carrying the amount is fired, the player's cases are decremented once by {@code amount}
+     * (if {@code remove} is {@code true}), all rewards are selected in one pass and persisted
+     * with a single write. Instead of one {@link net.cubexa.caseapi.events.CaseOpenCompleteEvent}
+     * per case, one {@link net.cubexa.caseapi.events.CaseBulkOpenCompleteEvent} is fired.
+     * <p>
+     * If the opening is cancelled or the player does not own enough cases, nothing is opened,
+     * a single {@link net.cubexa.caseapi.events.FailedCaseOpenEvent} is fired and the future
+     * completes with an empty list.
+     *
+     * @param playerUuid The UUID of the player opening the cases.
+     * @param caseId The ID of the case to open.
+     * @param amount The number of cases to open. Must be at least {@code 1}.
+     * @param remove {@code true} to remove the opened cases from the player's cases; {@code false} otherwise.
+     * @return A {@link CompletableFuture} that completes with all {@link CaseReward}s won, in drawing order.
+     * @throws IllegalArgumentException If {@code amount} is less than {@code 1}.
+     */
+    CompletableFuture<List<CaseReward>> openCases(UUID playerUuid, String caseId, int amount, boolean remove);
+
     /**
      * Opens a case preview for the specified player.
      *
@@ -69,6 +137,9 @@ public interface CaseAPI {
 
     /**
      * Sets the amount of jewelry a player owns.
+     * <p>
+     * If write-behind is enabled, the change is merged into the pending changes of the balance
+     * instead of being written immediately.
      *
      * @param playerUuid The UUID of the player whose jewelry amount will be set.
      * @param amount The new amount of jewelry.
@@ -77,6 +148,9 @@ public interface CaseAPI {
 
     /**
      * Adds the specified amount of jewelry to the given player.
+     * <p>
+     * If write-behind is enabled, the change is merged into the pending changes of the balance
+     * instead of being written immediately.
      *
      * @param playerUuid The UUID of the player receiving the jewelry.
      * @param amount The amount of jewelry to add.
@@ -85,6 +159,9 @@ public interface CaseAPI {
 
     /**
      * Removes the specified amount of jewelry from the given player.
+     * <p>
+     * If write-behind is enabled, the change is merged into the pending changes of the balance
+     * instead of being written immediately.
      *
      * @param playerUuid The UUID of the player whose jewelry will be removed.
      * @param amount The amount of jewelry to remove.
@@ -93,6 +170,9 @@ public interface CaseAPI {
 
     /**
      * Sets the amount of a specific case a player owns.
+     * <p>
+     * If write-behind is enabled, the change is merged into the pending changes of the balance
+     * instead of being written immediately.
      *
      * @param playerUuid The UUID of the player whose cases will be set.
      * @param caseId The ID of the case to set.
@@ -102,6 +182,9 @@ public interface CaseAPI {
 
     /**
      * Adds the specified number of cases to the given player.
+     * <p>
+     * If write-behind is enabled, the change is merged into the pending changes of the balance
+     * instead of being written immediately.
      *
      * @param playerUuid The UUID of the player receiving the cases.
      * @param caseId The ID of the case to add.
@@ -111,6 +194,9 @@ public interface CaseAPI {
 
     /**
      * Removes the specified number of cases from the given player.
+     * <p>
+     * If write-behind is enabled, the change is merged into the pending changes of the balance
+     * instead of being written immediately.
      *
      * @param playerUuid The UUID of the player losing the cases.
      * @param caseId The ID of the case to remove.
@@ -118,8 +204,40 @@ public interface CaseAPI {
      */
     void removeCases(UUID playerUuid, String caseId, int amount);
 
+    /**
+     * Enables the write-behind mode for jewelry and case balance mutations.
+     * <p>
+     * While enabled, mutations are merged per player and case in memory and written in batches
+     * according to the given settings. Pending changes are flushed on shutdown.
+     * If write-behind is already enabled, the settings are replaced after flushing pending changes.
+     *
+     * @param settings The {@link WriteBehindSettings} to use.
+     */
+    void enableWriteBehind(WriteBehindSettings settings);
+
+    /**
+     * Disables the write-behind mode and flushes all pending changes.
+     * <p>
+     * Afterwards, every mutation is written immediately again.
+     *
+     * @return A {@link CompletableFuture} that completes once all pending changes are persisted.
+     */
+    CompletableFuture<Void> disableWriteBehind();
+
+    /**
+     * Returns the active {@link WriteBehindBuffer}, which allows flushing on demand and exposes
+     * counters for pending and merged writes.
+     *
+     * @return The active {@link WriteBehindBuffer}, or {@code null} if write-behind is disabled.
+     */
+    WriteBehindBuffer getWriteBehindBuffer();
+
     /**
      * Retrieves the current amount of jewelry owned by the specified player.
+     * <p>
+     * The value is served from the {@link PlayerStateCache}. On a hit, the returned future is already completed.
+     * <p>
+     * Changes that are still pending in the write-behind buffer are included.
      *
      * @param playerUuid The UUID of the player whose jewelry amount is requested.
      * @return A {@link CompletableFuture} that completes with the player's current jewelry amount.
@@ -128,6 +246,10 @@ public interface CaseAPI {
 
     /**
      * Retrieves the number of a specific case a player owns.
+     * <p>
+     * The value is served from the {@link PlayerStateCache}. On a hit, the returned future is already completed.
+     * <p>
+     * Changes that are still pending in the write-behind buffer are included.
      *
      * @param playerUuid The UUID of the player whose case count is retrieved.
      * @param caseId The ID of the case.
@@ -135,8 +257,64 @@ public interface CaseAPI {
      */
     CompletableFuture<Integer> getPlayerCases(UUID playerUuid, String caseId);
 
+    /**
+     * Retrieves the current amount of jewelry owned by each of the specified players.
+     * <p>
+     * All players are served by a single batched query. Changes that are still pending in the
+     * write-behind buffer are included.
+     *
+     * @param playerUuids The UUIDs of the players whose jewelry amounts are requested.
+     * @return A {@link CompletableFuture} that completes with the jewelry amount per player UUID.
+     */
+    CompletableFuture<Map<UUID, Integer>> getJewelry(Collection<UUID> playerUuids);
+
+    /**
+     * Retrieves the number of a specific case owned by each of the specified players.
+     * <p>
+     * All players are served by a single batched query. Changes that are still pending in the
+     * write-behind buffer are included.
+     *
+     * @param playerUuids The UUIDs of the players whose case counts are retrieved.
+     * @param caseId The ID of the case.
+     * @return A {@link CompletableFuture} that completes with the number of cases per player UUID.
+     */
+    CompletableFuture<Map<UUID, Integer>> getPlayerCases(Collection<UUID> playerUuids, String caseId);
+
+    /**
+     * Retrieves the number of every case the specified player owns.
+     * <p>
+     * All cases are served by a single query. Changes that are still pending in the
+     * write-behind buffer are included.
+     *
+     * @param playerUuid The UUID of the player whose cases are retrieved.
+     * @return A {@link CompletableFuture} that completes with the number of cases per case ID.
+     */
+    CompletableFuture<Map<String, Integer>> getAllPlayerCases(UUID playerUuid);
+
+    /**
+     * Retrieves the cached state of the specified player, containing jewelry, owned cases and opened cases.
+     * <p>
+     * On a hit in the {@link PlayerStateCache}, the returned future is already completed.
+     *
+     * @param playerUuid The UUID of the player whose state is retrieved.
+     * @return A {@link CompletableFuture} that completes with the {@link PlayerState} of the player.
+     */
+    CompletableFuture<PlayerState> getPlayerState(UUID playerUuid);
+
+    /**
+     * Returns the {@link PlayerStateCache} serving all player getters.
+     * <p>
+     * Players are preloaded on join, evicted on quit or by size and expiry, and updated by every
+     * mutation method. The cache exposes hit, miss and eviction statistics for sizing.
+     *
+     * @return The {@link PlayerStateCache}.
+     */
+    PlayerStateCache getPlayerStateCache();
+
     /**
      * Retrieves the total number of cases opened globally.
+     * <p>
+     * The value is served from the in-memory {@link OpenStatistics}, so the returned future is already completed.
      *
      * @return A {@link CompletableFuture} that completes with the total number of opened cases.
      */
@@ -144,17 +322,52 @@ public interface CaseAPI {
 
     /**
      * Retrieves the total number of cases opened by the specified player.
+     * <p>
+     * The value is served from the {@link PlayerStateCache}. On a hit, the returned future is already completed.
      *
      * @param playerUuid The UUID of the player whose case opening count is retrieved.
      * @return A {@link CompletableFuture} that completes with the total number of cases opened by the player.
      */
     CompletableFuture<Integer> getTotalCasesOpenedByPlayer(UUID playerUuid);
 
+    /**
+     * Returns the in-memory opening statistics.
+     * <p>
+     * Besides the global and per-player counts, the statistics contain the number of openings per case
+     * and how often each reward dropped. They are updated on every opening and flushed to the storage periodically.
+     *
+     * @return The {@link OpenStatistics}.
+     */
+    OpenStatistics getOpenStatistics();
+
+    /**
+     * Returns the live open rates per case and per reward type.
+     * <p>
+     * The rates are measured over sliding windows of one second, one minute and one hour
+     * and updated on every completed opening.
+     *
+     * @return The {@link OpenRateTracker}.
+     */
+    OpenRateTracker getOpenRates();
+
+    /**
+     * Returns the latency histograms of each phase of the case opening pipeline.
+     * <p>
+     * The histograms cover the event listeners, reward selection, reward application,
+     * inventory update and persistence, as well as the whole opening.
+     *
+     * @return The {@link OpeningLatencyMonitor}.
+     */
+    OpeningLatencyMonitor getOpeningLatencies();
+
     /**
      * Registers a {@link CaseOpeningEventListener} to receive CaseAPI events.
      * <p>
      * If multiple listeners are registered, the last one added has the highest priority
      * and is called last, allowing it to react after others.
+     * <p>
+     * The listener receives every event. To subscribe to single event types, with priorities
+     * or asynchronous delivery, use {@link #getEventBus()} instead.
      *
      * @param listener The {@link CaseOpeningEventListener} to register.
      */
@@ -166,4 +379,116 @@ public interface CaseAPI {
      * @param listener The {@link CaseOpeningEventListener} to unregister.
      */
     void unregisterListener(CaseOpeningEventListener listener);
-}
\ No newline at end of file
+
+    /**
+     * Returns the {@link CaseEventBus} all CaseAPI events are dispatched through.
+     * <p>
+     * The bus allows subscribing handlers to single event types with an {@link net.cubexa.caseapi.events.EventPriority},
+     * and asynchronous delivery for non-cancelable events. It also profiles the time spent in each listener
+     * and can enforce a time budget on them.
+     *
+     * @return The {@link CaseEventBus}.
+     */
+    CaseEventBus getEventBus();
+
+    /**
+     * Returns the {@link PermissionExpiryScheduler} that revokes temporary permissions granted by
+     * {@link net.cubexa.caseapi.models.CaseRewardType#PERMISSION} rewards.
+     * <p>
+     * Permissions granted by case openings are scheduled automatically. Permissions granted by other
+     * means can be scheduled on the returned scheduler as well.
+     *
+     * @return The {@link PermissionExpiryScheduler}.
+     */
+    PermissionExpiryScheduler getPermissionExpiryScheduler();
+
+    /**
+     * Returns the {@link RewardApplicationPipeline} that applies the rewards of case openings.
+     * <p>
+     * Rewards are applied once per tick, grouped by {@link net.cubexa.caseapi.models.CaseRewardType}, so
+     * bulk openings result in one deposit per player instead of one per reward. The pipeline also
+     * exposes metrics on how well the backends keep up.
+     *
+     * @return The {@link RewardApplicationPipeline}.
+     */
+    RewardApplicationPipeline getRewardPipeline();
+
+    /**
+     * Returns the {@link AnnouncementAggregator} that broadcasts reward announcements.
+     * <p>
+     * Announcements of the same reward are merged within a short window and all broadcasts are
+     * rate-limited. The {@link net.cubexa.caseapi.events.CaseRewardAnnounceEvent} is fired for every
+     * broadcast, including merged ones.
+     *
+     * @return The {@link AnnouncementAggregator}.
+     */
+    AnnouncementAggregator getAnnouncements();
+
+    /**
+     * Sets the {@link ExecutorProvider} supplying the executors behind all returned {@link CompletableFuture}s,
+     * including {@link CaseReward#apply(UUID, Case)}.
+     * <p>
+     * Calls already in progress finish on the previous executors. The previous provider is not closed.
+     * On Java 21 or newer, {@link ExecutorProvider#virtualThreads()} avoids pool starvation from blocking
+     * storage calls.
+     *
+     * @param executorProvider The new {@link ExecutorProvider}.
+     */
+    void setExecutorProvider(ExecutorProvider executorProvider);
+
+    /**
+     * Returns the {@link ExecutorProvider} currently in use.
+     *
+     * @return The {@link ExecutorProvider}.
+     */
+    ExecutorProvider getExecutorProvider();
+
+    /**
+     * Returns the {@link OpeningRecordPublisher} streaming a record of every drawn reward, including
+     * those of bulk openings.
+     * <p>
+     * Unlike listeners, subscribers receive records only on demand and with a bounded buffer, so slow
+     * consumers such as analytics or webhooks cannot grow memory or slow down case openings.
+     *
+     * @return The {@link OpeningRecordPublisher}.
+     */
+    OpeningRecordPublisher getOpeningStream();
+
+    /**
+     * Sets the {@link RandomSource} used for all reward draws.
+     * <p>
+     * The default is {@link RandomSource#threadLocal()}. With {@link RandomSource#seeded(long)}, the seed of
+     * every opening is reported by {@link net.cubexa.caseapi.events.CaseOpenCompleteEvent#getDrawSeed()},
+     * so disputed draws of cases without limited rewards can be replayed.
+     *
+     * @param randomSource The new {@link RandomSource}.
+     */
+    void setRandomSource(RandomSource randomSource);
+
+    /**
+     * Returns the {@link RandomSource} used for all reward draws.
+     *
+     * @return The {@link RandomSource}.
+     */
+    RandomSource getRandomSource();
+
+    /**
+     * Returns the {@link OpeningLog} recording every drawn reward, including those of bulk openings.
+     * <p>
+     * The log replaces a database write per opening; {@link OpeningLog#rebuildTotals()} restores the
+     * values of {@link #getTotalCasesOpened()}, the per-player totals and the drops per reward at startup.
+     *
+     * @return The {@link OpeningLog}.
+     */
+    OpeningLog getOpeningLog();
+
+    /**
+     * Returns the {@link Leaderboards} of total openings, openings per case and jewelry.
+     * <p>
+     * The leaderboards are updated on every opening and jewelry mutation, so ranks and top entries are
+     * read from memory instead of sorting all players in the storage.
+     *
+     * @return The {@link Leaderboards}.
+     */
+    Leaderboards getLeaderboards();
+}
@@ -0,0 +1,374 @@
+/*
+ * CaseAPI, a Minecraft plugin API by Cubexa Studio
+ * Copyright (C) 2025 Cubexa Studio <https://cubexa.net>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.cubexa.caseapi.announce;
+
+import net.cubexa.caseapi.events.CaseEventBus;
+import net.cubexa.caseapi.events.CaseRewardAnnounceEvent;
+import net.cubexa.caseapi.models.Case;
+import net.cubexa.caseapi.models.CaseReward;
+import net.cubexa.caseapi.text.MessageTemplate;
+import net.cubexa.caseapi.text.Placeholder;
+import net.cubexa.caseapi.text.PlaceholderValues;
+import net.cubexa.caseapi.utils.TokenBucket;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Coalesces and rate-limits reward broadcast announcements.
+ * <p>
+ * The first announcement of a reward is broadcast immediately. Further announcements of the same
+ * reward within the configured window are merged and broadcast as one summary at the end of the
+ * window. All broadcasts share a token bucket; announcements over its limit are dropped or carried
+ * over into the next summary, depending on the {@link AnnouncementOverflowPolicy}.
+ * <p>
+ * A {@link CaseRewardAnnounceEvent} is fired for every broadcast, including summaries, so listeners
+ * can still adjust or cancel the message.
+ */
+public class AnnouncementAggregator {
+
+    private final AnnouncementSettings settings;
+    private final CaseEventBus eventBus;
+    private final Broadcaster broadcaster;
+    private final ScheduledExecutorService executor;
+    private final TokenBucket tokens;
+    private final Map<Key, Group> groups = new LinkedHashMap<>();
+    private final LongAdder broadcasts = new LongAdder();
+    private final LongAdder mergedAnnouncements = new LongAdder();
+    private final LongAdder droppedAnnouncements = new LongAdder();
+    private final LongAdder cancelledAnnouncements = new LongAdder();
+    private ScheduledFuture<?> scheduledWindow;
+
+    /**
+     * Constructs a new {@code AnnouncementAggregator}.
+     *
+     * @param settings The settings controlling the merge window and rate limit.
+     * @param eventBus The {@link CaseEventBus} the {@link CaseRewardAnnounceEvent}s are dispatched through.
+     * @param broadcaster The {@link Broadcaster} sending the messages.
+     * @param executor The executor used to close merge windows.
+     */
+    public AnnouncementAggregator(AnnouncementSettings settings, CaseEventBus eventBus, Broadcaster broadcaster,
+                                  ScheduledExecutorService executor) {
+        this.settings = settings;
+        this.eventBus = eventBus;
+        this.broadcaster = broadcaster;
+        this.executor = executor;
+        this.tokens = new TokenBucket(settings.getBurst(), settings.getBroadcastsPerSecond());
+    }
+
+    /**
+     * Starts closing merge windows in the configured interval.
+     * <p>
+     * Calling this method on an already started aggregator has no effect.
+     */
+    public synchronized void start() {
+        if (scheduledWindow != null) return;
+        long interval = settings.getWindow().toMillis();
+        scheduledWindow = executor.scheduleWithFixedDelay(this::flush, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Stops closing merge windows and broadcasts the pending summaries, as far as the rate limit allows.
+     * <p>
+     * This should be called on shutdown.
+     */
+    public void close() {
+        synchronized (this) {
+            if (scheduledWindow != null) {
+                scheduledWindow.cancel(false);
+                scheduledWindow = null;
+            }
+        }
+        flush();
+    }
+
+    /**
+     * Announces a reward won by a player.
+     *
+     * @param playerUuid The UUID of the player who won the reward.
+     * @param crate The {@link Case} from which the reward was obtained.
+     * @param reward The {@link CaseReward} to announce.
+     * @param message The announcement message of the reward.
+     * @param values The values of the placeholders in the message and the summary. They are copied if the
+     *               announcement is merged, so the instance can be reused afterwards.
+     */
+    public void announce(UUID playerUuid, Case crate, CaseReward reward, MessageTemplate message, PlaceholderValues values) {
+        Key key = new Key(crate.getCaseId(), reward.getIndex());
+        Announcement announcement = new Announcement(playerUuid, crate, reward, message, values);
+        synchronized (groups) {
+            Group group = groups.get(key);
+            if (group != null) {
+                group.add(announcement.detach(), 1, System.nanoTime());
+                return;
+            }
+            groups.put(key, new Group());
+        }
+        if (!tokens.tryAcquire()) {
+            overflow(key, announcement.detach(), 1, System.nanoTime());
+            return;
+        }
+        broadcast(announcement, 1, 0);
+    }
+
+    /**
+     * Closes the current merge window, broadcasting one summary per reward with merged announcements.
+     */
+    public void flush() {
+        List<Map.Entry<Key, Group>> due = new ArrayList<>();
+        synchronized (groups) {
+            Iterator<Map.Entry<Key, Group>> iterator = groups.entrySet().iterator();
+            while (iterator.hasNext()) {
+                Map.Entry<Key, Group> entry = iterator.next();
+                if (entry.getValue().count == 0) {
+                    iterator.remove();
+                } else {
+                    Group pending = new Group();
+                    pending.add(entry.getValue().first, entry.getValue().count, entry.getValue().since);
+                    entry.getValue().reset();
+                    due.add(Map.entry(entry.getKey(), pending));
+                }
+            }
+        }
+        long now = System.nanoTime();
+        for (Map.Entry<Key, Group> entry : due) {
+            Group pending = entry.getValue();
+            if (!tokens.tryAcquire()) {
+                overflow(entry.getKey(), pending.first, pending.count, pending.since);
+                continue;
+            }
+            broadcast(pending.first, pending.count, now - pending.since);
+        }
+    }
+
+    /**
+     * Returns the number of messages that were broadcast.
+     *
+     * @return The number of broadcasts.
+     */
+    public long getBroadcasts() {
+        return broadcasts.sum();
+    }
+
+    /**
+     * Returns the number of announcements that were merged into summaries instead of being broadcast on their own.
+     *
+     * @return The number of merged announcements.
+     */
+    public long getMergedAnnouncements() {
+        return mergedAnnouncements.sum();
+    }
+
+    /**
+     * Returns the number of announcements that were dropped because of the rate limit.
+     *
+     * @return The number of dropped announcements.
+     */
+    public long getDroppedAnnouncements() {
+        return droppedAnnouncements.sum();
+    }
+
+    /**
+     * Returns the number of announcements whose {@link CaseRewardAnnounceEvent} was cancelled or left without
+     * a message.
+     *
+     * @return The number of cancelled announcements.
+     */
+    public long getCancelledAnnouncements() {
+        return cancelledAnnouncements.sum();
+    }
+
+    /**
+     * Handles announcements that exceeded the rate limit according to the overflow policy.
+     *
+     * @param key The reward of the announcements.
+     * @param first The first of the announcements.
+     * @param count The number of announcements.
+     * @param since The time of the first announcement in nanoseconds.
+     */
+    private void overflow(Key key, Announcement first, int count, long since) {
+        if (settings.getOverflowPolicy() == AnnouncementOverflowPolicy.DROP) {
+            droppedAnnouncements.add(count);
+            return;
+        }
+        synchronized (groups) {
+            groups.computeIfAbsent(key, ignored -> new Group()).add(first, count, since);
+        }
+    }
+
+    /**
+     * Fires the event for an announcement or summary and broadcasts it unless the event was cancelled or
+     * its message was removed.
+     *
+     * @param first The first of the announcements.
+     * @param count The number of announcements.
+     * @param spanNanos The time between the first announcement and now in nanoseconds.
+     */
+    private void broadcast(Announcement first, int count, long spanNanos) {
+        MessageTemplate template = first.message;
+        PlaceholderValues values = first.values;
+        if (count > 1) {
+            template = settings.getSummaryTemplate();
+            values = values.copy()
+                    .set(Placeholder.AMOUNT, Integer.toString(count))
+                    .set(Placeholder.DURATION, formatSpan(Math.max(spanNanos, settings.getWindow().toNanos())));
+            mergedAnnouncements.add(count - 1);
+        }
+        CaseRewardAnnounceEvent event = eventBus.dispatch(
+                new CaseRewardAnnounceEvent(first.playerUuid, first.crate, first.reward, template, count));
+        MessageTemplate message = event.getAnnounceTemplate();
+        if (event.isCancelled() || message == null) {
+            cancelledAnnouncements.add(count);
+            return;
+        }
+        broadcaster.broadcast(message.render(values));
+        broadcasts.increment();
+    }
+
+    /**
+     * Formats a time span in its largest whole unit, for example {@code 5s} or {@code 2m}.
+     *
+     * @param nanos The time span in nanoseconds.
+     * @return The formatted time span.
+     */
+    private static String formatSpan(long nanos) {
+        long seconds = Math.max(1, Math.round(nanos / 1_000_000_000d));
+        if (seconds < 60) return seconds + "s";
+        if (seconds < 3600) return seconds / 60 + "m";
+        return seconds / 3600 + "h";
+    }
+
+    /**
+     * Identifies a reward by its case and index.
+     */
+    private static final class Key {
+
+        private final String caseId;
+        private final int rewardIndex;
+
+        /**
+         * Constructs a new key.
+         *
+         * @param caseId The ID of the case.
+         * @param rewardIndex The index of the reward within the case.
+         */
+        private Key(String caseId, int rewardIndex) {
+            this.caseId = caseId;
+            this.rewardIndex = rewardIndex;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key)) return false;
+            Key key = (Key) o;
+            return rewardIndex == key.rewardIndex && caseId.equals(key.caseId);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public int hashCode() {
+            return Objects.hash(caseId, rewardIndex);
+        }
+    }
+
+    /**
+     * A single announcement.
+     */
+    private static final class Announcement {
+
+        private final UUID playerUuid;
+        private final Case crate;
+        private final CaseReward reward;
+        private final MessageTemplate message;
+        private final PlaceholderValues values;
+
+        /**
+         * Constructs a new announcement.
+         *
+         * @param playerUuid The UUID of the player who won the reward.
+         * @param crate The case from which the reward was obtained.
+         * @param reward The announced reward.
+         * @param message The announcement message.
+         * @param values The values of the placeholders.
+         */
+        private Announcement(UUID playerUuid, Case crate, CaseReward reward, MessageTemplate message, PlaceholderValues values) {
+            this.playerUuid = playerUuid;
+            this.crate = crate;
+            this.reward = reward;
+            this.message = message;
+            this.values = values;
+        }
+
+        /**
+         * Returns a copy of this announcement that does not share the placeholder values with the caller.
+         *
+         * @return The detached announcement.
+         */
+        private Announcement detach() {
+            return new Announcement(playerUuid, crate, reward, message, values.copy());
+        }
+    }
+
+    /**
+     * The announcements of one reward that are pending in the current window.
+     */
+    private static final class Group {
+
+        private Announcement first;
+        private int count;
+        private long since;
+
+        /**
+         * Adds announcements to the group.
+         *
+         * @param announcement The first of the added announcements.
+         * @param amount The number of added announcements.
+         * @param time The time of the first added announcement in nanoseconds.
+         */
+        private void add(Announcement announcement, int amount, long time) {
+            if (count == 0 || time - since < 0) {
+                first = announcement;
+                since = time;
+            }
+            count += amount;
+        }
+
+        /**
+         * Removes all pending announcements while keeping the group, so the reward is still considered
+         * active in the next window.
+         */
+        private void reset() {
+            first = null;
+            count = 0;
+        }
+    }
+}
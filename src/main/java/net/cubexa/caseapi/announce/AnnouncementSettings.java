@@ -0,0 +1,121 @@
+/*
+ * CaseAPI, a Minecraft plugin API by Cubexa Studio
+ * Copyright (C) 2025 Cubexa Studio <https://cubexa.net>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.cubexa.caseapi.announce;
+
+import net.cubexa.caseapi.text.MessageTemplate;
+
+import java.time.Duration;
+
+/**
+ * Configuration of the {@link AnnouncementAggregator}.
+ */
+public class AnnouncementSettings {
+
+    private final Duration window;
+    private final int burst;
+    private final double broadcastsPerSecond;
+    private final MessageTemplate summaryTemplate;
+    private final AnnouncementOverflowPolicy overflowPolicy;
+
+    /**
+     * Constructs new {@code AnnouncementSettings}.
+     *
+     * @param window The window in which announcements of the same reward are merged.
+     * @param burst The number of broadcasts allowed in a short burst.
+     * @param broadcastsPerSecond The long-term number of broadcasts allowed per second.
+     * @param summaryTemplate The message of merged announcements. {@code {amount}} is replaced with the
+     *                        number of merged announcements, that is wins rather than distinct players, and
+     *                        {@code {duration}} with the time they span.
+     * @param overflowPolicy How announcements over the rate limit are handled.
+     * @throws IllegalArgumentException If the window or rate is not positive, {@code burst} is less than {@code 1},
+     *                                  or the template or policy is {@code null}.
+     */
+    public AnnouncementSettings(Duration window, int burst, double broadcastsPerSecond,
+                                MessageTemplate summaryTemplate, AnnouncementOverflowPolicy overflowPolicy) {
+        if (window == null || window.isZero() || window.isNegative()) {
+            throw new IllegalArgumentException("window must be positive");
+        }
+        if (burst < 1) throw new IllegalArgumentException("burst must be at least 1");
+        if (!(broadcastsPerSecond > 0)) throw new IllegalArgumentException("broadcastsPerSecond must be positive");
+        if (summaryTemplate == null) throw new IllegalArgumentException("summaryTemplate must not be null");
+        if (overflowPolicy == null) throw new IllegalArgumentException("overflowPolicy must not be null");
+        this.window = window;
+        this.burst = burst;
+        this.broadcastsPerSecond = broadcastsPerSecond;
+        this.summaryTemplate = summaryTemplate;
+        this.overflowPolicy = overflowPolicy;
+    }
+
+    /**
+     * Returns the default settings, merging announcements within {@code 5} seconds and allowing bursts of
+     * {@code 5} broadcasts with one broadcast per second in the long term. Announcements over the limit
+     * are summarized.
+     *
+     * @return The default {@code AnnouncementSettings}.
+     */
+    public static AnnouncementSettings defaults() {
+        return new AnnouncementSettings(Duration.ofSeconds(5), 5, 1,
+                MessageTemplate.compile("&e{reward} &ewas won {amount} times in the last {duration}!"),
+                AnnouncementOverflowPolicy.SUMMARIZE);
+    }
+
+    /**
+     * Gets the window in which announcements of the same reward are merged.
+     *
+     * @return The merge window.
+     */
+    public Duration getWindow() {
+        return window;
+    }
+
+    /**
+     * Gets the number of broadcasts allowed in a short burst.
+     *
+     * @return The burst size.
+     */
+    public int getBurst() {
+        return burst;
+    }
+
+    /**
+     * Gets the long-term number of broadcasts allowed per second.
+     *
+     * @return The broadcast rate.
+     */
+    public double getBroadcastsPerSecond() {
+        return broadcastsPerSecond;
+    }
+
+    /**
+     * Gets the message of merged announcements.
+     *
+     * @return The summary template.
+     */
+    public MessageTemplate getSummaryTemplate() {
+        return summaryTemplate;
+    }
+
+    /**
+     * Gets how announcements over the rate limit are handled.
+     *
+     * @return The {@link AnnouncementOverflowPolicy}.
+     */
+    public AnnouncementOverflowPolicy getOverflowPolicy() {
+        return overflowPolicy;
+    }
+}
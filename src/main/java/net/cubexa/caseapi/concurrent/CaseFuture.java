@@ -0,0 +1,57 @@
+/*
+ * CaseAPI, a Minecraft plugin API by Cubexa Studio
+ * Copyright (C) 2025 Cubexa Studio <https://cubexa.net>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.cubexa.caseapi.concurrent;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * {@link CompletableFuture} whose dependent stages default to the completion executor of an
+ * {@link ExecutorProvider} instead of the common pool.
+ *
+ * @param <T> The type of the result.
+ */
+final class CaseFuture<T> extends CompletableFuture<T> {
+
+    private final Executor defaultExecutor;
+
+    /**
+     * Constructs a new, incomplete {@code CaseFuture}.
+     *
+     * @param defaultExecutor The executor used by asynchronous stages without an explicit executor.
+     */
+    CaseFuture(Executor defaultExecutor) {
+        this.defaultExecutor = defaultExecutor;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Executor defaultExecutor() {
+        return defaultExecutor;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <U> CompletableFuture<U> newIncompleteFuture() {
+        return new CaseFuture<>(defaultExecutor);
+    }
+}
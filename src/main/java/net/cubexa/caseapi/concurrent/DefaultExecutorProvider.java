@@ -0,0 +1,68 @@
+/*
+ * CaseAPI, a Minecraft plugin API by Cubexa Studio
+ * Copyright (C) 2025 Cubexa Studio <https://cubexa.net>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.cubexa.caseapi.concurrent;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Default {@link ExecutorProvider} holding a pair of executors.
+ */
+final class DefaultExecutorProvider implements ExecutorProvider {
+
+    private final Executor storageExecutor;
+    private final Executor completionExecutor;
+    private final ExecutorService owned;
+
+    /**
+     * Constructs a new {@code DefaultExecutorProvider}.
+     *
+     * @param storageExecutor The executor running blocking storage calls.
+     * @param completionExecutor The executor completing returned futures.
+     * @param owned The executor shut down on {@link #close()}, or {@code null} if no executor is owned.
+     */
+    DefaultExecutorProvider(Executor storageExecutor, Executor completionExecutor, ExecutorService owned) {
+        this.storageExecutor = storageExecutor;
+        this.completionExecutor = completionExecutor;
+        this.owned = owned;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Executor getStorageExecutor() {
+        return storageExecutor;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Executor getCompletionExecutor() {
+        return completionExecutor;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void close() {
+        if (owned != null) owned.shutdown();
+    }
+}
@@ -0,0 +1,172 @@
+/*
+ * CaseAPI, a Minecraft plugin API by Cubexa Studio
+ * Copyright (C) 2025 Cubexa Studio <https://cubexa.net>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.cubexa.caseapi.concurrent;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Supplies the executors behind all {@link CompletableFuture}s returned by the CaseAPI.
+ * <p>
+ * Blocking storage calls run on the {@linkplain #getStorageExecutor() storage executor}. The returned
+ * futures are completed on the {@linkplain #getCompletionExecutor() completion executor}, which also
+ * runs dependent stages added with the {@code *Async} methods without an explicit executor.
+ * <p>
+ * On Java 21 or newer, {@link #virtualThreads()} runs every storage call on its own virtual thread, so
+ * blocking calls cannot starve a pool during peak load.
+ */
+public interface ExecutorProvider {
+
+    /**
+     * Returns the executor running blocking storage calls.
+     *
+     * @return The storage executor.
+     */
+    Executor getStorageExecutor();
+
+    /**
+     * Returns the executor completing returned futures and running their default asynchronous stages.
+     *
+     * @return The completion executor.
+     */
+    Executor getCompletionExecutor();
+
+    /**
+     * Releases the executors owned by this provider. Executors supplied by the caller are not shut down.
+     * <p>
+     * The default implementation does nothing.
+     */
+    default void close() {
+    }
+
+    /**
+     * Runs a blocking task on the storage executor.
+     *
+     * @param task The task to run.
+     * @param <T> The type of the result.
+     * @return A {@link CompletableFuture} that is completed with the result of the task on the completion
+     *         executor, or completes exceptionally if the task failed or was rejected.
+     */
+    default <T> CompletableFuture<T> supplyAsync(Supplier<T> task) {
+        Executor completionExecutor = getCompletionExecutor();
+        CaseFuture<T> future = new CaseFuture<>(completionExecutor);
+        try {
+            getStorageExecutor().execute(() -> {
+                T result;
+                try {
+                    result = task.get();
+                } catch (Throwable throwable) {
+                    complete(completionExecutor, future, null, throwable);
+                    return;
+                }
+                complete(completionExecutor, future, result, null);
+            });
+        } catch (RejectedExecutionException e) {
+            future.completeExceptionally(e);
+        }
+        return future;
+    }
+
+    /**
+     * Creates a provider using the given executors.
+     *
+     * @param storageExecutor The executor running blocking storage calls.
+     * @param completionExecutor The executor completing returned futures.
+     * @return The new {@code ExecutorProvider}.
+     */
+    static ExecutorProvider of(Executor storageExecutor, Executor completionExecutor) {
+        return new DefaultExecutorProvider(storageExecutor, completionExecutor, null);
+    }
+
+    /**
+     * Creates a provider using one executor for storage calls and completions.
+     *
+     * @param executor The executor to use.
+     * @return The new {@code ExecutorProvider}.
+     */
+    static ExecutorProvider of(Executor executor) {
+        return of(executor, executor);
+    }
+
+    /**
+     * Creates a provider backed by a fixed pool of daemon threads. Futures are completed directly on the
+     * pool threads. The pool is shut down by {@link #close()}.
+     *
+     * @param threads The number of threads.
+     * @return The new {@code ExecutorProvider}.
+     * @throws IllegalArgumentException If {@code threads} is less than {@code 1}.
+     */
+    static ExecutorProvider fixedThreadPool(int threads) {
+        if (threads < 1) throw new IllegalArgumentException("threads must be at least 1");
+        AtomicInteger counter = new AtomicInteger();
+        ExecutorService pool = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "CaseAPI-Storage-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        return new DefaultExecutorProvider(pool, Runnable::run, pool);
+    }
+
+    /**
+     * Creates a provider that runs every storage call on a new virtual thread. Futures are completed
+     * directly on the virtual threads. The executor is shut down by {@link #close()}.
+     *
+     * @return The new {@code ExecutorProvider}.
+     * @throws UnsupportedOperationException If the runtime does not support virtual threads.
+     * @see #isVirtualThreadsSupported()
+     */
+    static ExecutorProvider virtualThreads() {
+        ExecutorService executor = VirtualThreads.newThreadPerTaskExecutor("CaseAPI-Storage-");
+        return new DefaultExecutorProvider(executor, Runnable::run, executor);
+    }
+
+    /**
+     * Checks whether the runtime supports virtual threads, which requires Java 21 or newer.
+     *
+     * @return {@code true} if {@link #virtualThreads()} is available; {@code false} otherwise.
+     */
+    static boolean isVirtualThreadsSupported() {
+        return VirtualThreads.isSupported();
+    }
+
+    /**
+     * Completes a future on the given executor, or directly if the executor rejects the completion.
+     *
+     * @param executor The executor to complete the future on.
+     * @param future The future to complete.
+     * @param result The result, if the task succeeded.
+     * @param throwable The failure, or {@code null} if the task succeeded.
+     * @param <T> The type of the result.
+     */
+    private static <T> void complete(Executor executor, CompletableFuture<T> future, T result, Throwable throwable) {
+        Runnable completion = () -> {
+            if (throwable != null) future.completeExceptionally(throwable);
+            else future.complete(result);
+        };
+        try {
+            executor.execute(completion);
+        } catch (RejectedExecutionException e) {
+            completion.run();
+        }
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * CaseAPI, a Minecraft plugin API by Cubexa Studio
+ * Copyright (C) 2025 Cubexa Studio <https://cubexa.net>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.cubexa.caseapi.concurrent;
+
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Access to virtual threads, which are not available on this Java version.
+ * <p>
+ * The multi-release jar contains a replacement of this class for Java 21 and newer.
+ */
+final class VirtualThreads {
+
+    /**
+     * Prevents instantiation.
+     */
+    private VirtualThreads() {
+    }
+
+    /**
+     * Checks whether virtual threads are supported.
+     *
+     * @return Always {@code false} on this Java version.
+     */
+    static boolean isSupported() {
+        return false;
+    }
+
+    /**
+     * Creates an executor starting a new virtual thread for each task.
+     *
+     * @param namePrefix The prefix of the thread names.
+     * @return Never returns normally on this Java version.
+     * @throws UnsupportedOperationException Always, as virtual threads require Java 21 or newer.
+     */
+    static ExecutorService newThreadPerTaskExecutor(String namePrefix) {
+        throw new UnsupportedOperationException("Virtual threads require Java 21 or newer");
+    }
+}
@@ -0,0 +1,41 @@
+/*
+ * CaseAPI, a Minecraft plugin API by Cubexa Studio
+ * Copyright (C) 2025 Cubexa Studio <https://cubexa.net>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.cubexa.caseapi.events;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Decides asynchronously whether a {@link CaseOpenEvent} should be cancelled.
+ * <p>
+ * Use this for checks that need I/O, such as cooldown or anti-abuse lookups in a database,
+ * instead of blocking inside {@link CaseOpeningEventListener#onCaseOpen(CaseOpenEvent)}.
+ */
+@FunctionalInterface
+public interface AsyncCaseOpenHandler {
+
+    /**
+     * Checks whether the opening should be cancelled.
+     * <p>
+     * The event must not be modified by this method. The verdict is applied once all
+     * asynchronous handlers have answered or the time budget has run out.
+     *
+     * @param event The {@link CaseOpenEvent} instance.
+     * @return A {@link CompletableFuture} that completes with {@code true} to cancel the opening; {@code false} to allow it.
+     */
+    CompletableFuture<Boolean> shouldCancel(CaseOpenEvent event);
+}
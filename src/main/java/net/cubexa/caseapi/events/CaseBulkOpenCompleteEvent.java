@@ -0,0 +1,115 @@
+/*
+ * CaseAPI, a Minecraft plugin API by Cubexa Studio
+ * Copyright (C) 2025 Cubexa Studio <https://cubexa.net>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.cubexa.caseapi.events;
+
+import net.cubexa.caseapi.models.CaseReward;
+import net.cubexa.caseapi.models.Case;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Event fired once when a player completes opening several cases in a single bulk opening.
+ * <p>
+ * It replaces the per-case {@link CaseOpenCompleteEvent} for bulk openings, so listeners
+ * are only called once per batch.
+ * <p>
+ * The event is not cancelable and cannot be prevented once triggered.
+ */
+public class CaseBulkOpenCompleteEvent {
+
+    private final UUID playerUuid;
+    private final Case crate;
+    private final List<CaseReward> caseRewards;
+    private final Long drawSeed;
+
+    /**
+     * Constructs a new {@code CaseBulkOpenCompleteEvent}.
+     *
+     * @param playerUuid The UUID of the player who opened the cases.
+     * @param crate The {@link Case} that was opened.
+     * @param caseRewards The {@link CaseReward}s obtained from the cases, in drawing order.
+     */
+    public CaseBulkOpenCompleteEvent(UUID playerUuid, Case crate, List<CaseReward> caseRewards) {
+        this(playerUuid, crate, caseRewards, null);
+    }
+
+    /**
+     * Constructs a new {@code CaseBulkOpenCompleteEvent} for a replayable bulk opening.
+     *
+     * @param playerUuid The UUID of the player who opened the cases.
+     * @param crate The {@link Case} that was opened.
+     * @param caseRewards The {@link CaseReward}s obtained from the cases, in drawing order.
+     * @param drawSeed The seed of the draws, or {@code null} if the opening cannot be replayed.
+     */
+    public CaseBulkOpenCompleteEvent(UUID playerUuid, Case crate, List<CaseReward> caseRewards, Long drawSeed) {
+        this.playerUuid = playerUuid;
+        this.crate = crate;
+        this.caseRewards = List.copyOf(caseRewards);
+        this.drawSeed = drawSeed;
+    }
+
+    /**
+     * Gets the UUID of the player who opened the cases.
+     *
+     * @return The player's UUID.
+     */
+    public UUID getPlayerUuid() {
+        return playerUuid;
+    }
+
+    /**
+     * Gets the {@link Case} that was opened.
+     *
+     * @return The {@link Case} instance.
+     */
+    public Case getCase() {
+        return crate;
+    }
+
+    /**
+     * Gets the number of cases that were opened.
+     *
+     * @return The number of opened cases.
+     */
+    public int getAmount() {
+        return caseRewards.size();
+    }
+
+    /**
+     * Gets all {@link CaseReward}s obtained from the opened cases.
+     *
+     * @return An unmodifiable list of the rewards, in drawing order.
+     */
+    public List<CaseReward> getCaseRewards() {
+        return caseRewards;
+    }
+
+    /**
+     * Gets the seed all rewards of the bulk opening were drawn with, in drawing order.
+     * <p>
+     * Only available if a seeded {@link net.cubexa.caseapi.sampling.RandomSource} is configured.
+     * Passing the seed to {@link net.cubexa.caseapi.sampling.RandomSource#replay(long)} reproduces the draws
+     * if the case has no limited rewards.
+     *
+     * @return The seed of the draws, or {@code null} if not applicable.
+     */
+    public Long getDrawSeed() {
+        return drawSeed;
+    }
+}
@@ -0,0 +1,667 @@
+/*
+ * CaseAPI, a Minecraft plugin API by Cubexa Studio
+ * Copyright (C) 2025 Cubexa Studio <https://cubexa.net>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.cubexa.caseapi.events;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Typed event bus delivering each CaseAPI event only to the handlers subscribed to its type.
+ * <p>
+ * Handlers are kept per event class in copy-on-write arrays ordered by {@link EventPriority}.
+ * Dispatching therefore neither locks nor allocates for synchronous handlers, and event types
+ * without subscribers are skipped with a single map lookup. Handlers are matched by the exact
+ * event class.
+ * <p>
+ * Handlers of non-cancelable events, namely {@link CaseOpenCompleteEvent}, {@link CaseBulkOpenCompleteEvent}
+ * and {@link FailedCaseOpenEvent}, can opt in to asynchronous delivery on a bounded executor, so they
+ * do not add latency to the opening. Deliveries rejected by a full executor are dropped and counted.
+ * <p>
+ * {@link CaseOpenEvent}s can additionally be cancelled by {@link AsyncCaseOpenHandler}s through
+ * {@link #dispatchAsync(CaseOpenEvent)}. These handlers run concurrently within a configurable time
+ * budget, and a handler that does not answer in time is replaced by a default verdict.
+ * <p>
+ * When profiling is enabled, the time spent in every handler is measured per event type and can be
+ * read with {@link #getListenerProfiles()}. Synchronous handlers that repeatedly exceed the configured
+ * budget are reported and, for non-cancelable events, can be moved to asynchronous delivery.
+ */
+public class CaseEventBus {
+
+    private static final Logger LOGGER = Logger.getLogger(CaseEventBus.class.getName());
+    private static final Set<Class<?>> ASYNC_CAPABLE = Set.of(
+            CaseOpenCompleteEvent.class,
+            CaseBulkOpenCompleteEvent.class,
+            FailedCaseOpenEvent.class
+    );
+    private static final Registration[] EMPTY = new Registration[0];
+    private static final AsyncCaseOpenHandler[] NO_ASYNC_HANDLERS = new AsyncCaseOpenHandler[0];
+    private static final ScheduledExecutorService DEFAULT_TIMEOUT_EXECUTOR = createTimeoutExecutor();
+
+    private final Map<Class<?>, Registration[]> registrations = new ConcurrentHashMap<>();
+    private final Executor asyncExecutor;
+    private final ScheduledExecutorService timeoutExecutor;
+    private final Executor completionExecutor;
+    private final LongAdder rejectedAsyncDeliveries = new LongAdder();
+    private final LongAdder timedOutCancelChecks = new LongAdder();
+    private volatile AsyncCaseOpenHandler[] asyncOpenHandlers = NO_ASYNC_HANDLERS;
+    private volatile Duration asyncCancelTimeout = Duration.ofMillis(250);
+    private volatile boolean cancelOnTimeout = false;
+    private volatile boolean profiling = false;
+    private volatile long budgetNanos = Long.MAX_VALUE;
+    private volatile int maxConsecutiveViolations = 5;
+    private volatile boolean demoteSlowListeners = false;
+
+    /**
+     * Constructs a new {@code CaseEventBus} that completes {@link #dispatchAsync(CaseOpenEvent)} on the
+     * common pool.
+     *
+     * @param asyncExecutor The executor used for asynchronous handlers. Should be bounded,
+     *                      see {@link #createAsyncExecutor(int, int)}.
+     */
+    public CaseEventBus(Executor asyncExecutor) {
+        this(asyncExecutor, DEFAULT_TIMEOUT_EXECUTOR, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Constructs a new {@code CaseEventBus}.
+     *
+     * @param asyncExecutor The executor used for asynchronous handlers. Should be bounded,
+     *                      see {@link #createAsyncExecutor(int, int)}.
+     * @param timeoutExecutor The executor arming the time budget of asynchronous cancel checks. Timers are
+     *                        cancelled once all handlers answered, so the executor should remove cancelled
+     *                        tasks, see {@link ScheduledThreadPoolExecutor#setRemoveOnCancelPolicy(boolean)}.
+     * @param completionExecutor The executor completing the futures returned by {@link #dispatchAsync(CaseOpenEvent)},
+     *                           usually {@link net.cubexa.caseapi.concurrent.ExecutorProvider#getCompletionExecutor()}.
+     */
+    public CaseEventBus(Executor asyncExecutor, ScheduledExecutorService timeoutExecutor, Executor completionExecutor) {
+        this.asyncExecutor = asyncExecutor;
+        this.timeoutExecutor = timeoutExecutor;
+        this.completionExecutor = completionExecutor;
+    }
+
+    /**
+     * Creates a bounded executor for asynchronous handlers.
+     * <p>
+     * The executor uses daemon threads and rejects tasks once its queue is full.
+     *
+     * @param threads The number of worker threads.
+     * @param queueCapacity The maximum number of queued deliveries.
+     * @return The new executor.
+     */
+    public static ThreadPoolExecutor createAsyncExecutor(int threads, int queueCapacity) {
+        AtomicInteger counter = new AtomicInteger();
+        return new ThreadPoolExecutor(threads, threads, 30, TimeUnit.SECONDS, new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+            Thread thread = new Thread(runnable, "CaseAPI-Event-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }, new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * Creates the shared timer for the time budget of asynchronous cancel checks.
+     *
+     * @return The timer, using a single daemon thread and removing cancelled timeouts.
+     */
+    private static ScheduledExecutorService createTimeoutExecutor() {
+        ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "CaseAPI-Event-Timeout");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.setRemoveOnCancelPolicy(true);
+        return executor;
+    }
+
+    /**
+     * Checks whether asynchronous delivery is allowed for the given event type.
+     *
+     * @param eventType The event class.
+     * @return {@code true} if the event is not cancelable and can be delivered asynchronously; {@code false} otherwise.
+     */
+    public static boolean isAsyncCapable(Class<?> eventType) {
+        return ASYNC_CAPABLE.contains(eventType);
+    }
+
+    /**
+     * Subscribes a synchronous handler with {@link EventPriority#NORMAL} priority.
+     *
+     * @param eventType The event class to subscribe to.
+     * @param handler The handler to call.
+     * @param <E> The type of event.
+     * @return The {@link CaseEventSubscription} of the handler.
+     */
+    public <E> CaseEventSubscription subscribe(Class<E> eventType, CaseEventHandler<? super E> handler) {
+        return subscribe(eventType, EventPriority.NORMAL, handler);
+    }
+
+    /**
+     * Subscribes a synchronous handler with the given priority.
+     *
+     * @param eventType The event class to subscribe to.
+     * @param priority The priority of the handler.
+     * @param handler The handler to call.
+     * @param <E> The type of event.
+     * @return The {@link CaseEventSubscription} of the handler.
+     */
+    public <E> CaseEventSubscription subscribe(Class<E> eventType, EventPriority priority, CaseEventHandler<? super E> handler) {
+        return add(eventType, priority, handler, false, null);
+    }
+
+    /**
+     * Subscribes a handler that is called asynchronously on the bounded executor.
+     * <p>
+     * Asynchronous handlers run after the event was dispatched, so they cannot influence it.
+     *
+     * @param eventType The event class to subscribe to.
+     * @param handler The handler to call.
+     * @param <E> The type of event.
+     * @return The {@link CaseEventSubscription} of the handler.
+     * @throws IllegalArgumentException If the event type is cancelable.
+     */
+    public <E> CaseEventSubscription subscribeAsync(Class<E> eventType, CaseEventHandler<? super E> handler) {
+        if (!isAsyncCapable(eventType)) {
+            throw new IllegalArgumentException(eventType.getSimpleName() + " cannot be delivered asynchronously");
+        }
+        return add(eventType, EventPriority.MONITOR, handler, true, null);
+    }
+
+    /**
+     * Adds a handler that decides asynchronously whether a {@link CaseOpenEvent} is cancelled.
+     *
+     * @param handler The handler to add.
+     */
+    public synchronized void registerAsyncOpenHandler(AsyncCaseOpenHandler handler) {
+        AsyncCaseOpenHandler[] updated = Arrays.copyOf(asyncOpenHandlers, asyncOpenHandlers.length + 1);
+        updated[updated.length - 1] = handler;
+        asyncOpenHandlers = updated;
+    }
+
+    /**
+     * Removes a previously added {@link AsyncCaseOpenHandler}.
+     *
+     * @param handler The handler to remove.
+     */
+    public synchronized void unregisterAsyncOpenHandler(AsyncCaseOpenHandler handler) {
+        asyncOpenHandlers = Arrays.stream(asyncOpenHandlers)
+                .filter(candidate -> candidate != handler)
+                .toArray(AsyncCaseOpenHandler[]::new);
+    }
+
+    /**
+     * Sets the time budget of the {@link AsyncCaseOpenHandler}s and the verdict used when it runs out.
+     * <p>
+     * The default is {@code 250} milliseconds, allowing the opening on timeout.
+     *
+     * @param timeout The time each opening waits for all asynchronous handlers at most.
+     * @param cancelOnTimeout {@code true} to cancel openings whose handlers did not answer in time; {@code false} to allow them.
+     * @throws IllegalArgumentException If the timeout is not positive.
+     */
+    public void setAsyncCancelTimeout(Duration timeout, boolean cancelOnTimeout) {
+        if (timeout == null || timeout.isZero() || timeout.isNegative()) {
+            throw new IllegalArgumentException("timeout must be positive");
+        }
+        this.asyncCancelTimeout = timeout;
+        this.cancelOnTimeout = cancelOnTimeout;
+    }
+
+    /**
+     * Enables or disables measuring the time spent in each handler.
+     * <p>
+     * Profiling costs two {@link System#nanoTime()} calls per handler call. It is enabled
+     * automatically when a budget is set.
+     *
+     * @param enabled {@code true} to measure handlers; {@code false} otherwise.
+     */
+    public void setProfilingEnabled(boolean enabled) {
+        this.profiling = enabled;
+    }
+
+    /**
+     * Sets the time budget for synchronous handlers.
+     * <p>
+     * A handler exceeding the budget for the given number of consecutive calls is logged as slow.
+     * If {@code demoteToAsync} is {@code true} and the event is not cancelable, the handler is
+     * additionally moved to asynchronous delivery, so it no longer delays openings.
+     *
+     * @param budget The maximum time a single handler call should take.
+     * @param maxConsecutiveViolations The number of consecutive calls over budget before acting.
+     * @param demoteToAsync {@code true} to move slow handlers of non-cancelable events to asynchronous delivery.
+     * @throws IllegalArgumentException If the budget is not positive or {@code maxConsecutiveViolations} is less than {@code 1}.
+     */
+    public void setListenerBudget(Duration budget, int maxConsecutiveViolations, boolean demoteToAsync) {
+        if (budget == null || budget.isZero() || budget.isNegative()) throw new IllegalArgumentException("budget must be positive");
+        if (maxConsecutiveViolations < 1) throw new IllegalArgumentException("maxConsecutiveViolations must be at least 1");
+        this.budgetNanos = budget.toNanos();
+        this.maxConsecutiveViolations = maxConsecutiveViolations;
+        this.demoteSlowListeners = demoteToAsync;
+        this.profiling = true;
+    }
+
+    /**
+     * Returns the time spent in every subscribed handler, per event type.
+     *
+     * @return A report with one {@link ListenerProfile} per handler and event type.
+     */
+    public List<ListenerProfile> getListenerProfiles() {
+        List<ListenerProfile> profiles = new ArrayList<>();
+        for (Registration[] current : registrations.values()) {
+            for (Registration registration : current) {
+                profiles.add(registration.profile());
+            }
+        }
+        return profiles;
+    }
+
+    /**
+     * Subscribes all callbacks of a {@link CaseOpeningEventListener} with {@link EventPriority#NORMAL} priority.
+     *
+     * @param listener The listener to register.
+     */
+    public void registerListener(CaseOpeningEventListener listener) {
+        add(CaseOpenEvent.class, EventPriority.NORMAL, listener::onCaseOpen, false, listener);
+        add(CaseOpenCompleteEvent.class, EventPriority.NORMAL, listener::onCaseOpenComplete, false, listener);
+        add(CaseBulkOpenCompleteEvent.class, EventPriority.NORMAL, listener::onCaseBulkOpenComplete, false, listener);
+        add(FailedCaseOpenEvent.class, EventPriority.NORMAL, listener::onFailedCaseOpen, false, listener);
+        add(CaseRewardAnnounceEvent.class, EventPriority.NORMAL, listener::onCaseRewardAnnounce, false, listener);
+    }
+
+    /**
+     * Removes all callbacks of a previously registered {@link CaseOpeningEventListener}.
+     *
+     * @param listener The listener to unregister.
+     */
+    public synchronized void unregisterListener(CaseOpeningEventListener listener) {
+        for (Class<?> eventType : registrations.keySet()) {
+            Registration[] current = registrations.getOrDefault(eventType, EMPTY);
+            Registration[] remaining = Arrays.stream(current)
+                    .filter(registration -> registration.owner != listener)
+                    .toArray(Registration[]::new);
+            replace(eventType, remaining);
+        }
+    }
+
+    /**
+     * Checks whether at least one handler is subscribed to the given event type.
+     * <p>
+     * Callers can use this to skip creating events nobody listens to.
+     *
+     * @param eventType The event class.
+     * @return {@code true} if there are subscribers; {@code false} otherwise.
+     */
+    public boolean hasSubscribers(Class<?> eventType) {
+        return registrations.containsKey(eventType);
+    }
+
+    /**
+     * Dispatches an event to all handlers subscribed to its class, ordered by priority.
+     * <p>
+     * Exceptions thrown by handlers are logged and do not prevent later handlers from being called.
+     *
+     * @param event The event to dispatch.
+     * @param <E> The type of event.
+     * @return The dispatched event, to check e.g. its cancellation state.
+     */
+    public <E> E dispatch(E event) {
+        Registration[] current = registrations.get(event.getClass());
+        if (current == null) return event;
+        for (Registration registration : current) {
+            if (registration.async) {
+                deliverAsync(registration, event);
+            } else {
+                deliver(registration, event);
+            }
+        }
+        return event;
+    }
+
+    /**
+     * Dispatches a {@link CaseOpenEvent} to the synchronous handlers and then to all {@link AsyncCaseOpenHandler}s.
+     * <p>
+     * The asynchronous handlers are only consulted if no synchronous handler cancelled the event.
+     * They run concurrently, and the event is cancelled as soon as one of them votes to cancel.
+     * Handlers that fail or do not answer within the time budget count as the default verdict.
+     * The timer of the time budget is cancelled as soon as the verdict is final.
+     *
+     * @param event The event to dispatch.
+     * @return A {@link CompletableFuture} that completes with the event on the completion executor once its
+     *         cancellation state is final.
+     */
+    public CompletableFuture<CaseOpenEvent> dispatchAsync(CaseOpenEvent event) {
+        dispatch(event);
+        AsyncCaseOpenHandler[] handlers = asyncOpenHandlers;
+        if (event.isCancelled() || handlers.length == 0) return CompletableFuture.completedFuture(event);
+
+        CompletableFuture<CaseOpenEvent> result = new CompletableFuture<>();
+        AtomicInteger remaining = new AtomicInteger(handlers.length);
+        AtomicBoolean decided = new AtomicBoolean();
+        AtomicReference<ScheduledFuture<?>> timeout = new AtomicReference<>();
+        boolean defaultVerdict = cancelOnTimeout;
+        long timeoutNanos = asyncCancelTimeout.toNanos();
+
+        for (AsyncCaseOpenHandler handler : handlers) {
+            CompletableFuture<Boolean> verdict;
+            try {
+                verdict = handler.shouldCancel(event).copy();
+            } catch (RuntimeException e) {
+                verdict = CompletableFuture.failedFuture(e);
+            }
+            verdict.exceptionally(throwable -> {
+                LOGGER.log(Level.SEVERE, "Error while checking CaseOpenEvent asynchronously", throwable);
+                return defaultVerdict;
+            }).thenAccept(cancel -> {
+                if (Boolean.TRUE.equals(cancel)) {
+                    decide(event, true, false, decided, timeout, result);
+                } else if (remaining.decrementAndGet() == 0) {
+                    decide(event, false, false, decided, timeout, result);
+                }
+            });
+        }
+
+        if (decided.get()) return result;
+        ScheduledFuture<?> timer = timeoutExecutor.schedule(
+                () -> decide(event, defaultVerdict, true, decided, timeout, result), timeoutNanos, TimeUnit.NANOSECONDS);
+        timeout.set(timer);
+        if (decided.get()) timer.cancel(false);
+        return result;
+    }
+
+    /**
+     * Applies the final verdict of the asynchronous handlers exactly once.
+     *
+     * @param event The event to decide on.
+     * @param cancel {@code true} to cancel the event.
+     * @param timedOut {@code true} if the verdict is the default verdict after the time budget ran out.
+     * @param decided Guards against applying more than one verdict.
+     * @param timeout The timer of the time budget, or an empty reference if it is not armed yet.
+     * @param result The future to complete with the event.
+     */
+    private void decide(CaseOpenEvent event, boolean cancel, boolean timedOut, AtomicBoolean decided,
+                        AtomicReference<ScheduledFuture<?>> timeout, CompletableFuture<CaseOpenEvent> result) {
+        if (!decided.compareAndSet(false, true)) return;
+        ScheduledFuture<?> timer = timeout.get();
+        if (timer != null && !timedOut) timer.cancel(false);
+        if (timedOut) timedOutCancelChecks.increment();
+        if (cancel) event.setCancelled(true);
+        try {
+            completionExecutor.execute(() -> result.complete(event));
+        } catch (RejectedExecutionException e) {
+            result.complete(event);
+        }
+    }
+
+    /**
+     * Returns the number of asynchronous cancel checks that ran out of their time budget.
+     *
+     * @return The number of timed out checks.
+     */
+    public long getTimedOutCancelChecks() {
+        return timedOutCancelChecks.sum();
+    }
+
+    /**
+     * Returns the number of asynchronous deliveries dropped because the executor was saturated.
+     *
+     * @return The number of rejected deliveries.
+     */
+    public long getRejectedAsyncDeliveries() {
+        return rejectedAsyncDeliveries.sum();
+    }
+
+    /**
+     * Calls a handler, measuring it if profiling is enabled.
+     *
+     * @param registration The registration of the handler.
+     * @param event The event to deliver.
+     */
+    private void deliver(Registration registration, Object event) {
+        if (!profiling) {
+            invoke(registration, event);
+            return;
+        }
+        long start = System.nanoTime();
+        invoke(registration, event);
+        long elapsed = System.nanoTime() - start;
+        registration.measure(elapsed);
+        if (!registration.async) checkBudget(registration, elapsed);
+    }
+
+    /**
+     * Calls a handler and logs exceptions thrown by it.
+     *
+     * @param registration The registration of the handler.
+     * @param event The event to deliver.
+     */
+    private void invoke(Registration registration, Object event) {
+        try {
+            registration.handler.handle(event);
+        } catch (RuntimeException e) {
+            LOGGER.log(Level.SEVERE, "Error while handling " + event.getClass().getSimpleName() + " in " + registration.name(), e);
+        }
+    }
+
+    /**
+     * Tracks budget violations of a synchronous handler and acts once it is consistently too slow.
+     *
+     * @param registration The registration of the handler.
+     * @param elapsed The duration of the last call in nanoseconds.
+     */
+    private void checkBudget(Registration registration, long elapsed) {
+        if (elapsed <= budgetNanos) {
+            registration.consecutiveViolations.set(0);
+            return;
+        }
+        registration.budgetViolations.increment();
+        if (registration.consecutiveViolations.incrementAndGet() != maxConsecutiveViolations) return;
+
+        boolean demote = demoteSlowListeners && isAsyncCapable(registration.eventType);
+        LOGGER.warning(registration.name() + " exceeded its budget of " + TimeUnit.NANOSECONDS.toMillis(budgetNanos)
+                + "ms for " + registration.eventType.getSimpleName() + " " + maxConsecutiveViolations + " times in a row"
+                + (demote ? " and is now called asynchronously" : ""));
+        if (demote) registration.async = true;
+    }
+
+    /**
+     * Hands a delivery over to the asynchronous executor.
+     *
+     * @param registration The registration of the handler.
+     * @param event The event to deliver.
+     */
+    private void deliverAsync(Registration registration, Object event) {
+        try {
+            asyncExecutor.execute(() -> deliver(registration, event));
+        } catch (RejectedExecutionException e) {
+            rejectedAsyncDeliveries.increment();
+        }
+    }
+
+    /**
+     * Inserts a new registration after all registrations with the same or a lower priority.
+     *
+     * @param eventType The event class.
+     * @param priority The priority of the handler.
+     * @param handler The handler to call.
+     * @param async {@code true} to call the handler asynchronously.
+     * @param owner The listener owning the handler, or {@code null}.
+     * @param <E> The type of event.
+     * @return The new registration.
+     */
+    @SuppressWarnings("unchecked")
+    private synchronized <E> Registration add(Class<E> eventType, EventPriority priority, CaseEventHandler<? super E> handler,
+                                              boolean async, CaseOpeningEventListener owner) {
+        Registration registration = new Registration(this, eventType, (CaseEventHandler<Object>) handler,
+                priority, async, owner);
+        Registration[] current = registrations.getOrDefault(eventType, EMPTY);
+        int position = 0;
+        while (position < current.length && current[position].priority.compareTo(priority) <= 0) {
+            position++;
+        }
+        Registration[] updated = new Registration[current.length + 1];
+        System.arraycopy(current, 0, updated, 0, position);
+        updated[position] = registration;
+        System.arraycopy(current, position, updated, position + 1, current.length - position);
+        registrations.put(eventType, updated);
+        return registration;
+    }
+
+    /**
+     * Removes a single registration.
+     *
+     * @param registration The registration to remove.
+     */
+    private synchronized void remove(Registration registration) {
+        Registration[] current = registrations.get(registration.eventType);
+        if (current == null) return;
+        Registration[] remaining = Arrays.stream(current)
+                .filter(candidate -> candidate != registration)
+                .toArray(Registration[]::new);
+        replace(registration.eventType, remaining);
+    }
+
+    /**
+     * Stores the new registrations of an event type, removing the type entirely if none are left.
+     *
+     * @param eventType The event class.
+     * @param updated The new registrations.
+     */
+    private void replace(Class<?> eventType, Registration[] updated) {
+        if (updated.length == 0) {
+            registrations.remove(eventType);
+        } else {
+            registrations.put(eventType, updated);
+        }
+    }
+
+    /**
+     * A handler subscribed to a single event type.
+     */
+    private static final class Registration implements CaseEventSubscription {
+
+        private final CaseEventBus bus;
+        private final Class<?> eventType;
+        private final CaseEventHandler<Object> handler;
+        private final EventPriority priority;
+        private final CaseOpeningEventListener owner;
+        private final LongAdder invocations = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final AtomicLong maxNanos = new AtomicLong();
+        private final LongAdder budgetViolations = new LongAdder();
+        private final AtomicInteger consecutiveViolations = new AtomicInteger();
+        private volatile boolean async;
+
+        /**
+         * Constructs a new registration.
+         *
+         * @param bus The bus the handler is subscribed to.
+         * @param eventType The event class.
+         * @param handler The handler to call.
+         * @param priority The priority of the handler.
+         * @param async {@code true} to call the handler asynchronously.
+         * @param owner The listener owning the handler, or {@code null}.
+         */
+        private Registration(CaseEventBus bus, Class<?> eventType, CaseEventHandler<Object> handler, EventPriority priority,
+                             boolean async, CaseOpeningEventListener owner) {
+            this.bus = bus;
+            this.eventType = eventType;
+            this.handler = handler;
+            this.priority = priority;
+            this.async = async;
+            this.owner = owner;
+        }
+
+        @Override
+        public Class<?> getEventType() {
+            return eventType;
+        }
+
+        @Override
+        public EventPriority getPriority() {
+            return priority;
+        }
+
+        @Override
+        public boolean isAsync() {
+            return async;
+        }
+
+        @Override
+        public void unsubscribe() {
+            bus.remove(this);
+        }
+
+        /**
+         * Returns the name used for the handler in reports and logs.
+         *
+         * @return The class name of the owning listener, or of the handler itself.
+         */
+        private String name() {
+            return owner != null ? owner.getClass().getName() : handler.getClass().getName();
+        }
+
+        /**
+         * Adds the duration of a call to the profile of the handler.
+         *
+         * @param elapsed The duration in nanoseconds.
+         */
+        private void measure(long elapsed) {
+            invocations.increment();
+            totalNanos.add(elapsed);
+            long currentMax = maxNanos.get();
+            while (elapsed > currentMax && !maxNanos.compareAndSet(currentMax, elapsed)) {
+                currentMax = maxNanos.get();
+            }
+        }
+
+        /**
+         * Returns a snapshot of the profile of the handler.
+         *
+         * @return The {@link ListenerProfile}.
+         */
+        private ListenerProfile profile() {
+            return new ListenerProfile(name(), eventType, invocations.sum(), totalNanos.sum(), maxNanos.get(),
+                    budgetViolations.sum(), async);
+        }
+
+        @Override
+        public String toString() {
+            return "CaseEventSubscription{eventType=" + eventType.getSimpleName() + ", priority=" + priority
+                    + ", async=" + async + "}";
+        }
+    }
+}
@@ -0,0 +1,34 @@
+/*
+ * CaseAPI, a Minecraft plugin API by Cubexa Studio
+ * Copyright (C) 2025 Cubexa Studio <https://cubexa.net>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.cubexa.caseapi.events;
+
+/**
+ * Handles a single type of CaseAPI event.
+ *
+ * @param <E> The type of event handled.
+ */
+@FunctionalInterface
+public interface CaseEventHandler<E> {
+
+    /**
+     * Called when an event of the subscribed type is dispatched.
+     *
+     * @param event The event instance.
+     */
+    void handle(E event);
+}
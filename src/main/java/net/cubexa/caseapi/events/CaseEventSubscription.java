@@ -0,0 +1,50 @@
+/*
+ * CaseAPI, a Minecraft plugin API by Cubexa Studio
+ * Copyright (C) 2025 Cubexa Studio <https://cubexa.net>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.cubexa.caseapi.events;
+
+/**
+ * Represents a handler subscribed to a {@link CaseEventBus}.
+ */
+public interface CaseEventSubscription {
+
+    /**
+     * Returns the type of event the handler is subscribed to.
+     *
+     * @return The event class.
+     */
+    Class<?> getEventType();
+
+    /**
+     * Returns the priority the handler is called with.
+     *
+     * @return The {@link EventPriority} of the handler.
+     */
+    EventPriority getPriority();
+
+    /**
+     * Checks whether the handler is called asynchronously.
+     *
+     * @return {@code true} if the handler is called on the asynchronous executor; {@code false} otherwise.
+     */
+    boolean isAsync();
+
+    /**
+     * Removes the handler from the bus. Calling this method more than once has no effect.
+     */
+    void unsubscribe();
+}
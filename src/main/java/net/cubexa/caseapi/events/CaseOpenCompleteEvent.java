@@ -32,6 +32,7 @@ public class CaseOpenCompleteEvent {
     private final UUID playerUuid;
     private final Case crate;
     private final CaseReward caseReward;
+    private final Long drawSeed;
 
     /**
      * Constructs a new CaseOpenCompleteEvent.
@@ -41,9 +42,22 @@ public class CaseOpenCompleteEvent {
      * @param caseReward The {@link CaseReward} obtained from the case.
      */
     public CaseOpenCompleteEvent(UUID playerUuid, Case crate, CaseReward caseReward) {
+        this(playerUuid, crate, caseReward, null);
+    }
+
+    /**
+     * Constructs a new CaseOpenCompleteEvent for a replayable opening.
+     *
+     * @param playerUuid The UUID of the player who opened the case.
+     * @param crate The {@link Case} that was opened.
+     * @param caseReward The {@link CaseReward} obtained from the case.
+     * @param drawSeed The seed of the draw, or {@code null} if the opening cannot be replayed.
+     */
+    public CaseOpenCompleteEvent(UUID playerUuid, Case crate, CaseReward caseReward, Long drawSeed) {
         this.playerUuid = playerUuid;
         this.crate = crate;
         this.caseReward = caseReward;
+        this.drawSeed = drawSeed;
     }
 
     /**
@@ -72,4 +86,17 @@ public class CaseOpenCompleteEvent {
     public CaseReward getCaseReward() {
         return caseReward;
     }
-}
\ No newline at end of file
+
+    /**
+     * Gets the seed the reward was drawn with.
+     * <p>
+     * Only available if a seeded {@link net.cubexa.caseapi.sampling.RandomSource} is configured.
+     * Passing the seed to {@link net.cubexa.caseapi.sampling.RandomSource#replay(long)} reproduces the draw
+     * if the case has no limited rewards.
+     *
+     * @return The seed of the draw, or {@code null} if not applicable.
+     */
+    public Long getDrawSeed() {
+        return drawSeed;
+    }
+}
@@ -25,22 +25,38 @@ import java.util.UUID;
  * Event fired when a player attempts to open a case.
  * <p>
  * The event is cancelable. Cancelling the event will prevent the case from being opened.
+ * <p>
+ * Besides synchronous listeners, {@link AsyncCaseOpenHandler}s registered on the {@link CaseEventBus}
+ * can cancel the event asynchronously within a configurable time budget.
  */
 public class CaseOpenEvent {
 
     private final UUID playerUuid;
     private final Case crate;
+    private final int amount;
     private boolean isCancelled;
 
     /**
-     * Constructs a new {@code CaseOpenEvent}.
+     * Constructs a new {@code CaseOpenEvent} for a single case.
      *
      * @param playerUuid The UUID of the player who attempts to open the case.
      * @param crate The {@link Case} the player is trying to open.
      */
     public CaseOpenEvent(UUID playerUuid, Case crate) {
+        this(playerUuid, crate, 1);
+    }
+
+    /**
+     * Constructs a new {@code CaseOpenEvent} for one or more cases opened at once.
+     *
+     * @param playerUuid The UUID of the player who attempts to open the cases.
+     * @param crate The {@link Case} the player is trying to open.
+     * @param amount The number of cases opened in this attempt.
+     */
+    public CaseOpenEvent(UUID playerUuid, Case crate, int amount) {
         this.playerUuid = playerUuid;
         this.crate = crate;
+        this.amount = amount;
         this.isCancelled = false;
     }
 
@@ -62,6 +78,17 @@ public class CaseOpenEvent {
         return crate;
     }
 
+    /**
+     * Gets the number of cases the player is trying to open at once.
+     * <p>
+     * This is {@code 1} for regular openings and greater for bulk openings.
+     *
+     * @return The number of cases.
+     */
+    public int getAmount() {
+        return amount;
+    }
+
     /**
      * Checks if the event has been cancelled.
      *
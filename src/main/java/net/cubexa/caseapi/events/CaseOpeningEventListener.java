@@ -38,6 +38,18 @@ public interface CaseOpeningEventListener {
      */
     void onCaseOpenComplete(CaseOpenCompleteEvent event);
 
+    /**
+     * Called once when a player has successfully completed a bulk opening of several cases.
+     * This event is not cancelable.
+     * <p>
+     * Bulk openings do not call {@link #onCaseOpenComplete(CaseOpenCompleteEvent)} per case.
+     * The default implementation does nothing.
+     *
+     * @param event The {@link CaseBulkOpenCompleteEvent} instance.
+     */
+    default void onCaseBulkOpenComplete(CaseBulkOpenCompleteEvent event) {
+    }
+
     /**
      * Called when a player fails to open a case.
      * This event is not cancelable.
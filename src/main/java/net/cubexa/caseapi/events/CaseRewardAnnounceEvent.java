@@ -19,6 +19,7 @@ package net.cubexa.caseapi.events;
 
 import net.cubexa.caseapi.models.CaseReward;
 import net.cubexa.caseapi.models.Case;
+import net.cubexa.caseapi.text.MessageTemplate;
 
 import java.util.UUID;
 
@@ -34,7 +35,8 @@ public class CaseRewardAnnounceEvent {
     private final UUID playerUuid;
     private final Case crate;
     private final CaseReward caseReward;
-    private String announceMessage;
+    private final int mergedCount;
+    private MessageTemplate announceTemplate;
     private boolean isCancelled;
 
     /**
@@ -43,13 +45,29 @@ public class CaseRewardAnnounceEvent {
      * @param playerUuid The UUID of the player receiving the reward.
      * @param crate The {@link Case} from which the reward was obtained.
      * @param caseReward The {@link CaseReward} to be announced.
-     * @param announceMessage The message that will be broadcasted.
+     * @param announceMessage The message that will be broadcasted, or {@code null} if there is none.
      */
     public CaseRewardAnnounceEvent(UUID playerUuid, Case crate, CaseReward caseReward, String announceMessage) {
+        this(playerUuid, crate, caseReward, compile(announceMessage), 1);
+    }
+
+    /**
+     * Constructs a new {@code CaseRewardAnnounceEvent} for an announcement that summarizes several rewards.
+     *
+     * @param playerUuid The UUID of the first player who received the reward.
+     * @param crate The {@link Case} from which the reward was obtained.
+     * @param caseReward The {@link CaseReward} to be announced.
+     * @param announceTemplate The {@link MessageTemplate} of the message that will be broadcasted, or {@code null}
+     *                         if there is none.
+     * @param mergedCount The number of announcements merged into this one.
+     */
+    public CaseRewardAnnounceEvent(UUID playerUuid, Case crate, CaseReward caseReward, MessageTemplate announceTemplate,
+                                   int mergedCount) {
         this.playerUuid = playerUuid;
         this.crate = crate;
         this.caseReward = caseReward;
-        this.announceMessage = announceMessage;
+        this.announceTemplate = announceTemplate;
+        this.mergedCount = mergedCount;
     }
 
     /**
@@ -79,27 +97,64 @@ public class CaseRewardAnnounceEvent {
         return caseReward;
     }
 
+    /**
+     * Gets the number of announcements merged into this one.
+     * <p>
+     * If the value is greater than {@code 1}, the same reward was won several times within the merge
+     * window of the {@link net.cubexa.caseapi.announce.AnnouncementAggregator}, and the message is the
+     * configured summary. {@link #getPlayerUuid()} then returns the first of these players.
+     *
+     * @return The number of merged announcements.
+     */
+    public int getMergedCount() {
+        return mergedCount;
+    }
+
     /**
      * Returns the announcement message for this reward.
      * <p>
      * The message is loaded directly from the messages configuration.
      * Note that the {@code {player}} placeholder has not been replaced yet.
      *
-     * @return The announcement message as a string.
+     * @return The announcement message as a string, or {@code null} if there is none.
      */
     public String getAnnounceMessage() {
-        return announceMessage;
+        return announceTemplate == null ? null : announceTemplate.getSource();
+    }
+
+    /**
+     * Returns the compiled announcement message for this reward.
+     * <p>
+     * The template is rendered with all {@link net.cubexa.caseapi.text.Placeholder}s when the
+     * announcement is broadcast.
+     *
+     * @return The announcement message as a {@link MessageTemplate}, or {@code null} if there is none.
+     */
+    public MessageTemplate getAnnounceTemplate() {
+        return announceTemplate;
     }
 
     /**
      * Sets the announcement message.
      * <p>
      * {@code {player}} will be replaced with the player receiving the reward.
+     * The message is compiled on every call; use {@link #setAnnounceTemplate(MessageTemplate)}
+     * with a template compiled once for frequently set messages.
      *
-     * @param announceMessage The new announcement message.
+     * @param announceMessage The new announcement message, or {@code null} to broadcast nothing.
      */
     public void setAnnounceMessage(String announceMessage) {
-        this.announceMessage = announceMessage;
+        this.announceTemplate = compile(announceMessage);
+    }
+
+    /**
+     * Sets the announcement message to a precompiled template.
+     *
+     * @param announceTemplate The new announcement message as a {@link MessageTemplate}, or {@code null} to
+     *                         broadcast nothing.
+     */
+    public void setAnnounceTemplate(MessageTemplate announceTemplate) {
+        this.announceTemplate = announceTemplate;
     }
 
     /**
@@ -119,4 +174,14 @@ public class CaseRewardAnnounceEvent {
     public void setCancelled(boolean cancelled) {
         isCancelled = cancelled;
     }
-}
\ No newline at end of file
+
+    /**
+     * Compiles an announcement message.
+     *
+     * @param announceMessage The message, or {@code null}.
+     * @return The compiled message, or {@code null} if {@code announceMessage} is {@code null}.
+     */
+    private static MessageTemplate compile(String announceMessage) {
+        return announceMessage == null ? null : MessageTemplate.compile(announceMessage);
+    }
+}
@@ -0,0 +1,139 @@
+/*
+ * CaseAPI, a Minecraft plugin API by Cubexa Studio
+ * Copyright (C) 2025 Cubexa Studio <https://cubexa.net>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.cubexa.caseapi.events;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Snapshot of the time a single handler spent on one event type.
+ */
+public class ListenerProfile {
+
+    private final String listenerName;
+    private final Class<?> eventType;
+    private final long invocations;
+    private final long totalNanos;
+    private final long maxNanos;
+    private final long budgetViolations;
+    private final boolean async;
+
+    /**
+     * Constructs a new {@code ListenerProfile}.
+     *
+     * @param listenerName The class name of the listener or handler.
+     * @param eventType The event class the handler is subscribed to.
+     * @param invocations The number of calls.
+     * @param totalNanos The total time spent in the handler.
+     * @param maxNanos The longest single call.
+     * @param budgetViolations The number of calls that exceeded the configured budget.
+     * @param async {@code true} if the handler is currently called asynchronously.
+     */
+    public ListenerProfile(String listenerName, Class<?> eventType, long invocations, long totalNanos, long maxNanos,
+                           long budgetViolations, boolean async) {
+        this.listenerName = listenerName;
+        this.eventType = eventType;
+        this.invocations = invocations;
+        this.totalNanos = totalNanos;
+        this.maxNanos = maxNanos;
+        this.budgetViolations = budgetViolations;
+        this.async = async;
+    }
+
+    /**
+     * Gets the class name of the listener or handler.
+     *
+     * @return The listener name.
+     */
+    public String getListenerName() {
+        return listenerName;
+    }
+
+    /**
+     * Gets the event class the handler is subscribed to.
+     *
+     * @return The event type.
+     */
+    public Class<?> getEventType() {
+        return eventType;
+    }
+
+    /**
+     * Gets the number of calls.
+     *
+     * @return The number of invocations.
+     */
+    public long getInvocations() {
+        return invocations;
+    }
+
+    /**
+     * Gets the average time of a call.
+     *
+     * @param unit The unit to return the value in.
+     * @return The mean time, or {@code 0} if the handler was never called.
+     */
+    public double getMean(TimeUnit unit) {
+        return invocations == 0 ? 0 : (double) totalNanos / unit.toNanos(1) / invocations;
+    }
+
+    /**
+     * Gets the total time spent in the handler.
+     *
+     * @param unit The unit to return the value in.
+     * @return The total time.
+     */
+    public double getTotal(TimeUnit unit) {
+        return (double) totalNanos / unit.toNanos(1);
+    }
+
+    /**
+     * Gets the longest single call.
+     *
+     * @param unit The unit to return the value in.
+     * @return The maximum time.
+     */
+    public double getMax(TimeUnit unit) {
+        return (double) maxNanos / unit.toNanos(1);
+    }
+
+    /**
+     * Gets the number of calls that exceeded the configured budget.
+     *
+     * @return The number of budget violations.
+     */
+    public long getBudgetViolations() {
+        return budgetViolations;
+    }
+
+    /**
+     * Checks whether the handler is currently called asynchronously, either by subscription or
+     * because it was moved there after exceeding its budget.
+     *
+     * @return {@code true} if asynchronous; {@code false} otherwise.
+     */
+    public boolean isAsync() {
+        return async;
+    }
+
+    @Override
+    public String toString() {
+        return listenerName + " (" + eventType.getSimpleName() + "): " + invocations + " calls, mean "
+                + getMean(TimeUnit.MILLISECONDS) + "ms, max " + getMax(TimeUnit.MILLISECONDS) + "ms, "
+                + budgetViolations + " over budget" + (async ? ", async" : "");
+    }
+}
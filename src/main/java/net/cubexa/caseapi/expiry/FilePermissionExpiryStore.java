@@ -0,0 +1,361 @@
+/*
+ * CaseAPI, a Minecraft plugin API by Cubexa Studio
+ * Copyright (C) 2025 Cubexa Studio <https://cubexa.net>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.cubexa.caseapi.expiry;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * {@link PermissionExpiryStore} backed by an append-only deadline log file.
+ * <p>
+ * Every scheduled grant and every removal is appended as a record and forced to disk. Loading
+ * replays the log, ignores a record cut off by a crash, and rewrites the file with only the pending
+ * grants. The log is also rewritten once removed records outnumber the pending grants.
+ * <p>
+ * Saves and removals never block the caller. They are queued and written by a single flush on the
+ * given executor, which appends all queued records and forces them to disk once, so concurrent grants
+ * share one sync instead of waiting for each other's.
+ */
+public class FilePermissionExpiryStore implements PermissionExpiryStore {
+
+    private static final byte SAVE = 1;
+    private static final byte REMOVE = 2;
+    private static final int MIN_COMPACTION_RECORDS = 1024;
+
+    private final Path file;
+    private final Executor executor;
+    private final Object io = new Object();
+    private final Map<Long, PermissionGrant> pending = new LinkedHashMap<>();
+    private List<Operation> queued = new ArrayList<>();
+    private boolean flushing;
+    private FileChannel channel;
+    private int deadRecords;
+
+    /**
+     * Constructs a new {@code FilePermissionExpiryStore}.
+     *
+     * @param file The path of the log file. It is created on the first {@link #load()}.
+     * @param executor The executor writing and syncing the queued records.
+     */
+    public FilePermissionExpiryStore(Path file, Executor executor) {
+        this.file = file;
+        this.executor = executor;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * This method has to be called before any grant is saved or removed.
+     */
+    @Override
+    public CompletableFuture<List<PermissionGrant>> load() {
+        synchronized (io) {
+            try {
+                pending.clear();
+                if (Files.exists(file)) replay();
+                compact();
+                return CompletableFuture.completedFuture(new ArrayList<>(pending.values()));
+            } catch (IOException e) {
+                return CompletableFuture.failedFuture(e);
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CompletableFuture<Void> save(PermissionGrant grant) {
+        return enqueue(new Operation(grant, null));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CompletableFuture<Void> remove(Collection<PermissionGrant> grants) {
+        return enqueue(new Operation(null, List.copyOf(grants)));
+    }
+
+    /**
+     * Closes the log file. Records still queued fail once their flush runs.
+     *
+     * @throws UncheckedIOException If the file could not be closed.
+     */
+    public void close() {
+        synchronized (io) {
+            if (channel == null) return;
+            try {
+                channel.close();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            } finally {
+                channel = null;
+            }
+        }
+    }
+
+    /**
+     * Queues an operation and starts a flush unless one is already running.
+     *
+     * @param operation The operation to queue.
+     * @return The future of the operation.
+     */
+    private CompletableFuture<Void> enqueue(Operation operation) {
+        synchronized (this) {
+            queued.add(operation);
+            if (flushing) return operation.future;
+            flushing = true;
+        }
+        try {
+            executor.execute(this::flush);
+        } catch (RuntimeException e) {
+            List<Operation> rejected;
+            synchronized (this) {
+                rejected = queued;
+                queued = new ArrayList<>();
+                flushing = false;
+            }
+            for (Operation queuedOperation : rejected) {
+                queuedOperation.future.completeExceptionally(e);
+            }
+        }
+        return operation.future;
+    }
+
+    /**
+     * Writes all queued operations with a single sync, until the queue is empty.
+     */
+    private void flush() {
+        while (true) {
+            List<Operation> batch;
+            synchronized (this) {
+                if (queued.isEmpty()) {
+                    flushing = false;
+                    return;
+                }
+                batch = queued;
+                queued = new ArrayList<>();
+            }
+            Throwable failure = null;
+            synchronized (io) {
+                try {
+                    write(batch);
+                } catch (IOException | RuntimeException e) {
+                    failure = e;
+                }
+            }
+            for (Operation operation : batch) {
+                if (failure == null) operation.future.complete(null);
+                else operation.future.completeExceptionally(failure);
+            }
+        }
+    }
+
+    /**
+     * Appends the records of a batch of operations, forces them to disk and compacts the log if needed.
+     * <p>
+     * The batch is all-or-nothing: the pending grants only change once all of its records are on disk.
+     *
+     * @param batch The operations to write.
+     * @throws IOException If the records could not be written.
+     */
+    private void write(List<Operation> batch) throws IOException {
+        requireLoaded();
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream records = new DataOutputStream(bytes);
+        Map<Long, PermissionGrant> changes = new LinkedHashMap<>();
+        int dead = 0;
+        for (Operation operation : batch) {
+            if (operation.save != null) {
+                writeSave(records, operation.save);
+                changes.put(operation.save.getId(), operation.save);
+                continue;
+            }
+            for (PermissionGrant grant : operation.remove) {
+                long id = grant.getId();
+                boolean known = changes.containsKey(id) ? changes.get(id) != null : pending.containsKey(id);
+                if (!known) continue;
+                records.writeByte(REMOVE);
+                records.writeLong(id);
+                changes.put(id, null);
+                dead += 2;
+            }
+        }
+        if (changes.isEmpty()) return;
+        append(bytes.toByteArray());
+        for (Map.Entry<Long, PermissionGrant> change : changes.entrySet()) {
+            if (change.getValue() == null) pending.remove(change.getKey());
+            else pending.put(change.getKey(), change.getValue());
+        }
+        deadRecords += dead;
+        if (deadRecords >= MIN_COMPACTION_RECORDS && deadRecords > pending.size()) compact();
+    }
+
+    /**
+     * Appends the records of a batch and forces them to disk.
+     * <p>
+     * If this fails, the log is truncated back to its previous length so no part of the batch is
+     * replayed on the next load. If even that fails, the log is closed and has to be loaded again.
+     *
+     * @param records The encoded records.
+     * @throws IOException If the records could not be written.
+     */
+    private void append(byte[] records) throws IOException {
+        long length = channel.size();
+        try {
+            ByteBuffer buffer = ByteBuffer.wrap(records);
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+        } catch (IOException e) {
+            try {
+                channel.truncate(length);
+                channel.force(false);
+            } catch (IOException truncateFailure) {
+                e.addSuppressed(truncateFailure);
+                try {
+                    channel.close();
+                } catch (IOException ignored) {
+                }
+                channel = null;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Reads all records of the log into the pending grants, stopping at a truncated record.
+     *
+     * @throws IOException If the file could not be read.
+     */
+    private void replay() throws IOException {
+        try (InputStream stream = Files.newInputStream(file);
+             DataInputStream in = new DataInputStream(new BufferedInputStream(stream))) {
+            while (true) {
+                int op = in.read();
+                if (op == SAVE) {
+                    long id = in.readLong();
+                    UUID playerUuid = new UUID(in.readLong(), in.readLong());
+                    Instant expiresAt = Instant.ofEpochMilli(in.readLong());
+                    String permission = in.readUTF();
+                    pending.put(id, new PermissionGrant(id, playerUuid, permission, expiresAt));
+                } else if (op == REMOVE) {
+                    pending.remove(in.readLong());
+                } else {
+                    break;
+                }
+            }
+        } catch (EOFException ignored) {
+        }
+    }
+
+    /**
+     * Rewrites the log with only the pending grants and reopens it for appending.
+     *
+     * @throws IOException If the file could not be written.
+     */
+    private void compact() throws IOException {
+        close();
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) Files.createDirectories(parent);
+        Path temporary = file.resolveSibling(file.getFileName() + ".tmp");
+        try (FileChannel target = FileChannel.open(temporary, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            DataOutputStream compacted = new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(target)));
+            for (PermissionGrant grant : pending.values()) {
+                writeSave(compacted, grant);
+            }
+            compacted.flush();
+            target.force(true);
+        }
+        Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        channel = FileChannel.open(file, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        deadRecords = 0;
+    }
+
+    /**
+     * Writes the record of a scheduled grant.
+     *
+     * @param target The stream to write to.
+     * @param grant The grant to write.
+     * @throws IOException If the record could not be written.
+     */
+    private static void writeSave(DataOutputStream target, PermissionGrant grant) throws IOException {
+        target.writeByte(SAVE);
+        target.writeLong(grant.getId());
+        target.writeLong(grant.getPlayerUuid().getMostSignificantBits());
+        target.writeLong(grant.getPlayerUuid().getLeastSignificantBits());
+        target.writeLong(grant.getExpiresAt().toEpochMilli());
+        target.writeUTF(grant.getPermission());
+    }
+
+    /**
+     * Ensures that the log has been loaded and is open for appending.
+     *
+     * @throws IllegalStateException If {@link #load()} has not been called or the store was closed.
+     */
+    private void requireLoaded() {
+        if (channel == null) throw new IllegalStateException("The store has not been loaded");
+    }
+
+    /**
+     * A queued save or removal.
+     */
+    private static final class Operation {
+
+        private final PermissionGrant save;
+        private final Collection<PermissionGrant> remove;
+        private final CompletableFuture<Void> future = new CompletableFuture<>();
+
+        /**
+         * Constructs a new operation.
+         *
+         * @param save The grant to save, or {@code null} for a removal.
+         * @param remove The grants to remove, or {@code null} for a save.
+         */
+        private Operation(PermissionGrant save, Collection<PermissionGrant> remove) {
+            this.save = save;
+            this.remove = remove;
+        }
+    }
+}
@@ -0,0 +1,245 @@
+/*
+ * CaseAPI, a Minecraft plugin API by Cubexa Studio
+ * Copyright (C) 2025 Cubexa Studio <https://cubexa.net>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.cubexa.caseapi.expiry;
+
+import net.cubexa.caseapi.models.CaseReward;
+import net.cubexa.caseapi.models.CaseRewardType;
+import net.cubexa.caseapi.models.DurationUnit;
+import net.cubexa.caseapi.utils.TimingWheel;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Revokes temporary permissions granted by {@link CaseRewardType#PERMISSION} rewards once they expire.
+ * <p>
+ * Pending expiries are kept in a {@link TimingWheel}, so scheduling and cancelling take constant time
+ * regardless of how many permissions are pending, and persisted in a {@link PermissionExpiryStore}.
+ * On {@link #start()}, all grants that expired while the server was offline are revoked in a single
+ * batch. Grants whose revocation fails stay in the store and are retried on the next start.
+ * <p>
+ * {@link #start()} has to complete before new expiries are scheduled.
+ */
+public class PermissionExpiryScheduler {
+
+    private static final Logger LOGGER = Logger.getLogger(PermissionExpiryScheduler.class.getName());
+
+    private final PermissionRevoker revoker;
+    private final PermissionExpiryStore store;
+    private final ScheduledExecutorService executor;
+    private final Duration tick;
+    private final TimingWheel<PermissionGrant> wheel;
+    private final Map<Long, TimingWheel.Timeout<PermissionGrant>> timeouts = new ConcurrentHashMap<>();
+    private final AtomicLong nextId = new AtomicLong(1);
+    private final LongAdder revoked = new LongAdder();
+    private CompletableFuture<Void> revocationChain = CompletableFuture.completedFuture(null);
+    private CompletableFuture<Void> startup;
+    private ScheduledFuture<?> scheduledTick;
+
+    /**
+     * Constructs a new {@code PermissionExpiryScheduler}.
+     *
+     * @param revoker The {@link PermissionRevoker} used to revoke expired permissions.
+     * @param store The {@link PermissionExpiryStore} used to persist pending expiries.
+     * @param executor The executor used to advance the timing wheel.
+     * @param tick The resolution in which expiries are processed, for example one second.
+     * @throws IllegalArgumentException If {@code tick} is shorter than one millisecond.
+     */
+    public PermissionExpiryScheduler(PermissionRevoker revoker, PermissionExpiryStore store,
+                                     ScheduledExecutorService executor, Duration tick) {
+        if (tick.toMillis() <= 0) throw new IllegalArgumentException("tick must be at least one millisecond");
+        this.revoker = revoker;
+        this.store = store;
+        this.executor = executor;
+        this.tick = tick;
+        this.wheel = new TimingWheel<>(tick.toMillis(), System.currentTimeMillis());
+    }
+
+    /**
+     * Loads the persisted expiries, revokes all grants that are already due in one batch and starts
+     * processing the timing wheel. Calling this method more than once returns the first result.
+     *
+     * @return A {@link CompletableFuture} that completes once the overdue grants are revoked.
+     */
+    public synchronized CompletableFuture<Void> start() {
+        if (startup != null) return startup;
+        startup = store.load().thenCompose(grants -> {
+            long now = System.currentTimeMillis();
+            List<PermissionGrant> due = new ArrayList<>();
+            for (PermissionGrant grant : grants) {
+                nextId.accumulateAndGet(grant.getId() + 1, Math::max);
+                if (grant.getExpiresAt().toEpochMilli() <= now) {
+                    due.add(grant);
+                } else {
+                    timeouts.put(grant.getId(), wheel.schedule(grant, grant.getExpiresAt().toEpochMilli()));
+                }
+            }
+            due.sort(Comparator.comparing(PermissionGrant::getExpiresAt));
+            synchronized (this) {
+                long interval = tick.toMillis();
+                scheduledTick = executor.scheduleWithFixedDelay(this::tick, interval, interval, TimeUnit.MILLISECONDS);
+            }
+            return revoke(due);
+        });
+        return startup;
+    }
+
+    /**
+     * Stops processing the timing wheel. Pending grants stay persisted and are picked up by the next
+     * {@link #start()}. This should be called on shutdown.
+     *
+     * @return A {@link CompletableFuture} that completes once running revocations have finished.
+     */
+    public CompletableFuture<Void> close() {
+        synchronized (this) {
+            if (scheduledTick != null) {
+                scheduledTick.cancel(false);
+                scheduledTick = null;
+            }
+            return revocationChain.handle((ignored, throwable) -> null);
+        }
+    }
+
+    /**
+     * Schedules the expiry of the permission granted by a reward.
+     * <p>
+     * Nothing is scheduled for rewards that are not {@link CaseRewardType#PERMISSION} rewards or whose
+     * duration is {@link DurationUnit#INFINITE}.
+     *
+     * @param playerUuid The UUID of the player the permission was granted to.
+     * @param reward The {@link CaseReward} that granted the permission.
+     * @return A {@link CompletableFuture} containing the scheduled {@link PermissionGrant} once it is
+     *         persisted, or {@code null} if the permission does not expire.
+     */
+    public CompletableFuture<PermissionGrant> schedule(UUID playerUuid, CaseReward reward) {
+        if (reward.getType() != CaseRewardType.PERMISSION) return CompletableFuture.completedFuture(null);
+        DurationUnit unit = reward.getPermissionDurationUnit();
+        if (unit == null || unit == DurationUnit.INFINITE) return CompletableFuture.completedFuture(null);
+        Duration duration = reward.getPermissionDuration();
+        if (duration == null || duration.isZero() || duration.isNegative()) return CompletableFuture.completedFuture(null);
+        return schedule(playerUuid, reward.getPermission(), Instant.now().plus(duration));
+    }
+
+    /**
+     * Schedules the expiry of a permission.
+     *
+     * @param playerUuid The UUID of the player the permission was granted to.
+     * @param permission The granted permission.
+     * @param expiresAt The time at which the permission expires.
+     * @return A {@link CompletableFuture} containing the scheduled {@link PermissionGrant} once it is persisted.
+     */
+    public CompletableFuture<PermissionGrant> schedule(UUID playerUuid, String permission, Instant expiresAt) {
+        PermissionGrant grant = new PermissionGrant(nextId.getAndIncrement(), playerUuid, permission, expiresAt);
+        timeouts.put(grant.getId(), wheel.schedule(grant, expiresAt.toEpochMilli()));
+        return store.save(grant).thenApply(ignored -> grant);
+    }
+
+    /**
+     * Cancels the expiry of a grant, for example because the permission was removed manually.
+     *
+     * @param grant The grant to cancel.
+     * @return A {@link CompletableFuture} containing {@code true} if the expiry was cancelled, or
+     *         {@code false} if it already expired or was cancelled before.
+     */
+    public CompletableFuture<Boolean> cancel(PermissionGrant grant) {
+        TimingWheel.Timeout<PermissionGrant> timeout = timeouts.remove(grant.getId());
+        if (timeout == null || !wheel.cancel(timeout)) return CompletableFuture.completedFuture(false);
+        return store.remove(List.of(grant)).thenApply(ignored -> true);
+    }
+
+    /**
+     * Returns the number of grants waiting for their expiry.
+     *
+     * @return The number of scheduled grants.
+     */
+    public int getScheduledCount() {
+        return wheel.size();
+    }
+
+    /**
+     * Returns the number of grants revoked since this scheduler was created.
+     *
+     * @return The number of revoked grants.
+     */
+    public long getRevokedCount() {
+        return revoked.sum();
+    }
+
+    /**
+     * Advances the timing wheel to the current time and revokes the expired grants.
+     */
+    private void tick() {
+        List<PermissionGrant> expired = new ArrayList<>();
+        wheel.advance(System.currentTimeMillis(), expired::add);
+        if (expired.isEmpty()) return;
+        for (PermissionGrant grant : expired) {
+            timeouts.remove(grant.getId());
+        }
+        revoke(expired);
+    }
+
+    /**
+     * Revokes a batch of grants after all previous revocations and removes them from the store.
+     *
+     * @param grants The grants to revoke.
+     * @return A {@link CompletableFuture} that completes once the grants are revoked.
+     */
+    private synchronized CompletableFuture<Void> revoke(List<PermissionGrant> grants) {
+        if (grants.isEmpty()) return CompletableFuture.completedFuture(null);
+        CompletableFuture<Void> next = revocationChain.handle((ignored, throwable) -> null)
+                .thenCompose(ignored -> revokeBatch(grants));
+        revocationChain = next;
+        return next;
+    }
+
+    /**
+     * Revokes a batch of grants and removes them from the store.
+     *
+     * @param grants The grants to revoke.
+     * @return A {@link CompletableFuture} that completes once the grants are revoked and removed.
+     */
+    private CompletableFuture<Void> revokeBatch(List<PermissionGrant> grants) {
+        CompletableFuture<Void> revocation;
+        try {
+            revocation = revoker.revoke(grants);
+        } catch (RuntimeException e) {
+            revocation = CompletableFuture.failedFuture(e);
+        }
+        return revocation.thenRun(() -> revoked.add(grants.size()))
+                .thenCompose(ignored -> store.remove(grants))
+                .whenComplete((ignored, throwable) -> {
+                    if (throwable != null) {
+                        LOGGER.log(Level.WARNING, "Could not revoke " + grants.size() + " expired permissions", throwable);
+                    }
+                });
+    }
+}
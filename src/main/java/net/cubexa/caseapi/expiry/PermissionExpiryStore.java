@@ -0,0 +1,54 @@
+/*
+ * CaseAPI, a Minecraft plugin API by Cubexa Studio
+ * Copyright (C) 2025 Cubexa Studio <https://cubexa.net>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.cubexa.caseapi.expiry;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Persists the pending {@link PermissionGrant}s of a {@link PermissionExpiryScheduler}, so expiries
+ * survive restarts.
+ */
+public interface PermissionExpiryStore {
+
+    /**
+     * Loads all grants that have not been removed yet.
+     *
+     * @return A {@link CompletableFuture} containing the pending grants.
+     */
+    CompletableFuture<List<PermissionGrant>> load();
+
+    /**
+     * Persists a newly scheduled grant.
+     * <p>
+     * This is called on the opening path, so implementations must not block the caller while writing.
+     *
+     * @param grant The grant to persist.
+     * @return A {@link CompletableFuture} that completes once the grant is persisted.
+     */
+    CompletableFuture<Void> save(PermissionGrant grant);
+
+    /**
+     * Removes grants that were revoked or cancelled.
+     *
+     * @param grants The grants to remove.
+     * @return A {@link CompletableFuture} that completes once the grants are removed.
+     */
+    CompletableFuture<Void> remove(Collection<PermissionGrant> grants);
+}
@@ -0,0 +1,83 @@
+/*
+ * CaseAPI, a Minecraft plugin API by Cubexa Studio
+ * Copyright (C) 2025 Cubexa Studio <https://cubexa.net>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.cubexa.caseapi.expiry;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * A temporary permission granted to a player that has to be revoked once it expires.
+ */
+public final class PermissionGrant {
+
+    private final long id;
+    private final UUID playerUuid;
+    private final String permission;
+    private final Instant expiresAt;
+
+    /**
+     * Constructs a new {@code PermissionGrant}.
+     *
+     * @param id The unique ID of the grant.
+     * @param playerUuid The UUID of the player the permission was granted to.
+     * @param permission The granted permission.
+     * @param expiresAt The time at which the permission expires.
+     */
+    public PermissionGrant(long id, UUID playerUuid, String permission, Instant expiresAt) {
+        this.id = id;
+        this.playerUuid = playerUuid;
+        this.permission = permission;
+        this.expiresAt = expiresAt;
+    }
+
+    /**
+     * Returns the unique ID of the grant.
+     *
+     * @return The ID of the grant.
+     */
+    public long getId() {
+        return id;
+    }
+
+    /**
+     * Returns the UUID of the player the permission was granted to.
+     *
+     * @return The UUID of the player.
+     */
+    public UUID getPlayerUuid() {
+        return playerUuid;
+    }
+
+    /**
+     * Returns the granted permission.
+     *
+     * @return The permission string.
+     */
+    public String getPermission() {
+        return permission;
+    }
+
+    /**
+     * Returns the time at which the permission expires.
+     *
+     * @return The time of expiry.
+     */
+    public Instant getExpiresAt() {
+        return expiresAt;
+    }
+}
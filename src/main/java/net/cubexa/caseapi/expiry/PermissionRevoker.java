@@ -0,0 +1,37 @@
+/*
+ * CaseAPI, a Minecraft plugin API by Cubexa Studio
+ * Copyright (C) 2025 Cubexa Studio <https://cubexa.net>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.cubexa.caseapi.expiry;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Revokes expired permissions, for example through the permission plugin of the server.
+ */
+@FunctionalInterface
+public interface PermissionRevoker {
+
+    /**
+     * Revokes a batch of expired permissions.
+     *
+     * @param grants The expired grants, ordered by their time of expiry.
+     * @return A {@link CompletableFuture} that completes once all permissions are revoked, or completes
+     *         exceptionally if they could not be revoked.
+     */
+    CompletableFuture<Void> revoke(List<PermissionGrant> grants);
+}
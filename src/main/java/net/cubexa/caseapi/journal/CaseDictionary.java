@@ -0,0 +1,122 @@
+/*
+ * CaseAPI, a Minecraft plugin API by Cubexa Studio
+ * Copyright (C) 2025 Cubexa Studio <https://cubexa.net>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.cubexa.caseapi.journal;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Append-only dictionary interning case IDs to the integers stored in opening log records.
+ * <p>
+ * Each entry is stored as its length followed by its UTF-8 bytes. An entry cut off by a crash
+ * is truncated when the dictionary is opened.
+ */
+final class CaseDictionary {
+
+    private static final int MAX_ENTRY_LENGTH = 1 << 16;
+
+    private final List<String> caseIds = new ArrayList<>();
+    private final Map<String, Integer> indices = new HashMap<>();
+    private final FileChannel channel;
+    private final DataOutputStream out;
+
+    /**
+     * Opens the dictionary file, creating it if necessary.
+     *
+     * @param file The path of the dictionary file.
+     * @throws IOException If the file could not be read or opened.
+     */
+    CaseDictionary(Path file) throws IOException {
+        long validLength = 0;
+        if (Files.exists(file)) {
+            try (InputStream stream = Files.newInputStream(file);
+                 DataInputStream in = new DataInputStream(new BufferedInputStream(stream))) {
+                while (true) {
+                    int length = in.readInt();
+                    if (length < 0 || length > MAX_ENTRY_LENGTH) break;
+                    byte[] bytes = new byte[length];
+                    in.readFully(bytes);
+                    String caseId = new String(bytes, StandardCharsets.UTF_8);
+                    indices.put(caseId, caseIds.size());
+                    caseIds.add(caseId);
+                    validLength += Integer.BYTES + bytes.length;
+                }
+            } catch (EOFException ignored) {
+            }
+        }
+        this.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+        channel.truncate(validLength);
+        channel.position(validLength);
+        this.out = new DataOutputStream(Channels.newOutputStream(channel));
+    }
+
+    /**
+     * Returns the integer of a case ID, persisting a new entry if the ID is unknown.
+     *
+     * @param caseId The case ID.
+     * @return The interned integer.
+     * @throws IOException If a new entry could not be written.
+     */
+    synchronized int intern(String caseId) throws IOException {
+        Integer index = indices.get(caseId);
+        if (index != null) return index;
+        byte[] bytes = caseId.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+        channel.force(false);
+        int created = caseIds.size();
+        caseIds.add(caseId);
+        indices.put(caseId, created);
+        return created;
+    }
+
+    /**
+     * Returns a copy of all interned case IDs, indexed by their integer.
+     * <p>
+     * Integers interned after the call are not included.
+     *
+     * @return The interned case IDs.
+     */
+    synchronized String[] snapshot() {
+        return caseIds.toArray(new String[0]);
+    }
+
+    /**
+     * Closes the dictionary file.
+     *
+     * @throws IOException If the file could not be closed.
+     */
+    synchronized void close() throws IOException {
+        out.flush();
+        channel.close();
+    }
+}
@@ -0,0 +1,415 @@
+/*
+ * CaseAPI, a Minecraft plugin API by Cubexa Studio
+ * Copyright (C) 2025 Cubexa Studio <https://cubexa.net>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.cubexa.caseapi.journal;
+
+import net.cubexa.caseapi.models.Case;
+import net.cubexa.caseapi.models.CaseReward;
+import net.cubexa.caseapi.models.CaseRewardType;
+import net.cubexa.caseapi.stream.OpeningRecord;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AccessDeniedException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Append-only log of every drawn reward, stored as fixed-width binary records in memory-mapped segment files.
+ * <p>
+ * A record holds the player UUID, the interned case ID, the reward index, the {@link CaseRewardType} and the
+ * timestamp. Appending only writes to the mapped memory, so it costs no system call and survives a crash of
+ * the process; {@link #force()} additionally writes the records to the storage device. Segments are rolled
+ * once full, and {@link #compact(long)} folds old segments into a snapshot of {@link OpeningTotals}.
+ * {@link #rebuildTotals()} restores all totals at startup from the snapshot and a sequential scan of the
+ * remaining segments.
+ */
+public final class OpeningLog implements AutoCloseable {
+
+    private static final Pattern SEGMENT_NAME = Pattern.compile("segment-(\\d{12})\\.log");
+    private static final String DICTIONARY_NAME = "cases.dict";
+    private static final String SNAPSHOT_NAME = "totals.snapshot";
+    private static final CaseRewardType[] TYPES = CaseRewardType.values();
+
+    private final Path directory;
+    private final int recordsPerSegment;
+    private final CaseDictionary dictionary;
+    private final List<OpeningLogSegment> segments;
+    private OpeningLogSegment active;
+    private long compactedSegment;
+    private boolean closed;
+
+    /**
+     * Constructs a log around its opened files.
+     *
+     * @param directory The directory of the log.
+     * @param recordsPerSegment The number of records per segment.
+     * @param dictionary The dictionary of case IDs.
+     * @param segments The opened segments, ordered by ID.
+     * @param compactedSegment The ID of the last compacted segment, or {@code -1} if none.
+     */
+    private OpeningLog(Path directory, int recordsPerSegment, CaseDictionary dictionary,
+                       List<OpeningLogSegment> segments, long compactedSegment) {
+        this.directory = directory;
+        this.recordsPerSegment = recordsPerSegment;
+        this.dictionary = dictionary;
+        this.segments = segments;
+        this.active = segments.get(segments.size() - 1);
+        this.compactedSegment = compactedSegment;
+    }
+
+    /**
+     * Opens the log in a directory, creating it if necessary.
+     * <p>
+     * Records that were not completely written before a crash are discarded.
+     *
+     * @param directory The directory of the log.
+     * @param recordsPerSegment The number of records per segment file.
+     * @return The opened log.
+     * @throws IllegalArgumentException If {@code recordsPerSegment} is not positive or too large.
+     * @throws UncheckedIOException If the log could not be opened.
+     */
+    public static OpeningLog open(Path directory, int recordsPerSegment) {
+        if (recordsPerSegment <= 0 || recordsPerSegment >= Integer.MAX_VALUE / OpeningLogSegment.RECORD_SIZE) {
+            throw new IllegalArgumentException("recordsPerSegment out of range: " + recordsPerSegment);
+        }
+        try {
+            Files.createDirectories(directory);
+            Path snapshot = directory.resolve(SNAPSHOT_NAME);
+            long compactedSegment = Files.exists(snapshot) ? OpeningTotals.read(snapshot, new OpeningTotals()) : -1;
+            List<OpeningLogSegment> segments = new ArrayList<>();
+            for (long id : segmentIds(directory)) {
+                Path file = segmentFile(directory, id);
+                if (id <= compactedSegment) Files.delete(file);
+                else segments.add(OpeningLogSegment.open(id, file));
+            }
+            if (segments.isEmpty()) {
+                long id = compactedSegment + 1;
+                segments.add(OpeningLogSegment.create(id, segmentFile(directory, id), recordsPerSegment));
+            }
+            CaseDictionary dictionary = new CaseDictionary(directory.resolve(DICTIONARY_NAME));
+            return new OpeningLog(directory, recordsPerSegment, dictionary, segments, compactedSegment);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Appends a record of a drawn reward.
+     *
+     * @param playerUuid The UUID of the player.
+     * @param caseId The ID of the opened case.
+     * @param rewardIndex The index of the drawn reward.
+     * @param rewardType The type of the drawn reward.
+     * @param timestamp The time of the opening in milliseconds since the epoch.
+     * @throws IllegalArgumentException If {@code rewardIndex} is negative or above {@link Short#MAX_VALUE}.
+     * @throws IllegalStateException If the log is closed.
+     * @throws UncheckedIOException If a new case ID or segment could not be written.
+     */
+    public synchronized void append(UUID playerUuid, String caseId, int rewardIndex, CaseRewardType rewardType,
+                                    long timestamp) {
+        if (rewardIndex < 0 || rewardIndex > Short.MAX_VALUE) {
+            throw new IllegalArgumentException("rewardIndex out of range: " + rewardIndex);
+        }
+        if (closed) throw new IllegalStateException("Opening log is closed");
+        try {
+            int caseIndex = dictionary.intern(caseId);
+            if (active.isFull()) roll();
+            active.append(playerUuid.getMostSignificantBits(), playerUuid.getLeastSignificantBits(), timestamp,
+                    caseIndex, (short) rewardIndex, (byte) rewardType.ordinal());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Appends a record of a drawn reward.
+     *
+     * @param record The record to append.
+     * @throws IllegalArgumentException If the reward index is negative or above {@link Short#MAX_VALUE}.
+     * @throws IllegalStateException If the log is closed.
+     * @throws UncheckedIOException If a new case ID or segment could not be written.
+     */
+    public void append(OpeningRecord record) {
+        append(record.getPlayerUuid(), record.getCaseId(), record.getRewardIndex(), record.getRewardType(),
+                record.getTimestamp());
+    }
+
+    /**
+     * Appends a record of a reward drawn now.
+     *
+     * @param playerUuid The UUID of the player.
+     * @param crate The opened case.
+     * @param reward The drawn reward.
+     * @throws IllegalArgumentException If the reward index is negative or above {@link Short#MAX_VALUE}.
+     * @throws IllegalStateException If the log is closed.
+     * @throws UncheckedIOException If a new case ID or segment could not be written.
+     */
+    public void append(UUID playerUuid, Case crate, CaseReward reward) {
+        append(playerUuid, crate.getCaseId(), reward.getIndex(), reward.getType(), System.currentTimeMillis());
+    }
+
+    /**
+     * Writes all appended records to the storage device.
+     */
+    public synchronized void force() {
+        if (!closed) active.force();
+    }
+
+    /**
+     * Sequentially passes every record that has not been compacted to a consumer, oldest first.
+     * <p>
+     * Records appended during the scan are not guaranteed to be included.
+     *
+     * @param consumer The consumer of the records.
+     */
+    public void scan(Consumer<OpeningRecord> consumer) {
+        List<SegmentView> views = views();
+        String[] caseIds = dictionary.snapshot();
+        for (SegmentView view : views) {
+            ByteBuffer buffer = view.buffer;
+            for (int i = 0; i < view.size; i++) {
+                int offset = OpeningLogSegment.offset(i);
+                UUID playerUuid = new UUID(buffer.getLong(offset + OpeningLogSegment.OFFSET_MSB),
+                        buffer.getLong(offset + OpeningLogSegment.OFFSET_LSB));
+                consumer.accept(new OpeningRecord(playerUuid,
+                        caseId(caseIds, buffer.getInt(offset + OpeningLogSegment.OFFSET_CASE)),
+                        buffer.getShort(offset + OpeningLogSegment.OFFSET_REWARD),
+                        TYPES[buffer.get(offset + OpeningLogSegment.OFFSET_TYPE)],
+                        buffer.getLong(offset + OpeningLogSegment.OFFSET_TIMESTAMP)));
+            }
+        }
+    }
+
+    /**
+     * Rebuilds all totals from the compaction snapshot and a scan of the remaining segments.
+     *
+     * @return The rebuilt totals.
+     * @throws UncheckedIOException If the snapshot could not be read.
+     */
+    public OpeningTotals rebuildTotals() {
+        OpeningTotals totals = new OpeningTotals();
+        List<SegmentView> views;
+        synchronized (this) {
+            views = views();
+            try {
+                if (compactedSegment >= 0) OpeningTotals.read(directory.resolve(SNAPSHOT_NAME), totals);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        String[] caseIds = dictionary.snapshot();
+        for (SegmentView view : views) {
+            count(view, caseIds, totals);
+        }
+        return totals;
+    }
+
+    /**
+     * Folds all full segments whose records are older than a timestamp into the snapshot of totals and
+     * deletes them. The individual records of those segments are no longer available to {@link #scan(Consumer)}.
+     *
+     * @param olderThan The timestamp in milliseconds since the epoch all records of a compacted segment must be
+     *                  older than.
+     * @return The number of compacted segments.
+     * @throws UncheckedIOException If the snapshot could not be written.
+     */
+    public synchronized int compact(long olderThan) {
+        int count = 0;
+        while (count < segments.size() - 1 && segments.get(count).getMaxTimestamp() < olderThan) {
+            count++;
+        }
+        if (count == 0) return 0;
+        try {
+            Path snapshot = directory.resolve(SNAPSHOT_NAME);
+            OpeningTotals totals = new OpeningTotals();
+            if (compactedSegment >= 0) OpeningTotals.read(snapshot, totals);
+            String[] caseIds = dictionary.snapshot();
+            for (int i = 0; i < count; i++) {
+                OpeningLogSegment segment = segments.get(i);
+                count(new SegmentView(segment.view(), segment.size()), caseIds, totals);
+            }
+            long lastSegment = segments.get(count - 1).getId();
+            Path temporary = directory.resolve(SNAPSHOT_NAME + ".tmp");
+            totals.write(temporary, lastSegment);
+            Files.move(temporary, snapshot, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            forceDirectory(directory);
+            compactedSegment = lastSegment;
+            for (int i = 0; i < count; i++) {
+                Files.deleteIfExists(segments.remove(0).getFile());
+            }
+            return count;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Returns the number of segments that have not been compacted, including the one being written.
+     *
+     * @return The number of segments.
+     */
+    public synchronized int getSegmentCount() {
+        return segments.size();
+    }
+
+    /**
+     * Writes all appended records to the storage device and closes the log.
+     *
+     * @throws UncheckedIOException If the dictionary could not be closed.
+     */
+    @Override
+    public synchronized void close() {
+        if (closed) return;
+        closed = true;
+        active.force();
+        try {
+            dictionary.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Seals the active segment and starts a new one.
+     *
+     * @throws IOException If the new segment could not be created.
+     */
+    private void roll() throws IOException {
+        active.force();
+        long id = active.getId() + 1;
+        active = OpeningLogSegment.create(id, segmentFile(directory, id), recordsPerSegment);
+        segments.add(active);
+    }
+
+    /**
+     * Captures the records written so far.
+     *
+     * @return The views of all segments.
+     */
+    private synchronized List<SegmentView> views() {
+        List<SegmentView> views = new ArrayList<>(segments.size());
+        for (OpeningLogSegment segment : segments) {
+            views.add(new SegmentView(segment.view(), segment.size()));
+        }
+        return views;
+    }
+
+    /**
+     * Counts the records of a segment into totals.
+     *
+     * @param view The view of the segment.
+     * @param caseIds The snapshot of the case dictionary.
+     * @param totals The totals to count into.
+     */
+    private static void count(SegmentView view, String[] caseIds, OpeningTotals totals) {
+        ByteBuffer buffer = view.buffer;
+        for (int i = 0; i < view.size; i++) {
+            int offset = OpeningLogSegment.offset(i);
+            UUID playerUuid = new UUID(buffer.getLong(offset + OpeningLogSegment.OFFSET_MSB),
+                    buffer.getLong(offset + OpeningLogSegment.OFFSET_LSB));
+            totals.add(playerUuid, caseId(caseIds, buffer.getInt(offset + OpeningLogSegment.OFFSET_CASE)),
+                    buffer.getShort(offset + OpeningLogSegment.OFFSET_REWARD), 1);
+        }
+    }
+
+    /**
+     * Resolves an interned case integer against a snapshot of the case dictionary.
+     *
+     * @param caseIds The snapshot of the case dictionary.
+     * @param index The interned integer.
+     * @return The case ID, or {@code null} if the integer is unknown.
+     */
+    private static String caseId(String[] caseIds, int index) {
+        return index >= 0 && index < caseIds.length ? caseIds[index] : null;
+    }
+
+    /**
+     * Lists the IDs of all segment files in a directory in ascending order.
+     *
+     * @param directory The directory of the log.
+     * @return The segment IDs.
+     * @throws IOException If the directory could not be read.
+     */
+    private static long[] segmentIds(Path directory) throws IOException {
+        List<Long> ids = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory)) {
+            for (Path file : stream) {
+                Matcher matcher = SEGMENT_NAME.matcher(file.getFileName().toString());
+                if (matcher.matches()) ids.add(Long.parseLong(matcher.group(1)));
+            }
+        }
+        return ids.stream().mapToLong(Long::longValue).sorted().toArray();
+    }
+
+    /**
+     * Forces the entries of a directory to disk, so a preceding rename is durable.
+     * <p>
+     * Platforms that cannot open directories, such as Windows, persist renames without it.
+     *
+     * @param directory The directory.
+     * @throws IOException If the directory could not be forced.
+     */
+    private static void forceDirectory(Path directory) throws IOException {
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (AccessDeniedException ignored) {
+        }
+    }
+
+    /**
+     * Returns the path of a segment file.
+     *
+     * @param directory The directory of the log.
+     * @param id The ID of the segment.
+     * @return The path of the segment file.
+     */
+    private static Path segmentFile(Path directory, long id) {
+        return directory.resolve(String.format("segment-%012d.log", id));
+    }
+
+    /**
+     * The records of a segment written at the time the view was taken.
+     */
+    private static final class SegmentView {
+
+        private final ByteBuffer buffer;
+        private final int size;
+
+        /**
+         * Constructs a view.
+         *
+         * @param buffer The read-only buffer of the segment.
+         * @param size The number of written records.
+         */
+        private SegmentView(ByteBuffer buffer, int size) {
+            this.buffer = buffer;
+            this.size = size;
+        }
+    }
+}
@@ -0,0 +1,237 @@
+/*
+ * CaseAPI, a Minecraft plugin API by Cubexa Studio
+ * Copyright (C) 2025 Cubexa Studio <https://cubexa.net>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.cubexa.caseapi.journal;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * A single memory-mapped, pre-sized file of fixed-width opening records.
+ * <p>
+ * Layout of the header and of every record, all {@value #RECORD_SIZE} bytes wide:
+ * <pre>
+ * header: magic (int), version (int), capacity (int), unused
+ * record: player msb (long), player lsb (long), timestamp (long), case (int),
+ *         reward index (short), reward type (byte), marker (byte)
+ * </pre>
+ * The marker is written last and is non-zero for every complete record, so the written records
+ * always form a prefix of the file that can be found by binary search.
+ */
+final class OpeningLogSegment {
+
+    static final int RECORD_SIZE = 32;
+    static final int MAGIC = 0x43415345;
+    static final int VERSION = 1;
+    static final int OFFSET_MSB = 0;
+    static final int OFFSET_LSB = 8;
+    static final int OFFSET_TIMESTAMP = 16;
+    static final int OFFSET_CASE = 24;
+    static final int OFFSET_REWARD = 28;
+    static final int OFFSET_TYPE = 30;
+    static final int OFFSET_MARKER = 31;
+
+    private final long id;
+    private final Path file;
+    private final int capacity;
+    private final MappedByteBuffer buffer;
+    private volatile int size;
+    private volatile long maxTimestamp;
+
+    /**
+     * Constructs a segment around an already mapped file.
+     *
+     * @param id The ID of the segment.
+     * @param file The path of the segment file.
+     * @param capacity The number of records the segment can hold.
+     * @param buffer The mapped file.
+     * @param size The number of records already written.
+     * @param maxTimestamp The highest timestamp of the written records.
+     */
+    private OpeningLogSegment(long id, Path file, int capacity, MappedByteBuffer buffer, int size, long maxTimestamp) {
+        this.id = id;
+        this.file = file;
+        this.capacity = capacity;
+        this.buffer = buffer;
+        this.size = size;
+        this.maxTimestamp = maxTimestamp;
+    }
+
+    /**
+     * Creates a new, empty segment file.
+     *
+     * @param id The ID of the segment.
+     * @param file The path of the segment file.
+     * @param capacity The number of records the segment can hold.
+     * @return The new segment.
+     * @throws IOException If the file could not be created.
+     */
+    static OpeningLogSegment create(long id, Path file, int capacity) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ,
+                StandardOpenOption.WRITE)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, (long) (capacity + 1) * RECORD_SIZE);
+            buffer.putInt(0, MAGIC);
+            buffer.putInt(4, VERSION);
+            buffer.putInt(8, capacity);
+            buffer.force();
+            return new OpeningLogSegment(id, file, capacity, buffer, 0, Long.MIN_VALUE);
+        }
+    }
+
+    /**
+     * Opens an existing segment file and locates the end of its written records.
+     *
+     * @param id The ID of the segment.
+     * @param file The path of the segment file.
+     * @return The opened segment.
+     * @throws IOException If the file could not be read or is not a segment file.
+     */
+    static OpeningLogSegment open(long id, Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            if (channel.size() < RECORD_SIZE) throw new IOException("Truncated opening log segment " + file);
+            MappedByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0, RECORD_SIZE);
+            if (header.getInt(0) != MAGIC) throw new IOException("Not an opening log segment: " + file);
+            if (header.getInt(4) != VERSION) throw new IOException("Unsupported opening log version in " + file);
+            int capacity = header.getInt(8);
+            long length = (long) (capacity + 1) * RECORD_SIZE;
+            if (channel.size() < length) throw new IOException("Truncated opening log segment " + file);
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, length);
+            int size = findSize(buffer, capacity);
+            long maxTimestamp = Long.MIN_VALUE;
+            for (int i = 0; i < size; i++) {
+                maxTimestamp = Math.max(maxTimestamp, buffer.getLong(offset(i) + OFFSET_TIMESTAMP));
+            }
+            return new OpeningLogSegment(id, file, capacity, buffer, size, maxTimestamp);
+        }
+    }
+
+    /**
+     * Returns the ID of the segment.
+     *
+     * @return The segment ID.
+     */
+    long getId() {
+        return id;
+    }
+
+    /**
+     * Returns the path of the segment file.
+     *
+     * @return The segment file.
+     */
+    Path getFile() {
+        return file;
+    }
+
+    /**
+     * Returns the number of written records.
+     *
+     * @return The number of records.
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Checks whether the segment cannot hold further records.
+     *
+     * @return {@code true} if the segment is full; {@code false} otherwise.
+     */
+    boolean isFull() {
+        return size >= capacity;
+    }
+
+    /**
+     * Returns the highest timestamp of the written records.
+     *
+     * @return The highest timestamp, or {@link Long#MIN_VALUE} if the segment is empty.
+     */
+    long getMaxTimestamp() {
+        return maxTimestamp;
+    }
+
+    /**
+     * Appends a record. Must not be called concurrently and only while the segment is not full.
+     *
+     * @param msb The most significant bits of the player UUID.
+     * @param lsb The least significant bits of the player UUID.
+     * @param timestamp The time of the opening in milliseconds since the epoch.
+     * @param caseIndex The interned ID of the case.
+     * @param rewardIndex The index of the reward.
+     * @param rewardType The ordinal of the reward type.
+     */
+    void append(long msb, long lsb, long timestamp, int caseIndex, short rewardIndex, byte rewardType) {
+        int offset = offset(size);
+        buffer.putLong(offset + OFFSET_MSB, msb);
+        buffer.putLong(offset + OFFSET_LSB, lsb);
+        buffer.putLong(offset + OFFSET_TIMESTAMP, timestamp);
+        buffer.putInt(offset + OFFSET_CASE, caseIndex);
+        buffer.putShort(offset + OFFSET_REWARD, rewardIndex);
+        buffer.put(offset + OFFSET_TYPE, rewardType);
+        buffer.put(offset + OFFSET_MARKER, (byte) 1);
+        if (timestamp > maxTimestamp) maxTimestamp = timestamp;
+        size++;
+    }
+
+    /**
+     * Returns a read-only view of the segment for scanning.
+     *
+     * @return The view, positioned at the start of the file.
+     */
+    ByteBuffer view() {
+        return buffer.asReadOnlyBuffer();
+    }
+
+    /**
+     * Writes all changes of the mapped file to the storage device.
+     */
+    void force() {
+        buffer.force();
+    }
+
+    /**
+     * Returns the file offset of a record.
+     *
+     * @param record The index of the record.
+     * @return The offset of the record.
+     */
+    static int offset(int record) {
+        return (record + 1) * RECORD_SIZE;
+    }
+
+    /**
+     * Finds the number of complete records by binary search over their markers.
+     *
+     * @param buffer The mapped file.
+     * @param capacity The capacity of the segment.
+     * @return The number of complete records.
+     */
+    private static int findSize(ByteBuffer buffer, int capacity) {
+        int low = 0;
+        int high = capacity;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (buffer.get(offset(middle) + OFFSET_MARKER) != 0) low = middle + 1;
+            else high = middle;
+        }
+        return low;
+    }
+}
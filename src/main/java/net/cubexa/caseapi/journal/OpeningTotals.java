@@ -0,0 +1,253 @@
+/*
+ * CaseAPI, a Minecraft plugin API by Cubexa Studio
+ * Copyright (C) 2025 Cubexa Studio <https://cubexa.net>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.cubexa.caseapi.journal;
+
+import net.cubexa.caseapi.statistics.OpenStatistics;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Opening totals rebuilt from an {@link OpeningLog}: the global number of opened cases, the number per
+ * player and per case, and the drops per reward.
+ */
+public final class OpeningTotals {
+
+    private long total;
+    private final Map<UUID, long[]> players = new HashMap<>();
+    private final Map<String, CaseTotals> cases = new HashMap<>();
+
+    /**
+     * Constructs empty totals.
+     */
+    OpeningTotals() {
+    }
+
+    /**
+     * Returns the number of cases opened globally.
+     *
+     * @return The global number of opened cases.
+     */
+    public long getTotalOpened() {
+        return total;
+    }
+
+    /**
+     * Returns the number of cases opened by a player.
+     *
+     * @param playerUuid The UUID of the player.
+     * @return The number of cases opened by the player.
+     */
+    public long getOpenedByPlayer(UUID playerUuid) {
+        long[] counter = players.get(playerUuid);
+        return counter == null ? 0 : counter[0];
+    }
+
+    /**
+     * Returns the UUIDs of all players with at least one opening.
+     *
+     * @return An unmodifiable view of the player UUIDs.
+     */
+    public Set<UUID> getPlayers() {
+        return Collections.unmodifiableSet(players.keySet());
+    }
+
+    /**
+     * Returns the number of openings of a case.
+     *
+     * @param caseId The ID of the case.
+     * @return The number of openings.
+     */
+    public long getOpenedOfCase(String caseId) {
+        CaseTotals caseTotals = cases.get(caseId);
+        return caseTotals == null ? 0 : caseTotals.opens;
+    }
+
+    /**
+     * Returns the number of drops of a reward.
+     *
+     * @param caseId The ID of the case.
+     * @param rewardIndex The index of the reward.
+     * @return The number of drops.
+     */
+    public long getRewardDrops(String caseId, int rewardIndex) {
+        CaseTotals caseTotals = cases.get(caseId);
+        if (caseTotals == null || rewardIndex < 0 || rewardIndex >= caseTotals.drops.length) return 0;
+        return caseTotals.drops[rewardIndex];
+    }
+
+    /**
+     * Loads all totals into {@link OpenStatistics}, replacing previously seeded values.
+     * Openings the statistics recorded but not yet flushed are kept on top of the totals.
+     *
+     * @param statistics The statistics to seed.
+     */
+    public void seed(OpenStatistics statistics) {
+        statistics.seedTotal(total);
+        for (Map.Entry<UUID, long[]> entry : players.entrySet()) {
+            statistics.seedPlayer(entry.getKey(), entry.getValue()[0]);
+        }
+        for (Map.Entry<String, CaseTotals> entry : cases.entrySet()) {
+            statistics.seedCase(entry.getKey(), entry.getValue().opens);
+            long[] drops = entry.getValue().drops;
+            for (int i = 0; i < drops.length; i++) {
+                if (drops[i] != 0) statistics.seedReward(entry.getKey(), i, drops[i]);
+            }
+        }
+    }
+
+    /**
+     * Counts a number of openings.
+     *
+     * @param playerUuid The UUID of the player.
+     * @param caseId The ID of the case.
+     * @param rewardIndex The index of the drawn reward.
+     * @param count The number of openings.
+     */
+    void add(UUID playerUuid, String caseId, int rewardIndex, long count) {
+        total += count;
+        players.computeIfAbsent(playerUuid, ignored -> new long[1])[0] += count;
+        addCase(caseId, rewardIndex, count);
+    }
+
+    /**
+     * Counts a number of openings of a case without attributing them to a player.
+     *
+     * @param caseId The ID of the case.
+     * @param rewardIndex The index of the drawn reward.
+     * @param count The number of openings.
+     */
+    private void addCase(String caseId, int rewardIndex, long count) {
+        CaseTotals caseTotals = cases.computeIfAbsent(caseId, ignored -> new CaseTotals());
+        caseTotals.opens += count;
+        if (rewardIndex >= caseTotals.drops.length) {
+            caseTotals.drops = Arrays.copyOf(caseTotals.drops, Math.max(rewardIndex + 1, caseTotals.drops.length * 2));
+        }
+        caseTotals.drops[rewardIndex] += count;
+    }
+
+    /**
+     * Adds all totals of another instance.
+     *
+     * @param other The totals to add.
+     */
+    void addAll(OpeningTotals other) {
+        total += other.total;
+        for (Map.Entry<UUID, long[]> entry : other.players.entrySet()) {
+            players.computeIfAbsent(entry.getKey(), ignored -> new long[1])[0] += entry.getValue()[0];
+        }
+        for (Map.Entry<String, CaseTotals> entry : other.cases.entrySet()) {
+            CaseTotals caseTotals = cases.computeIfAbsent(entry.getKey(), ignored -> new CaseTotals());
+            caseTotals.opens += entry.getValue().opens;
+            long[] drops = entry.getValue().drops;
+            if (drops.length > caseTotals.drops.length) caseTotals.drops = Arrays.copyOf(caseTotals.drops, drops.length);
+            for (int i = 0; i < drops.length; i++) {
+                caseTotals.drops[i] += drops[i];
+            }
+        }
+    }
+
+    /**
+     * Writes the totals to a snapshot file and forces it to disk.
+     *
+     * @param file The file to write.
+     * @param lastSegment The ID of the last segment included in the totals.
+     * @throws IOException If the file could not be written.
+     */
+    void write(Path file, long lastSegment) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(channel)));
+            out.writeLong(lastSegment);
+            out.writeLong(total);
+            out.writeInt(players.size());
+            for (Map.Entry<UUID, long[]> entry : players.entrySet()) {
+                out.writeLong(entry.getKey().getMostSignificantBits());
+                out.writeLong(entry.getKey().getLeastSignificantBits());
+                out.writeLong(entry.getValue()[0]);
+            }
+            out.writeInt(cases.size());
+            for (Map.Entry<String, CaseTotals> entry : cases.entrySet()) {
+                out.writeUTF(entry.getKey());
+                out.writeLong(entry.getValue().opens);
+                out.writeInt(entry.getValue().drops.length);
+                for (long drops : entry.getValue().drops) {
+                    out.writeLong(drops);
+                }
+            }
+            out.flush();
+            channel.force(true);
+        }
+    }
+
+    /**
+     * Reads totals from a snapshot file.
+     *
+     * @param file The file to read.
+     * @param totals The totals to add the snapshot to.
+     * @return The ID of the last segment included in the snapshot.
+     * @throws IOException If the file could not be read.
+     */
+    static long read(Path file, OpeningTotals totals) throws IOException {
+        try (InputStream stream = Files.newInputStream(file);
+             DataInputStream in = new DataInputStream(new BufferedInputStream(stream))) {
+            long lastSegment = in.readLong();
+            totals.total += in.readLong();
+            int playerCount = in.readInt();
+            for (int i = 0; i < playerCount; i++) {
+                UUID playerUuid = new UUID(in.readLong(), in.readLong());
+                totals.players.computeIfAbsent(playerUuid, ignored -> new long[1])[0] += in.readLong();
+            }
+            int caseCount = in.readInt();
+            for (int i = 0; i < caseCount; i++) {
+                CaseTotals caseTotals = totals.cases.computeIfAbsent(in.readUTF(), ignored -> new CaseTotals());
+                caseTotals.opens += in.readLong();
+                int rewardCount = in.readInt();
+                if (rewardCount > caseTotals.drops.length) caseTotals.drops = Arrays.copyOf(caseTotals.drops, rewardCount);
+                for (int reward = 0; reward < rewardCount; reward++) {
+                    caseTotals.drops[reward] += in.readLong();
+                }
+            }
+            return lastSegment;
+        }
+    }
+
+    /**
+     * The totals of a single case.
+     */
+    private static final class CaseTotals {
+
+        private long opens;
+        private long[] drops = new long[0];
+    }
+}
@@ -0,0 +1,361 @@
+/*
+ * CaseAPI, a Minecraft plugin API by Cubexa Studio
+ * Copyright (C) 2025 Cubexa Studio <https://cubexa.net>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.cubexa.caseapi.leaderboard;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Thread-safe ranking of players by score, kept in an indexable skip list.
+ * <p>
+ * Every node stores how many entries each of its links skips, so {@link #rankOf(UUID)}, updates and the
+ * start of {@link #top(int)} take O(log n). Higher scores rank first; equal scores rank in the order they
+ * were reached.
+ * <p>
+ * At most {@code capacity} players are tracked. When the board is full, the lowest entry is evicted to make
+ * room. {@link #update(UUID, long)} takes exact scores, so an evicted player simply returns once their score
+ * beats the lowest entry. {@link #increment(UUID, long)} has no score to resume from and therefore follows
+ * the Space-Saving algorithm: a player not tracked on a full board replaces the lowest entry and inherits
+ * its score. Scores of such players may be overestimated by at most that inherited score, which is reported
+ * as {@link LeaderboardEntry#getError()}, but as long as scores only grow, no player whose true score exceeds
+ * the score of the lowest entry is ever missing.
+ * <p>
+ * Scores that decrease void this guarantee on a board that has evicted players: an evicted player is only
+ * considered again on their own next update, so tracked players falling below them are ranked too high
+ * until then. Boards of decreasing scores should therefore have a capacity of at least the number of
+ * players, see {@link #unbounded()}.
+ */
+public final class Leaderboard {
+
+    private static final int MAX_LEVEL = 32;
+
+    private final int capacity;
+    private final Map<UUID, Node> nodes = new HashMap<>();
+    private final Node head = new Node(null, 0, 0, 0, MAX_LEVEL);
+    private Node tail;
+    private int level = 1;
+    private long sequence;
+
+    /**
+     * Constructs a new {@code Leaderboard}.
+     *
+     * @param capacity The maximum number of tracked players.
+     * @throws IllegalArgumentException If {@code capacity} is not positive.
+     */
+    public Leaderboard(int capacity) {
+        if (capacity <= 0) throw new IllegalArgumentException("capacity must be positive: " + capacity);
+        this.capacity = capacity;
+    }
+
+    /**
+     * Creates a leaderboard that never evicts players and therefore stays exact for decreasing scores.
+     *
+     * @return The new {@code Leaderboard}.
+     */
+    public static Leaderboard unbounded() {
+        return new Leaderboard(Integer.MAX_VALUE);
+    }
+
+    /**
+     * Sets the exact score of a player, which clears any overestimation from {@link #increment(UUID, long)}.
+     * <p>
+     * A player that is not tracked on a full board is only added if the score beats the lowest entry.
+     *
+     * @param playerUuid The UUID of the player.
+     * @param score The new score.
+     */
+    public synchronized void update(UUID playerUuid, long score) {
+        Node node = nodes.get(playerUuid);
+        if (node != null) {
+            node.error = 0;
+            move(node, score);
+            return;
+        }
+        if (nodes.size() >= capacity) {
+            if (score <= tail.score) return;
+            remove(tail);
+        }
+        add(playerUuid, score, 0);
+    }
+
+    /**
+     * Adds to the score of a player.
+     * <p>
+     * A player that is not tracked starts at {@code 0}, or at the score of the lowest entry if the board is
+     * full, which the player then replaces. That inherited score is the error of the player's score.
+     *
+     * @param playerUuid The UUID of the player.
+     * @param delta The amount to add.
+     */
+    public synchronized void increment(UUID playerUuid, long delta) {
+        Node node = nodes.get(playerUuid);
+        if (node != null) {
+            move(node, node.score + delta);
+            return;
+        }
+        long base = 0;
+        if (nodes.size() >= capacity) {
+            base = tail.score;
+            remove(tail);
+        }
+        add(playerUuid, base + delta, base);
+    }
+
+    /**
+     * Stops tracking a player.
+     *
+     * @param playerUuid The UUID of the player.
+     * @return {@code true} if the player was tracked; {@code false} otherwise.
+     */
+    public synchronized boolean remove(UUID playerUuid) {
+        Node node = nodes.get(playerUuid);
+        if (node == null) return false;
+        remove(node);
+        return true;
+    }
+
+    /**
+     * Returns the one-based rank of a player.
+     *
+     * @param playerUuid The UUID of the player.
+     * @return The rank, or {@code -1} if the player is not tracked.
+     */
+    public synchronized int rankOf(UUID playerUuid) {
+        Node node = nodes.get(playerUuid);
+        if (node == null) return -1;
+        int rank = 0;
+        Node current = head;
+        for (int i = level - 1; i >= 0; i--) {
+            while (current.next[i] != null && (current.next[i] == node || before(current.next[i], node))) {
+                rank += current.span[i];
+                current = current.next[i];
+            }
+            if (current == node) return rank;
+        }
+        return rank;
+    }
+
+    /**
+     * Returns the score of a player.
+     *
+     * @param playerUuid The UUID of the player.
+     * @return The score, or {@code 0} if the player is not tracked.
+     */
+    public synchronized long getScore(UUID playerUuid) {
+        Node node = nodes.get(playerUuid);
+        return node == null ? 0 : node.score;
+    }
+
+    /**
+     * Returns by how much the score of a player may be overestimated.
+     *
+     * @param playerUuid The UUID of the player.
+     * @return The score inherited when the player was admitted to a full board by {@link #increment(UUID, long)},
+     *         or {@code 0} if the score is exact or the player is not tracked.
+     */
+    public synchronized long getError(UUID playerUuid) {
+        Node node = nodes.get(playerUuid);
+        return node == null ? 0 : node.error;
+    }
+
+    /**
+     * Returns the highest ranked players.
+     *
+     * @param n The maximum number of entries.
+     * @return The entries, highest rank first.
+     */
+    public synchronized List<LeaderboardEntry> top(int n) {
+        List<LeaderboardEntry> entries = new ArrayList<>(Math.max(0, Math.min(n, nodes.size())));
+        Node current = head.next[0];
+        while (current != null && entries.size() < n) {
+            entries.add(new LeaderboardEntry(entries.size() + 1, current.playerUuid, current.score, current.error));
+            current = current.next[0];
+        }
+        return entries;
+    }
+
+    /**
+     * Returns the number of tracked players.
+     *
+     * @return The number of players.
+     */
+    public synchronized int size() {
+        return nodes.size();
+    }
+
+    /**
+     * Returns the maximum number of tracked players.
+     *
+     * @return The capacity.
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Changes the score of a tracked node, relinking it only if its position changes.
+     *
+     * @param node The node.
+     * @param score The new score.
+     */
+    private void move(Node node, long score) {
+        if (score == node.score) return;
+        long previousScore = node.score;
+        long previousSequence = node.sequence;
+        node.score = score;
+        node.sequence = sequence++;
+        Node previous = node.previous;
+        Node next = node.next[0];
+        if ((previous == null || before(previous, node)) && (next == null || before(node, next))) return;
+        node.score = previousScore;
+        node.sequence = previousSequence;
+        remove(node);
+        add(node.playerUuid, score, node.error);
+    }
+
+    /**
+     * Inserts a new node.
+     *
+     * @param playerUuid The UUID of the player.
+     * @param score The score of the player.
+     * @param error The maximum overestimation of the score.
+     */
+    private void add(UUID playerUuid, long score, long error) {
+        Node[] update = new Node[MAX_LEVEL];
+        int[] rank = new int[MAX_LEVEL];
+        Node node = new Node(playerUuid, score, error, sequence++, randomLevel());
+        Node current = head;
+        for (int i = level - 1; i >= 0; i--) {
+            rank[i] = i == level - 1 ? 0 : rank[i + 1];
+            while (current.next[i] != null && before(current.next[i], node)) {
+                rank[i] += current.span[i];
+                current = current.next[i];
+            }
+            update[i] = current;
+        }
+        int nodeLevel = node.next.length;
+        if (nodeLevel > level) {
+            for (int i = level; i < nodeLevel; i++) {
+                rank[i] = 0;
+                update[i] = head;
+                head.span[i] = nodes.size();
+            }
+            level = nodeLevel;
+        }
+        for (int i = 0; i < nodeLevel; i++) {
+            node.next[i] = update[i].next[i];
+            update[i].next[i] = node;
+            node.span[i] = update[i].span[i] - (rank[0] - rank[i]);
+            update[i].span[i] = rank[0] - rank[i] + 1;
+        }
+        for (int i = nodeLevel; i < level; i++) {
+            update[i].span[i]++;
+        }
+        node.previous = update[0] == head ? null : update[0];
+        if (node.next[0] != null) node.next[0].previous = node;
+        else tail = node;
+        nodes.put(playerUuid, node);
+    }
+
+    /**
+     * Unlinks a node.
+     *
+     * @param node The node.
+     */
+    private void remove(Node node) {
+        Node[] update = new Node[MAX_LEVEL];
+        Node current = head;
+        for (int i = level - 1; i >= 0; i--) {
+            while (current.next[i] != null && before(current.next[i], node)) {
+                current = current.next[i];
+            }
+            update[i] = current;
+        }
+        for (int i = 0; i < level; i++) {
+            if (update[i].next[i] == node) {
+                update[i].span[i] += node.span[i] - 1;
+                update[i].next[i] = node.next[i];
+            } else {
+                update[i].span[i]--;
+            }
+        }
+        if (node.next[0] != null) node.next[0].previous = node.previous;
+        else tail = node.previous;
+        while (level > 1 && head.next[level - 1] == null) {
+            level--;
+        }
+        nodes.remove(node.playerUuid);
+    }
+
+    /**
+     * Checks whether a node ranks before another.
+     *
+     * @param first The first node.
+     * @param second The second node.
+     * @return {@code true} if {@code first} ranks before {@code second}; {@code false} otherwise.
+     */
+    private static boolean before(Node first, Node second) {
+        if (first.score != second.score) return first.score > second.score;
+        return first.sequence < second.sequence;
+    }
+
+    /**
+     * Draws the level of a new node, where each level is half as likely as the one below.
+     *
+     * @return The level, between {@code 1} and {@link #MAX_LEVEL}.
+     */
+    private static int randomLevel() {
+        return Math.min(MAX_LEVEL, Integer.numberOfTrailingZeros(ThreadLocalRandom.current().nextInt() | 1 << 31) + 1);
+    }
+
+    /**
+     * A node of the skip list.
+     */
+    private static final class Node {
+
+        private final UUID playerUuid;
+        private long score;
+        private long error;
+        private long sequence;
+        private final Node[] next;
+        private final int[] span;
+        private Node previous;
+
+        /**
+         * Constructs a node.
+         *
+         * @param playerUuid The UUID of the player.
+         * @param score The score of the player.
+         * @param error The maximum overestimation of the score.
+         * @param sequence The order in which the score was reached.
+         * @param level The number of levels of the node.
+         */
+        private Node(UUID playerUuid, long score, long error, long sequence, int level) {
+            this.playerUuid = playerUuid;
+            this.score = score;
+            this.error = error;
+            this.sequence = sequence;
+            this.next = new Node[level];
+            this.span = new int[level];
+        }
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * CaseAPI, a Minecraft plugin API by Cubexa Studio
+ * Copyright (C) 2025 Cubexa Studio <https://cubexa.net>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.cubexa.caseapi.leaderboard;
+
+import java.util.UUID;
+
+/**
+ * A player's position on a {@link Leaderboard}.
+ */
+public final class LeaderboardEntry {
+
+    private final int rank;
+    private final UUID playerUuid;
+    private final long score;
+    private final long error;
+
+    /**
+     * Constructs a new {@code LeaderboardEntry} with an exact score.
+     *
+     * @param rank The one-based rank of the player.
+     * @param playerUuid The UUID of the player.
+     * @param score The score of the player.
+     */
+    public LeaderboardEntry(int rank, UUID playerUuid, long score) {
+        this(rank, playerUuid, score, 0);
+    }
+
+    /**
+     * Constructs a new {@code LeaderboardEntry}.
+     *
+     * @param rank The one-based rank of the player.
+     * @param playerUuid The UUID of the player.
+     * @param score The score of the player.
+     * @param error The maximum overestimation of the score.
+     */
+    public LeaderboardEntry(int rank, UUID playerUuid, long score, long error) {
+        this.rank = rank;
+        this.playerUuid = playerUuid;
+        this.score = score;
+        this.error = error;
+    }
+
+    /**
+     * Returns the one-based rank of the player.
+     *
+     * @return The rank.
+     */
+    public int getRank() {
+        return rank;
+    }
+
+    /**
+     * Returns the UUID of the player.
+     *
+     * @return The player UUID.
+     */
+    public UUID getPlayerUuid() {
+        return playerUuid;
+    }
+
+    /**
+     * Returns the score of the player.
+     *
+     * @return The score.
+     */
+    public long getScore() {
+        return score;
+    }
+
+    /**
+     * Returns by how much the score may be overestimated. The true score lies between
+     * {@code getScore() - getError()} and {@code getScore()}.
+     *
+     * @return The error, or {@code 0} if the score is exact.
+     */
+    public long getError() {
+        return error;
+    }
+
+    /**
+     * Checks whether the score is exact.
+     *
+     * @return {@code true} if the score is not overestimated; {@code false} otherwise.
+     */
+    public boolean isExact() {
+        return error == 0;
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * CaseAPI, a Minecraft plugin API by Cubexa Studio
+ * Copyright (C) 2025 Cubexa Studio <https://cubexa.net>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.cubexa.caseapi.leaderboard;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The leaderboards of total openings, openings per case and jewelry, updated incrementally on every
+ * opening and jewelry mutation instead of being queried from the storage.
+ * <p>
+ * Opening counts only grow, so their boards are bounded to a fixed number of players. Per-case counts are
+ * only incremented, so a player admitted to a full per-case board may be overestimated, as reported by
+ * {@link LeaderboardEntry#getError()}. Jewelry can also decrease, so its board is not bounded: it tracks
+ * every player exactly and has to be seeded with the jewelry of all players through
+ * {@link #updateJewelry(UUID, long)} at startup.
+ */
+public final class Leaderboards {
+
+    private final int capacity;
+    private final Leaderboard totalOpens;
+    private final Leaderboard jewelry;
+    private final Map<String, Leaderboard> caseOpens = new ConcurrentHashMap<>();
+
+    /**
+     * Constructs new {@code Leaderboards}.
+     *
+     * @param capacity The maximum number of players tracked per opening leaderboard.
+     * @throws IllegalArgumentException If {@code capacity} is not positive.
+     */
+    public Leaderboards(int capacity) {
+        this.capacity = capacity;
+        this.totalOpens = new Leaderboard(capacity);
+        this.jewelry = Leaderboard.unbounded();
+    }
+
+    /**
+     * Records openings of a player.
+     *
+     * @param playerUuid The UUID of the player.
+     * @param caseId The ID of the opened case.
+     * @param count The number of opened cases.
+     * @param totalOpened The total number of cases opened by the player, including these openings.
+     */
+    public void recordOpening(UUID playerUuid, String caseId, int count, long totalOpened) {
+        totalOpens.update(playerUuid, totalOpened);
+        getCaseOpens(caseId).increment(playerUuid, count);
+    }
+
+    /**
+     * Records the jewelry of a player, after a mutation or when seeding the leaderboard.
+     *
+     * @param playerUuid The UUID of the player.
+     * @param amount The amount of jewelry the player now owns.
+     */
+    public void updateJewelry(UUID playerUuid, long amount) {
+        jewelry.update(playerUuid, amount);
+    }
+
+    /**
+     * Returns the leaderboard of the total number of opened cases.
+     *
+     * @return The {@link Leaderboard}.
+     */
+    public Leaderboard getTotalOpens() {
+        return totalOpens;
+    }
+
+    /**
+     * Returns the leaderboard of the openings of a case.
+     *
+     * @param caseId The ID of the case.
+     * @return The {@link Leaderboard}.
+     */
+    public Leaderboard getCaseOpens(String caseId) {
+        return caseOpens.computeIfAbsent(caseId, ignored -> new Leaderboard(capacity));
+    }
+
+    /**
+     * Returns the leaderboard of the jewelry owned, which is exact and not bounded in size.
+     *
+     * @return The {@link Leaderboard}.
+     */
+    public Leaderboard getJewelry() {
+        return jewelry;
+    }
+}
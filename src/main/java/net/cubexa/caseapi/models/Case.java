@@ -17,6 +17,12 @@
  */
 package net.cubexa.caseapi.models;
 
+import net.cubexa.caseapi.sampling.RewardSampler;
+
+import java.nio.ByteBuffer;
+import java.util.Base64;
+import java.util.List;
+
 /**
  * Represents a case that can be opened in the CaseOpening plugin with identification,
  * display, price, visual appearance, and permissions.
@@ -47,6 +53,19 @@ public interface Case {
      */
     String getItemStackBase64();
 
+    /**
+     * Returns the serialized representation of the case's item stack as raw bytes.
+     * <p>
+     * Unlike {@link #getItemStackBase64()}, no string is allocated and no Base64 decoding is needed.
+     * Implementations keep the decoded bytes and return a read-only view on them. The default
+     * implementation decodes {@link #getItemStackBase64()} on every call.
+     *
+     * @return A read-only {@link ByteBuffer} with the serialized item stack.
+     */
+    default ByteBuffer getItemStackData() {
+        return ByteBuffer.wrap(Base64.getDecoder().decode(getItemStackBase64())).asReadOnlyBuffer();
+    }
+
     /**
      * Returns the original price specified when the case was created.
      * <p>
@@ -72,4 +91,21 @@ public interface Case {
      * @return The permission required for a player.
      */
     String getPermission();
+
+    /**
+     * Returns all rewards of the case, ordered by their {@link CaseReward#getIndex() index}.
+     *
+     * @return An unmodifiable list of the case's rewards.
+     */
+    List<CaseReward> getRewards();
+
+    /**
+     * Returns the {@link RewardSampler} used to draw rewards from this case.
+     * <p>
+     * The sampler is built once when the case is loaded and rebuilt whenever the case is edited.
+     * Limited rewards that run out are removed from it without a rebuild.
+     *
+     * @return The reward sampler of the case.
+     */
+    RewardSampler getRewardSampler();
 }
\ No newline at end of file
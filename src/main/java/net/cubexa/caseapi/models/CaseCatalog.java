@@ -0,0 +1,132 @@
+/*
+ * CaseAPI, a Minecraft plugin API by Cubexa Studio
+ * Copyright (C) 2025 Cubexa Studio <https://cubexa.net>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.cubexa.caseapi.models;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Immutable, versioned snapshot of all loaded cases.
+ * <p>
+ * A new snapshot with a higher version is created on every reload or case edit and swapped in
+ * atomically, so lookups are plain map reads without locks or futures. Consumers can cache
+ * derived data, such as tab-completion lists, keyed by {@link #getVersion()}.
+ */
+public final class CaseCatalog {
+
+    private static final CaseCatalog EMPTY = new CaseCatalog(0, Collections.emptyMap());
+
+    private final long version;
+    private final Map<String, Case> cases;
+
+    /**
+     * Constructs a new {@code CaseCatalog}.
+     *
+     * @param version The version of the snapshot.
+     * @param cases The cases keyed by case ID, in display order.
+     */
+    private CaseCatalog(long version, Map<String, Case> cases) {
+        this.version = version;
+        this.cases = cases;
+    }
+
+    /**
+     * Returns an empty catalog with version {@code 0}.
+     *
+     * @return The empty {@code CaseCatalog}.
+     */
+    public static CaseCatalog empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Creates the next snapshot containing the given cases, with a version one higher than this one.
+     *
+     * @param cases The cases of the new snapshot, in display order.
+     * @return The new {@code CaseCatalog}.
+     * @throws IllegalArgumentException If two cases share the same ID.
+     */
+    public CaseCatalog next(Collection<? extends Case> cases) {
+        Map<String, Case> byId = new LinkedHashMap<>();
+        for (Case crate : cases) {
+            if (byId.put(crate.getCaseId(), crate) != null) {
+                throw new IllegalArgumentException("Duplicate case ID " + crate.getCaseId());
+            }
+        }
+        return new CaseCatalog(version + 1, Collections.unmodifiableMap(byId));
+    }
+
+    /**
+     * Returns the version of this snapshot. Versions only ever increase.
+     *
+     * @return The snapshot version.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns the case with the given ID.
+     *
+     * @param caseId The ID of the case.
+     * @return The {@link Case}, or {@code null} if no such case exists.
+     */
+    public Case getCase(String caseId) {
+        return cases.get(caseId);
+    }
+
+    /**
+     * Checks whether a case with the given ID exists.
+     *
+     * @param caseId The ID of the case.
+     * @return {@code true} if the case exists; {@code false} otherwise.
+     */
+    public boolean contains(String caseId) {
+        return cases.containsKey(caseId);
+    }
+
+    /**
+     * Returns all cases in display order.
+     *
+     * @return An unmodifiable collection of all cases.
+     */
+    public Collection<Case> getCases() {
+        return cases.values();
+    }
+
+    /**
+     * Returns the IDs of all cases in display order.
+     *
+     * @return An unmodifiable set of all case IDs.
+     */
+    public Set<String> getCaseIds() {
+        return cases.keySet();
+    }
+
+    /**
+     * Returns the number of cases.
+     *
+     * @return The number of cases.
+     */
+    public int size() {
+        return cases.size();
+    }
+}
@@ -17,7 +17,11 @@
  */
 package net.cubexa.caseapi.models;
 
+import net.cubexa.caseapi.text.MessageTemplate;
+
+import java.nio.ByteBuffer;
 import java.time.Duration;
+import java.util.Base64;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 
@@ -64,6 +68,23 @@ public interface CaseReward {
      */
     String getItemStackBase64();
 
+    /**
+     * Returns the serialized item stack for the reward as raw bytes.
+     * <p>
+     * Unlike {@link #getItemStackBase64()}, no string is allocated and no Base64 decoding is needed.
+     * Implementations keep the decoded bytes and return a read-only view on them. The default
+     * implementation decodes {@link #getItemStackBase64()} on every call.
+     * <p>
+     * Only applicable if {@link #getType()} is {@link CaseRewardType#ITEM}.
+     *
+     * @return A read-only {@link ByteBuffer} with the serialized item stack, or {@code null} if not applicable.
+     */
+    default ByteBuffer getItemStackData() {
+        String base64 = getItemStackBase64();
+        if (base64 == null) return null;
+        return ByteBuffer.wrap(Base64.getDecoder().decode(base64)).asReadOnlyBuffer();
+    }
+
     /**
      * Checks if the reward should trigger a broadcast message when won.
      *
@@ -116,9 +137,33 @@ public interface CaseReward {
 
     /**
      * Reduces the remaining draws by one.
+     * <p>
+     * This is not an atomic check-then-act operation. When rewards are drawn concurrently,
+     * use {@link #tryReserveDraw()} instead.
      */
     void reduceRemainingDraws();
 
+    /**
+     * Atomically reserves one draw of this reward.
+     * <p>
+     * For limited rewards the remaining draws are reduced by one if at least one is left.
+     * The check and the reduction happen in a single lock-free step, so concurrent openings
+     * can never issue more draws than {@link #getMaxDraws()} allows.
+     * Unlimited rewards always grant the reservation.
+     *
+     * @return {@code true} if the draw was reserved; {@code false} if no draws are left.
+     * @see net.cubexa.caseapi.utils.DrawCounter
+     */
+    boolean tryReserveDraw();
+
+    /**
+     * Releases a draw previously reserved with {@link #tryReserveDraw()}.
+     * <p>
+     * This should be called if the opening fails after the reservation, so the draw becomes
+     * available again. Has no effect on unlimited rewards.
+     */
+    void releaseDraw();
+
     /**
      * Returns the amount of gems awarded by the reward.
      * <p>
@@ -146,6 +191,20 @@ public interface CaseReward {
      */
     String getCommand();
 
+    /**
+     * Returns the command associated with the reward as a precompiled {@link MessageTemplate}.
+     * <p>
+     * Only applicable if {@link #getType()} is {@link CaseRewardType#COMMAND}.
+     * Implementations compile the command once when the case is loaded; the default implementation
+     * compiles it on every call.
+     *
+     * @return The command template, or {@code null} if not applicable.
+     */
+    default MessageTemplate getCommandTemplate() {
+        String command = getCommand();
+        return command == null ? null : MessageTemplate.compile(command);
+    }
+
     /**
      * Returns the permission granted by the reward.
      * <p>
@@ -191,6 +250,9 @@ public interface CaseReward {
      * <p>
      * Each reward type provides its own implementation.
      * This method should <b>not</b> be called directly on manually created instances.
+     * To apply many rewards at once, submit them to the {@link net.cubexa.caseapi.rewards.RewardApplicationPipeline}
+     * instead, which batches them per tick.
+     * The returned future runs on the executors of the configured {@link net.cubexa.caseapi.concurrent.ExecutorProvider}.
      *
      * @param playerUuid The UUID of the player to receive the reward.
      * @param crate The {@link Case} from which the player has drawn the reward.
@@ -0,0 +1,73 @@
+/*
+ * CaseAPI, a Minecraft plugin API by Cubexa Studio
+ * Copyright (C) 2025 Cubexa Studio <https://cubexa.net>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.cubexa.caseapi.rewards;
+
+import net.cubexa.caseapi.models.Case;
+import net.cubexa.caseapi.models.CaseReward;
+
+import java.util.UUID;
+
+/**
+ * A reward waiting in the {@link RewardApplicationPipeline} to be applied to a player.
+ */
+public final class QueuedReward {
+
+    private final UUID playerUuid;
+    private final Case crate;
+    private final CaseReward reward;
+
+    /**
+     * Constructs a new {@code QueuedReward}.
+     *
+     * @param playerUuid The UUID of the player receiving the reward.
+     * @param crate The {@link Case} the reward was drawn from.
+     * @param reward The {@link CaseReward} to apply.
+     */
+    public QueuedReward(UUID playerUuid, Case crate, CaseReward reward) {
+        this.playerUuid = playerUuid;
+        this.crate = crate;
+        this.reward = reward;
+    }
+
+    /**
+     * Returns the UUID of the player receiving the reward.
+     *
+     * @return The UUID of the player.
+     */
+    public UUID getPlayerUuid() {
+        return playerUuid;
+    }
+
+    /**
+     * Returns the case the reward was drawn from.
+     *
+     * @return The {@link Case}.
+     */
+    public Case getCase() {
+        return crate;
+    }
+
+    /**
+     * Returns the reward to apply.
+     *
+     * @return The {@link CaseReward}.
+     */
+    public CaseReward getReward() {
+        return reward;
+    }
+}
@@ -0,0 +1,374 @@
+/*
+ * CaseAPI, a Minecraft plugin API by Cubexa Studio
+ * Copyright (C) 2025 Cubexa Studio <https://cubexa.net>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.cubexa.caseapi.rewards;
+
+import net.cubexa.caseapi.models.Case;
+import net.cubexa.caseapi.models.CaseReward;
+import net.cubexa.caseapi.models.CaseRewardType;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Queues applied rewards and applies them once per tick, grouped by {@link CaseRewardType}.
+ * <p>
+ * All {@link CaseRewardType#MONEY} and {@link CaseRewardType#GEMS} rewards a player received within
+ * one tick are summed into a single deposit. The rewards of every other type are handed to the
+ * {@link RewardBatchHandler} as one batch per type. Requests against the backends are limited to the
+ * configured concurrency; further requests wait in order until a running one completes.
+ */
+public class RewardApplicationPipeline {
+
+    private final RewardApplicationSettings settings;
+    private final RewardBatchHandler handler;
+    private final ScheduledExecutorService executor;
+    private final ConcurrentLinkedQueue<Entry> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger queued = new AtomicInteger();
+    private final AtomicBoolean sizeFlushRequested = new AtomicBoolean();
+    private final ConcurrentLinkedQueue<Request> waiting = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger waitingCount = new AtomicInteger();
+    private final AtomicInteger peakWaiting = new AtomicInteger();
+    private final AtomicInteger running = new AtomicInteger();
+    private final AtomicInteger drainPasses = new AtomicInteger();
+    private final LongAdder appliedRewards = new LongAdder();
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder delayedRequests = new LongAdder();
+    private final LongAdder failedRequests = new LongAdder();
+    private final Set<CompletableFuture<Void>> inFlight = ConcurrentHashMap.newKeySet();
+    private ScheduledFuture<?> scheduledTick;
+
+    /**
+     * Constructs a new {@code RewardApplicationPipeline}.
+     *
+     * @param settings The settings controlling the tick interval and concurrency.
+     * @param handler The {@link RewardBatchHandler} applying the batches.
+     * @param executor The executor used for ticks and size-triggered flushes.
+     */
+    public RewardApplicationPipeline(RewardApplicationSettings settings, RewardBatchHandler handler,
+                                     ScheduledExecutorService executor) {
+        this.settings = settings;
+        this.handler = handler;
+        this.executor = executor;
+    }
+
+    /**
+     * Starts applying queued rewards in the configured interval.
+     * <p>
+     * Calling this method on an already started pipeline has no effect.
+     */
+    public synchronized void start() {
+        if (scheduledTick != null) return;
+        long interval = settings.getTickInterval().toMillis();
+        scheduledTick = executor.scheduleWithFixedDelay(this::flush, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Stops the periodic ticks and applies all queued rewards.
+     * <p>
+     * This should be called on shutdown.
+     *
+     * @return A {@link CompletableFuture} that completes once all queued rewards are applied.
+     */
+    public CompletableFuture<Void> close() {
+        synchronized (this) {
+            if (scheduledTick != null) {
+                scheduledTick.cancel(false);
+                scheduledTick = null;
+            }
+        }
+        return flush();
+    }
+
+    /**
+     * Queues a reward to be applied with the next tick.
+     *
+     * @param playerUuid The UUID of the player to receive the reward.
+     * @param crate The {@link Case} from which the player has drawn the reward.
+     * @param reward The {@link CaseReward} to apply.
+     * @return A {@link CompletableFuture} holding {@code true} once the reward was applied successfully;
+     *         {@code false} otherwise.
+     */
+    public CompletableFuture<Boolean> submit(UUID playerUuid, Case crate, CaseReward reward) {
+        Entry entry = new Entry(new QueuedReward(playerUuid, crate, reward));
+        queue.add(entry);
+        if (queued.incrementAndGet() >= settings.getMaxQueuedRewards() && sizeFlushRequested.compareAndSet(false, true)) {
+            executor.execute(() -> {
+                sizeFlushRequested.set(false);
+                flush();
+            });
+        }
+        return entry.result;
+    }
+
+    /**
+     * Applies all queued rewards now.
+     *
+     * @return A {@link CompletableFuture} that completes once these and all earlier flushed rewards still in
+     *         flight are applied.
+     */
+    public CompletableFuture<Void> flush() {
+        List<Entry> drained = new ArrayList<>();
+        Entry entry;
+        while ((entry = queue.poll()) != null) {
+            queued.decrementAndGet();
+            drained.add(entry);
+        }
+
+        Map<UUID, List<Entry>> money = new LinkedHashMap<>();
+        Map<UUID, List<Entry>> gems = new LinkedHashMap<>();
+        Map<CaseRewardType, List<Entry>> batches = new EnumMap<>(CaseRewardType.class);
+        for (Entry queuedEntry : drained) {
+            QueuedReward reward = queuedEntry.reward;
+            CaseRewardType type = reward.getReward().getType();
+            if (type == CaseRewardType.MONEY) {
+                money.computeIfAbsent(reward.getPlayerUuid(), ignored -> new ArrayList<>()).add(queuedEntry);
+            } else if (type == CaseRewardType.GEMS) {
+                gems.computeIfAbsent(reward.getPlayerUuid(), ignored -> new ArrayList<>()).add(queuedEntry);
+            } else {
+                batches.computeIfAbsent(type, ignored -> new ArrayList<>()).add(queuedEntry);
+            }
+        }
+
+        List<CompletableFuture<Void>> results = new ArrayList<>();
+        for (Map.Entry<UUID, List<Entry>> player : money.entrySet()) {
+            double amount = 0;
+            for (Entry moneyEntry : player.getValue()) {
+                Double value = moneyEntry.reward.getReward().getMoneyAmount();
+                if (value != null) amount += value;
+            }
+            double total = amount;
+            List<Boolean> outcomes = Collections.nCopies(player.getValue().size(), true);
+            results.add(submitRequest(player.getValue(),
+                    () -> handler.depositMoney(player.getKey(), total).thenApply(ignored -> outcomes)));
+        }
+        for (Map.Entry<UUID, List<Entry>> player : gems.entrySet()) {
+            long amount = 0;
+            for (Entry gemsEntry : player.getValue()) {
+                Integer value = gemsEntry.reward.getReward().getGemsAmount();
+                if (value != null) amount += value;
+            }
+            long total = amount;
+            List<Boolean> outcomes = Collections.nCopies(player.getValue().size(), true);
+            results.add(submitRequest(player.getValue(),
+                    () -> handler.depositGems(player.getKey(), total).thenApply(ignored -> outcomes)));
+        }
+        for (Map.Entry<CaseRewardType, List<Entry>> batch : batches.entrySet()) {
+            List<QueuedReward> rewards = new ArrayList<>(batch.getValue().size());
+            for (Entry batchEntry : batch.getValue()) {
+                rewards.add(batchEntry.reward);
+            }
+            results.add(submitRequest(batch.getValue(), () -> handler.applyBatch(batch.getKey(), rewards)));
+        }
+
+        CompletableFuture<Void> applied = CompletableFuture.allOf(results.toArray(new CompletableFuture<?>[0]));
+        inFlight.add(applied);
+        applied.whenComplete((ignored, throwable) -> inFlight.remove(applied));
+        List<CompletableFuture<Void>> outstanding = new ArrayList<>(inFlight);
+        outstanding.add(applied);
+        return CompletableFuture.allOf(outstanding.toArray(new CompletableFuture<?>[0]));
+    }
+
+    /**
+     * Returns the number of rewards waiting for the next tick.
+     *
+     * @return The number of queued rewards.
+     */
+    public int getQueuedRewards() {
+        return queued.get();
+    }
+
+    /**
+     * Returns the number of requests currently running against the backends.
+     *
+     * @return The number of running requests.
+     */
+    public int getRunningRequests() {
+        return running.get();
+    }
+
+    /**
+     * Returns the number of requests waiting for the concurrency limit.
+     * <p>
+     * A steadily growing value indicates that the backends cannot keep up.
+     *
+     * @return The number of waiting requests.
+     */
+    public int getWaitingRequests() {
+        return waitingCount.get();
+    }
+
+    /**
+     * Returns the highest number of requests that were waiting for the concurrency limit at once.
+     *
+     * @return The peak number of waiting requests.
+     */
+    public int getPeakWaitingRequests() {
+        return peakWaiting.get();
+    }
+
+    /**
+     * Returns the number of rewards the backends applied successfully.
+     *
+     * @return The number of applied rewards.
+     */
+    public long getAppliedRewards() {
+        return appliedRewards.sum();
+    }
+
+    /**
+     * Returns the number of requests sent to the backends. Together with {@link #getAppliedRewards()},
+     * this shows how many requests were saved by batching.
+     *
+     * @return The number of requests.
+     */
+    public long getRequests() {
+        return requests.sum();
+    }
+
+    /**
+     * Returns the number of requests that could not start immediately because the concurrency limit was reached.
+     *
+     * @return The number of delayed requests.
+     */
+    public long getDelayedRequests() {
+        return delayedRequests.sum();
+    }
+
+    /**
+     * Returns the number of requests that failed or reported an unsuccessful application for at least one reward.
+     *
+     * @return The number of failed requests.
+     */
+    public long getFailedRequests() {
+        return failedRequests.sum();
+    }
+
+    /**
+     * Queues a request behind the concurrency limit and completes the result of each of its rewards with
+     * that reward's outcome.
+     * <p>
+     * If the request fails or does not report exactly one outcome per reward, all of its rewards fail.
+     *
+     * @param entries The rewards covered by the request.
+     * @param call Starts the request.
+     * @return A {@link CompletableFuture} that completes once the results are completed; never completes exceptionally.
+     */
+    private CompletableFuture<Void> submitRequest(List<Entry> entries, Supplier<CompletableFuture<List<Boolean>>> call) {
+        Request request = new Request(call);
+        int waitingNow = waitingCount.incrementAndGet();
+        peakWaiting.accumulateAndGet(waitingNow, Math::max);
+        waiting.add(request);
+        if (running.get() >= settings.getMaxConcurrentRequests()) delayedRequests.increment();
+        drain();
+        return request.result.handle((outcomes, throwable) -> {
+            boolean complete = throwable == null && outcomes != null && outcomes.size() == entries.size();
+            int applied = 0;
+            for (int i = 0; i < entries.size(); i++) {
+                boolean success = complete && Boolean.TRUE.equals(outcomes.get(i));
+                if (success) applied++;
+                entries.get(i).result.complete(success);
+            }
+            if (applied < entries.size()) failedRequests.increment();
+            appliedRewards.add(applied);
+            return null;
+        });
+    }
+
+    /**
+     * Starts waiting requests while the concurrency limit allows it.
+     * <p>
+     * Only one thread drains at a time. Calls made while another thread is draining make that thread
+     * repeat its pass, so requests that complete synchronously do not recurse.
+     */
+    private void drain() {
+        if (drainPasses.getAndIncrement() != 0) return;
+        do {
+            while (!waiting.isEmpty() && running.get() < settings.getMaxConcurrentRequests()) {
+                Request request = waiting.poll();
+                if (request == null) break;
+                waitingCount.decrementAndGet();
+                running.incrementAndGet();
+                requests.increment();
+                CompletableFuture<List<Boolean>> call;
+                try {
+                    call = request.call.get();
+                } catch (RuntimeException e) {
+                    call = CompletableFuture.failedFuture(e);
+                }
+                call.whenComplete((outcomes, throwable) -> {
+                    running.decrementAndGet();
+                    if (throwable != null) request.result.completeExceptionally(throwable);
+                    else request.result.complete(outcomes);
+                    drain();
+                });
+            }
+        } while (drainPasses.decrementAndGet() != 0);
+    }
+
+    /**
+     * A queued reward together with the future handed out by {@link #submit(UUID, Case, CaseReward)}.
+     */
+    private static final class Entry {
+
+        private final QueuedReward reward;
+        private final CompletableFuture<Boolean> result = new CompletableFuture<>();
+
+        /**
+         * Constructs a new entry.
+         *
+         * @param reward The queued reward.
+         */
+        private Entry(QueuedReward reward) {
+            this.reward = reward;
+        }
+    }
+
+    /**
+     * A request waiting for the concurrency limit.
+     */
+    private static final class Request {
+
+        private final Supplier<CompletableFuture<List<Boolean>>> call;
+        private final CompletableFuture<List<Boolean>> result = new CompletableFuture<>();
+
+        /**
+         * Constructs a new request.
+         *
+         * @param call Starts the request.
+         */
+        private Request(Supplier<CompletableFuture<List<Boolean>>> call) {
+            this.call = call;
+        }
+    }
+}
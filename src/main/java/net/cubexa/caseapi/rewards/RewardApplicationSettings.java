@@ -0,0 +1,86 @@
+/*
+ * CaseAPI, a Minecraft plugin API by Cubexa Studio
+ * Copyright (C) 2025 Cubexa Studio <https://cubexa.net>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.cubexa.caseapi.rewards;
+
+import java.time.Duration;
+
+/**
+ * Configuration of the {@link RewardApplicationPipeline}.
+ */
+public class RewardApplicationSettings {
+
+    private final Duration tickInterval;
+    private final int maxConcurrentRequests;
+    private final int maxQueuedRewards;
+
+    /**
+     * Constructs new {@code RewardApplicationSettings}.
+     *
+     * @param tickInterval The interval in which queued rewards are applied.
+     * @param maxConcurrentRequests The maximum number of requests running against the backends at once.
+     * @param maxQueuedRewards The number of queued rewards that triggers an early flush.
+     * @throws IllegalArgumentException If the interval is not positive or one of the limits is less than {@code 1}.
+     */
+    public RewardApplicationSettings(Duration tickInterval, int maxConcurrentRequests, int maxQueuedRewards) {
+        if (tickInterval == null || tickInterval.isZero() || tickInterval.isNegative()) {
+            throw new IllegalArgumentException("tickInterval must be positive");
+        }
+        if (maxConcurrentRequests < 1) throw new IllegalArgumentException("maxConcurrentRequests must be at least 1");
+        if (maxQueuedRewards < 1) throw new IllegalArgumentException("maxQueuedRewards must be at least 1");
+        this.tickInterval = tickInterval;
+        this.maxConcurrentRequests = maxConcurrentRequests;
+        this.maxQueuedRewards = maxQueuedRewards;
+    }
+
+    /**
+     * Returns the default settings, applying rewards every server tick ({@code 50} milliseconds) with at most
+     * {@code 8} concurrent requests, or as soon as {@code 5000} rewards are queued.
+     *
+     * @return The default {@code RewardApplicationSettings}.
+     */
+    public static RewardApplicationSettings defaults() {
+        return new RewardApplicationSettings(Duration.ofMillis(50), 8, 5000);
+    }
+
+    /**
+     * Gets the interval in which queued rewards are applied.
+     *
+     * @return The tick interval.
+     */
+    public Duration getTickInterval() {
+        return tickInterval;
+    }
+
+    /**
+     * Gets the maximum number of requests running against the backends at once.
+     *
+     * @return The concurrency limit.
+     */
+    public int getMaxConcurrentRequests() {
+        return maxConcurrentRequests;
+    }
+
+    /**
+     * Gets the number of queued rewards that triggers an early flush.
+     *
+     * @return The size threshold.
+     */
+    public int getMaxQueuedRewards() {
+        return maxQueuedRewards;
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * CaseAPI, a Minecraft plugin API by Cubexa Studio
+ * Copyright (C) 2025 Cubexa Studio <https://cubexa.net>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.cubexa.caseapi.rewards;
+
+import net.cubexa.caseapi.models.CaseRewardType;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Applies the batches flushed by the {@link RewardApplicationPipeline} to the economy, gem and
+ * server backends.
+ */
+public interface RewardBatchHandler {
+
+    /**
+     * Deposits the summed amount of all {@link CaseRewardType#MONEY} rewards a player received within one tick.
+     *
+     * @param playerUuid The UUID of the player.
+     * @param amount The total amount of money to deposit.
+     * @return A {@link CompletableFuture} that completes once the money is deposited, or completes
+     *         exceptionally if the deposit failed.
+     */
+    CompletableFuture<Void> depositMoney(UUID playerUuid, double amount);
+
+    /**
+     * Deposits the summed amount of all {@link CaseRewardType#GEMS} rewards a player received within one tick.
+     *
+     * @param playerUuid The UUID of the player.
+     * @param amount The total amount of gems to deposit.
+     * @return A {@link CompletableFuture} that completes once the gems are deposited, or completes
+     *         exceptionally if the deposit failed.
+     */
+    CompletableFuture<Void> depositGems(UUID playerUuid, long amount);
+
+    /**
+     * Applies all rewards of one type that were queued within one tick, for example by dispatching
+     * all {@link CaseRewardType#COMMAND} rewards in a single task on the main thread.
+     * <p>
+     * The default implementation calls {@link net.cubexa.caseapi.models.CaseReward#apply(UUID, net.cubexa.caseapi.models.Case)}
+     * for each reward.
+     *
+     * @param type The {@link CaseRewardType} shared by all rewards of the batch. Never {@link CaseRewardType#MONEY}
+     *             or {@link CaseRewardType#GEMS}.
+     * @param rewards The queued rewards in the order they were submitted.
+     * @return A {@link CompletableFuture} holding, in the order of {@code rewards}, {@code true} for each reward
+     *         that was applied successfully and {@code false} for each reward that was not.
+     */
+    default CompletableFuture<List<Boolean>> applyBatch(CaseRewardType type, List<QueuedReward> rewards) {
+        List<CompletableFuture<Boolean>> results = new ArrayList<>(rewards.size());
+        for (QueuedReward queued : rewards) {
+            CompletableFuture<Boolean> result;
+            try {
+                result = queued.getReward().apply(queued.getPlayerUuid(), queued.getCase());
+            } catch (RuntimeException e) {
+                result = CompletableFuture.failedFuture(e);
+            }
+            results.add(result.handle((success, throwable) -> throwable == null && Boolean.TRUE.equals(success)));
+        }
+        return CompletableFuture.allOf(results.toArray(new CompletableFuture<?>[0])).thenApply(ignored -> {
+            List<Boolean> outcomes = new ArrayList<>(results.size());
+            for (CompletableFuture<Boolean> result : results) {
+                outcomes.add(result.join());
+            }
+            return outcomes;
+        });
+    }
+}
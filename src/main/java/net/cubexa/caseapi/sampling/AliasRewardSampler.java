@@ -0,0 +1,164 @@
+/*
+ * CaseAPI, a Minecraft plugin API by Cubexa Studio
+ * Copyright (C) 2025 Cubexa Studio <https://cubexa.net>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.cubexa.caseapi.sampling;
+
+import net.cubexa.caseapi.models.CaseReward;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.random.RandomGenerator;
+
+/**
+ * {@link RewardSampler} based on Vose's alias method.
+ * <p>
+ * Draws take constant time regardless of the number of rewards. The table is built once,
+ * so this sampler is meant for cases without limited rewards. Changing the availability
+ * of a reward requires rebuilding the whole table.
+ */
+public class AliasRewardSampler implements RewardSampler {
+
+    private final CaseReward[] rewards;
+    private volatile Table table;
+
+    /**
+     * Constructs a new {@code AliasRewardSampler} and builds its alias table.
+     *
+     * @param rewards The rewards of the case.
+     */
+    public AliasRewardSampler(List<? extends CaseReward> rewards) {
+        this.rewards = rewards.toArray(new CaseReward[0]);
+        this.table = build(this.rewards);
+    }
+
+    @Override
+    public CaseReward sample(RandomGenerator random) {
+        for (int attempt = 0; attempt <= rewards.length; attempt++) {
+            Table current = table;
+            if (current.totalChance <= 0) return null;
+            int column = random.nextInt(rewards.length);
+            CaseReward reward = rewards[random.nextDouble() < current.probability[column] ? column : current.alias[column]];
+            if (reward.tryReserveDraw()) return reward;
+            table = build(rewards);
+        }
+        return null;
+    }
+
+    @Override
+    public double getTotalChance() {
+        return table.totalChance;
+    }
+
+    @Override
+    public int size() {
+        return rewards.length;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The alias table is rebuilt in {@code O(n)}.
+     */
+    @Override
+    public void update(CaseReward reward) {
+        for (CaseReward known : rewards) {
+            if (known == reward) {
+                table = build(rewards);
+                return;
+            }
+        }
+        throw new IllegalArgumentException("Reward with index " + reward.getIndex() + " is not part of this sampler");
+    }
+
+    /**
+     * Builds the alias table for the given rewards using only available rewards.
+     *
+     * @param rewards The rewards to build the table for.
+     * @return The new alias table.
+     */
+    private static Table build(CaseReward[] rewards) {
+        int size = rewards.length;
+        double[] weights = new double[size];
+        double total = 0;
+        for (int i = 0; i < size; i++) {
+            weights[i] = weightOf(rewards[i]);
+            total += weights[i];
+        }
+
+        double[] probability = new double[size];
+        int[] alias = new int[size];
+        if (total <= 0) return new Table(probability, alias, 0);
+
+        double[] scaled = new double[size];
+        Deque<Integer> small = new ArrayDeque<>();
+        Deque<Integer> large = new ArrayDeque<>();
+        for (int i = 0; i < size; i++) {
+            scaled[i] = weights[i] * size / total;
+            if (scaled[i] < 1) small.push(i);
+            else large.push(i);
+        }
+
+        while (!small.isEmpty() && !large.isEmpty()) {
+            int less = small.pop();
+            int more = large.pop();
+            probability[less] = scaled[less];
+            alias[less] = more;
+            scaled[more] = scaled[more] + scaled[less] - 1;
+            if (scaled[more] < 1) small.push(more);
+            else large.push(more);
+        }
+        while (!large.isEmpty()) probability[large.pop()] = 1;
+        while (!small.isEmpty()) probability[small.pop()] = 1;
+
+        return new Table(probability, alias, total);
+    }
+
+    /**
+     * Returns the sampling weight of a reward.
+     *
+     * @param reward The reward.
+     * @return The base chance if the reward is available; {@code 0} otherwise.
+     */
+    static double weightOf(CaseReward reward) {
+        if (!reward.isAvailable()) return 0;
+        return Math.max(0, reward.getChance());
+    }
+
+    /**
+     * Immutable alias table, swapped as a whole on rebuild.
+     */
+    private static final class Table {
+
+        private final double[] probability;
+        private final int[] alias;
+        private final double totalChance;
+
+        /**
+         * Constructs a new alias table.
+         *
+         * @param probability The probability of keeping each column.
+         * @param alias The alias of each column.
+         * @param totalChance The sum of all weights.
+         */
+        private Table(double[] probability, int[] alias, double totalChance) {
+            this.probability = probability;
+            this.alias = alias;
+            this.totalChance = totalChance;
+        }
+    }
+}
@@ -0,0 +1,179 @@
+/*
+ * CaseAPI, a Minecraft plugin API by Cubexa Studio
+ * Copyright (C) 2025 Cubexa Studio <https://cubexa.net>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.cubexa.caseapi.sampling;
+
+import net.cubexa.caseapi.models.CaseReward;
+
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.random.RandomGenerator;
+
+/**
+ * {@link RewardSampler} based on a Fenwick tree over the reward chances.
+ * <p>
+ * Draws and weight updates both take {@code O(log n)}. A depleted reward is removed by
+ * setting its weight to zero instead of rebuilding the sampler, which makes this sampler
+ * suitable for cases with limited rewards.
+ * <p>
+ * Drawn rewards whose draw cannot be reserved are detected on the fly, removed from the tree,
+ * and the draw is repeated.
+ */
+public class FenwickRewardSampler implements RewardSampler {
+
+    private final CaseReward[] rewards;
+    private final Map<CaseReward, Integer> slots;
+    private final double[] weights;
+    private final double[] tree;
+    private final int highestStep;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * Constructs a new {@code FenwickRewardSampler} and builds its tree in {@code O(n)}.
+     *
+     * @param rewards The rewards of the case.
+     */
+    public FenwickRewardSampler(List<? extends CaseReward> rewards) {
+        this.rewards = rewards.toArray(new CaseReward[0]);
+        this.slots = new IdentityHashMap<>();
+        this.weights = new double[this.rewards.length];
+        this.tree = new double[this.rewards.length + 1];
+        this.highestStep = this.rewards.length == 0 ? 0 : Integer.highestOneBit(this.rewards.length);
+
+        for (int i = 0; i < this.rewards.length; i++) {
+            slots.put(this.rewards[i], i);
+            weights[i] = AliasRewardSampler.weightOf(this.rewards[i]);
+            tree[i + 1] += weights[i];
+            int parent = (i + 1) + ((i + 1) & -(i + 1));
+            if (parent <= this.rewards.length) tree[parent] += tree[i + 1];
+        }
+    }
+
+    @Override
+    public CaseReward sample(RandomGenerator random) {
+        for (int attempt = 0; attempt <= rewards.length; attempt++) {
+            int slot;
+            lock.readLock().lock();
+            try {
+                double total = prefixSum(rewards.length);
+                if (total <= 0) return null;
+                slot = find(Math.min(random.nextDouble() * total, Math.nextDown(total)));
+            } finally {
+                lock.readLock().unlock();
+            }
+            if (slot < 0) continue;
+
+            CaseReward reward = rewards[slot];
+            if (reward.tryReserveDraw()) return reward;
+            deplete(slot, reward);
+        }
+        return null;
+    }
+
+    @Override
+    public double getTotalChance() {
+        lock.readLock().lock();
+        try {
+            return prefixSum(rewards.length);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public int size() {
+        return rewards.length;
+    }
+
+    @Override
+    public void update(CaseReward reward) {
+        Integer slot = slots.get(reward);
+        if (slot == null) {
+            throw new IllegalArgumentException("Reward with index " + reward.getIndex() + " is not part of this sampler");
+        }
+        setWeight(slot, AliasRewardSampler.weightOf(reward));
+    }
+
+    /**
+     * Removes a reward whose draw could not be reserved from the tree.
+     * <p>
+     * Availability is checked again after the removal, so a draw released concurrently is not lost.
+     *
+     * @param slot The zero-based slot of the reward.
+     * @param reward The reward.
+     */
+    private void deplete(int slot, CaseReward reward) {
+        setWeight(slot, 0);
+        if (reward.isAvailable()) setWeight(slot, AliasRewardSampler.weightOf(reward));
+    }
+
+    /**
+     * Sets the weight of a slot and propagates the difference through the tree.
+     *
+     * @param slot The zero-based slot of the reward.
+     * @param weight The new weight.
+     */
+    private void setWeight(int slot, double weight) {
+        lock.writeLock().lock();
+        try {
+            double delta = weight - weights[slot];
+            if (delta == 0) return;
+            weights[slot] = weight;
+            for (int i = slot + 1; i <= rewards.length; i += i & -i) {
+                tree[i] += delta;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the sum of the first {@code count} weights.
+     *
+     * @param count The number of weights to sum.
+     * @return The prefix sum.
+     */
+    private double prefixSum(int count) {
+        double sum = 0;
+        for (int i = count; i > 0; i -= i & -i) {
+            sum += tree[i];
+        }
+        return sum;
+    }
+
+    /**
+     * Finds the slot whose cumulative weight range contains the given target.
+     *
+     * @param target A value in {@code [0, totalChance)}.
+     * @return The zero-based slot, or {@code -1} if rounding errors of the tree led to a slot without weight.
+     */
+    private int find(double target) {
+        int position = 0;
+        for (int step = highestStep; step > 0; step >>= 1) {
+            int next = position + step;
+            if (next <= rewards.length && tree[next] <= target) {
+                position = next;
+                target -= tree[next];
+            }
+        }
+        if (position >= rewards.length || weights[position] <= 0) return -1;
+        return position;
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * CaseAPI, a Minecraft plugin API by Cubexa Studio
+ * Copyright (C) 2025 Cubexa Studio <https://cubexa.net>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.cubexa.caseapi.sampling;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * The random generator used for the reward draws of a single opening.
+ * <p>
+ * If the draw is replayable, its seed is recorded, and {@link RandomSource#replay(long)} recreates
+ * the exact same sequence of random numbers. This reproduces the drawn rewards only for cases without
+ * limited rewards, see {@link RandomSource#replay(long)}.
+ */
+public final class RandomDraw {
+
+    private final RandomGenerator random;
+    private final Long seed;
+
+    /**
+     * Constructs a new {@code RandomDraw}.
+     *
+     * @param random The random generator used for the draws.
+     * @param seed The seed the generator was created from, or {@code null} if the draw cannot be replayed.
+     */
+    public RandomDraw(RandomGenerator random, Long seed) {
+        this.random = random;
+        this.seed = seed;
+    }
+
+    /**
+     * Returns the random generator used for the draws of the opening.
+     *
+     * @return The {@link RandomGenerator}.
+     */
+    public RandomGenerator getRandom() {
+        return random;
+    }
+
+    /**
+     * Returns the seed of the generator, which should be stored alongside the opening to replay it.
+     *
+     * @return The seed, or {@code null} if the draw cannot be replayed.
+     */
+    public Long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Checks whether the draw can be replayed from its seed.
+     *
+     * @return {@code true} if a seed was recorded; {@code false} otherwise.
+     */
+    public boolean isReplayable() {
+        return seed != null;
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * CaseAPI, a Minecraft plugin API by Cubexa Studio
+ * Copyright (C) 2025 Cubexa Studio <https://cubexa.net>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.cubexa.caseapi.sampling;
+
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
+
+/**
+ * Supplies the {@link RandomGenerator}s used for reward draws.
+ * <p>
+ * {@link #open(UUID, String)} is called once per opening, and all draws of that opening, including
+ * every draw of a bulk opening, use the returned generator. Implementations must not share mutable
+ * state between threads, so concurrent openings never contend on a single generator.
+ */
+public interface RandomSource {
+
+    /**
+     * Returns the random generator for the draws of one opening.
+     *
+     * @param playerUuid The UUID of the player opening the case.
+     * @param caseId The ID of the opened case.
+     * @return The {@link RandomDraw} of the opening.
+     */
+    RandomDraw open(UUID playerUuid, String caseId);
+
+    /**
+     * Returns the default source, which draws from the {@link ThreadLocalRandom} of the opening thread.
+     * Draws of this source cannot be replayed.
+     *
+     * @return The thread-local {@code RandomSource}.
+     */
+    static RandomSource threadLocal() {
+        return ThreadLocalRandomSource.INSTANCE;
+    }
+
+    /**
+     * Returns a source deriving a new seed for every opening and recording it, so any opening can be replayed
+     * with {@link #replay(long)}.
+     * <p>
+     * Each thread derives its seeds from its own {@link SplittableRandom}, split once from the master seed,
+     * so no lock or shared counter is involved per opening.
+     *
+     * @param masterSeed The seed all per-thread generators are split from.
+     * @return The seeded {@code RandomSource}.
+     */
+    static RandomSource seeded(long masterSeed) {
+        return new SeededRandomSource(masterSeed);
+    }
+
+    /**
+     * Recreates the random generator of a replayable opening.
+     * <p>
+     * Drawing from the same rewards with the same availability yields the same rewards as the opening.
+     * The seed alone therefore reproduces an opening only if its case has no
+     * {@linkplain net.cubexa.caseapi.models.CaseReward#isLimited() limited} rewards. Otherwise the draws also
+     * depend on which rewards still had draws left, which changes with every opening, including concurrent
+     * ones, and is not recorded with the seed.
+     *
+     * @param seed The seed recorded with the opening, see {@link RandomDraw#getSeed()}.
+     * @return A {@link RandomGenerator} producing the same sequence as during the opening.
+     */
+    static RandomGenerator replay(long seed) {
+        return new SplittableRandom(seed);
+    }
+}
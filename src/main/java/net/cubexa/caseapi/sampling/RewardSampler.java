@@ -0,0 +1,86 @@
+/*
+ * CaseAPI, a Minecraft plugin API by Cubexa Studio
+ * Copyright (C) 2025 Cubexa Studio <https://cubexa.net>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.cubexa.caseapi.sampling;
+
+import net.cubexa.caseapi.models.CaseReward;
+
+import java.util.List;
+import java.util.random.RandomGenerator;
+
+/**
+ * Draws {@link CaseReward}s of a case according to their base chances.
+ * <p>
+ * A sampler is built once per case and replaces the linear scan over
+ * {@link CaseReward#getChance()} and {@link CaseReward#getWinChance(double)} on every draw.
+ * Use {@link #of(List)} to obtain the best implementation for a reward list.
+ */
+public interface RewardSampler {
+
+    /**
+     * Creates a sampler for the given rewards.
+     * <p>
+     * If none of the rewards is limited, an {@link AliasRewardSampler} with {@code O(1)} draws is returned.
+     * Otherwise a {@link FenwickRewardSampler} with {@code O(log n)} draws and depletion updates is returned.
+     *
+     * @param rewards The rewards of the case.
+     * @return A {@link RewardSampler} for the given rewards.
+     */
+    static RewardSampler of(List<? extends CaseReward> rewards) {
+        for (CaseReward reward : rewards) {
+            if (reward.isLimited()) return new FenwickRewardSampler(rewards);
+        }
+        return new AliasRewardSampler(rewards);
+    }
+
+    /**
+     * Draws a random reward, weighted by the base chances of all available rewards.
+     * <p>
+     * One draw of the returned reward is reserved with {@link CaseReward#tryReserveDraw()}, so limited
+     * rewards are never handed out more often than allowed. If the opening fails afterwards, the draw
+     * must be returned with {@link CaseReward#releaseDraw()}.
+     *
+     * @param random The random generator used for the draw, usually {@link RandomDraw#getRandom()} of the opening.
+     * @return The drawn {@link CaseReward}, or {@code null} if no reward is available.
+     */
+    CaseReward sample(RandomGenerator random);
+
+    /**
+     * Returns the sum of the base chances of all currently available rewards.
+     *
+     * @return The total chance.
+     */
+    double getTotalChance();
+
+    /**
+     * Returns the number of rewards known to this sampler, including unavailable ones.
+     *
+     * @return The number of rewards.
+     */
+    int size();
+
+    /**
+     * Re-reads the availability of the given reward and updates its weight accordingly.
+     * <p>
+     * This should be called when the availability changed outside of {@link #sample(RandomGenerator)},
+     * e.g. after {@link CaseReward#releaseDraw()} or a refill of the remaining draws.
+     *
+     * @param reward The reward whose availability changed.
+     * @throws IllegalArgumentException If the reward is not part of this sampler.
+     */
+    void update(CaseReward reward);
+}
@@ -0,0 +1,58 @@
+/*
+ * CaseAPI, a Minecraft plugin API by Cubexa Studio
+ * Copyright (C) 2025 Cubexa Studio <https://cubexa.net>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.cubexa.caseapi.sampling;
+
+import java.util.SplittableRandom;
+import java.util.UUID;
+
+/**
+ * {@link RandomSource} deriving a recorded seed for every opening.
+ */
+final class SeededRandomSource implements RandomSource {
+
+    private final SplittableRandom master;
+    private final ThreadLocal<SplittableRandom> seeds;
+
+    /**
+     * Constructs a new seeded source.
+     *
+     * @param masterSeed The seed all per-thread generators are split from.
+     */
+    SeededRandomSource(long masterSeed) {
+        this.master = new SplittableRandom(masterSeed);
+        this.seeds = ThreadLocal.withInitial(this::split);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public RandomDraw open(UUID playerUuid, String caseId) {
+        long seed = seeds.get().nextLong();
+        return new RandomDraw(RandomSource.replay(seed), seed);
+    }
+
+    /**
+     * Splits a new per-thread generator off the master generator.
+     *
+     * @return The new generator.
+     */
+    private synchronized SplittableRandom split() {
+        return master.split();
+    }
+}
@@ -0,0 +1,43 @@
+/*
+ * CaseAPI, a Minecraft plugin API by Cubexa Studio
+ * Copyright (C) 2025 Cubexa Studio <https://cubexa.net>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.cubexa.caseapi.sampling;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * {@link RandomSource} drawing from the {@link ThreadLocalRandom} of the opening thread.
+ */
+final class ThreadLocalRandomSource implements RandomSource {
+
+    static final ThreadLocalRandomSource INSTANCE = new ThreadLocalRandomSource();
+
+    /**
+     * Prevents instantiation outside of {@link RandomSource#threadLocal()}.
+     */
+    private ThreadLocalRandomSource() {
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public RandomDraw open(UUID playerUuid, String caseId) {
+        return new RandomDraw(ThreadLocalRandom.current(), null);
+    }
+}
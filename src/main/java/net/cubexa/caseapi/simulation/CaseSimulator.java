@@ -0,0 +1,239 @@
+/*
+ * CaseAPI, a Minecraft plugin API by Cubexa Studio
+ * Copyright (C) 2025 Cubexa Studio <https://cubexa.net>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.cubexa.caseapi.simulation;
+
+import net.cubexa.caseapi.models.Case;
+import net.cubexa.caseapi.models.CaseReward;
+import net.cubexa.caseapi.models.CaseRewardType;
+import net.cubexa.caseapi.sampling.RewardSampler;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Monte Carlo simulation of case openings, for example to evaluate the economics of a case before launch.
+ * <p>
+ * Each trial opens the case a fixed number of times, drawing rewards with the same {@link RewardSampler}
+ * used for real openings. Limited rewards are depleted within a trial, starting from their remaining draws
+ * at the time the simulator was created. Trials run in parallel on a {@link ForkJoinPool} with independent
+ * {@link SplittableRandom} streams and work on copies of the rewards, so live state is never modified.
+ * For a given seed the results are reproducible.
+ */
+public class CaseSimulator {
+
+    private static final long OPENS_PER_TASK = 1 << 16;
+
+    private final List<CaseReward> rewards;
+    private final int[] initialDraws;
+    private final double[] moneyAmounts;
+    private final long[] gemsAmounts;
+    private final ForkJoinPool pool;
+
+    /**
+     * Constructs a new {@code CaseSimulator} for the rewards of a case, running on the common pool.
+     *
+     * @param crate The {@link Case} to simulate.
+     */
+    public CaseSimulator(Case crate) {
+        this(crate.getRewards(), ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Constructs a new {@code CaseSimulator}.
+     *
+     * @param rewards The rewards to simulate.
+     * @param pool The {@link ForkJoinPool} running the trials.
+     */
+    public CaseSimulator(List<? extends CaseReward> rewards, ForkJoinPool pool) {
+        this.rewards = new ArrayList<>(rewards);
+        this.pool = pool;
+        int size = rewards.size();
+        this.initialDraws = new int[size];
+        this.moneyAmounts = new double[size];
+        this.gemsAmounts = new long[size];
+        for (int i = 0; i < size; i++) {
+            CaseReward reward = rewards.get(i);
+            initialDraws[i] = reward.isLimited() ? reward.getRemainingDraws() : 0;
+            if (reward.getType() == CaseRewardType.MONEY && reward.getMoneyAmount() != null) {
+                moneyAmounts[i] = reward.getMoneyAmount();
+            } else if (reward.getType() == CaseRewardType.GEMS && reward.getGemsAmount() != null) {
+                gemsAmounts[i] = reward.getGemsAmount();
+            }
+        }
+    }
+
+    /**
+     * Runs the simulation.
+     *
+     * @param trials The number of independent trials.
+     * @param opensPerTrial The number of opens per trial, for example the expected number of opens during a sale.
+     * @param seed The seed of the random generator.
+     * @return The {@link SimulationResult}.
+     * @throws IllegalArgumentException If {@code trials} is less than {@code 1} or {@code opensPerTrial} is negative.
+     */
+    public SimulationResult simulate(int trials, int opensPerTrial, long seed) {
+        if (trials < 1) throw new IllegalArgumentException("trials must be at least 1");
+        if (opensPerTrial < 0) throw new IllegalArgumentException("opensPerTrial must not be negative");
+        Run run = new Run(trials, opensPerTrial);
+        long[] counts = pool.invoke(new TrialTask(run, 0, trials, new SplittableRandom(seed)));
+
+        long[] drops = new long[rewards.size()];
+        System.arraycopy(counts, 0, drops, 0, drops.length);
+        SimulationDistribution[] depletion = new SimulationDistribution[rewards.size()];
+        for (int i = 0; i < depletion.length; i++) {
+            if (run.depletedAt[i] != null) depletion[i] = new SimulationDistribution(depletedOpens(run.depletedAt[i]));
+        }
+        return new SimulationResult(trials, opensPerTrial, drops, counts[rewards.size()],
+                new SimulationDistribution(run.money), new SimulationDistribution(run.gems), depletion);
+    }
+
+    /**
+     * Collects the opens at which a reward ran out, skipping trials in which it did not.
+     *
+     * @param depletedAt The open per trial, or {@code 0} if the reward did not run out.
+     * @return The opens of the trials in which the reward ran out.
+     */
+    private static double[] depletedOpens(int[] depletedAt) {
+        int count = 0;
+        for (int open : depletedAt) {
+            if (open != 0) count++;
+        }
+        double[] values = new double[count];
+        int position = 0;
+        for (int open : depletedAt) {
+            if (open != 0) values[position++] = open;
+        }
+        return values;
+    }
+
+    /**
+     * Simulates a single trial.
+     *
+     * @param run The run collecting the per-trial results.
+     * @param trial The index of the trial.
+     * @param random The random generator of the trial.
+     * @param counts The drop counters, with the number of empty opens in the last slot.
+     */
+    private void simulateTrial(Run run, int trial, SplittableRandom random, long[] counts) {
+        List<SimulatedReward> copies = new ArrayList<>(rewards.size());
+        for (int i = 0; i < rewards.size(); i++) {
+            copies.add(new SimulatedReward(rewards.get(i), i, initialDraws[i]));
+        }
+        RewardSampler sampler = RewardSampler.of(copies);
+        double money = 0;
+        long gems = 0;
+        for (int open = 1; open <= run.opensPerTrial; open++) {
+            SimulatedReward reward = (SimulatedReward) sampler.sample(random);
+            if (reward == null) {
+                counts[rewards.size()]++;
+                continue;
+            }
+            int index = reward.getIndex();
+            counts[index]++;
+            money += moneyAmounts[index];
+            gems += gemsAmounts[index];
+            if (reward.isLimited() && !reward.isAvailable()) {
+                run.depletedAt[index][trial] = open;
+                sampler.update(reward);
+            }
+        }
+        run.money[trial] = money;
+        run.gems[trial] = gems;
+    }
+
+    /**
+     * The per-trial results of one simulation run. Each trial writes only its own slots.
+     */
+    private final class Run {
+
+        private final int opensPerTrial;
+        private final double[] money;
+        private final double[] gems;
+        private final int[][] depletedAt;
+
+        /**
+         * Constructs a new run.
+         *
+         * @param trials The number of trials.
+         * @param opensPerTrial The number of opens per trial.
+         */
+        private Run(int trials, int opensPerTrial) {
+            this.opensPerTrial = opensPerTrial;
+            this.money = new double[trials];
+            this.gems = new double[trials];
+            this.depletedAt = new int[rewards.size()][];
+            for (int i = 0; i < depletedAt.length; i++) {
+                if (rewards.get(i).isLimited()) depletedAt[i] = new int[trials];
+            }
+        }
+    }
+
+    /**
+     * Fork/join task simulating a range of trials, splitting the random generator with the range.
+     */
+    private final class TrialTask extends RecursiveTask<long[]> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final transient Run run;
+        private final int from;
+        private final int to;
+        private final transient SplittableRandom random;
+
+        /**
+         * Constructs a new task.
+         *
+         * @param run The run collecting the per-trial results.
+         * @param from The first trial, inclusive.
+         * @param to The last trial, exclusive.
+         * @param random The random generator of the range.
+         */
+        private TrialTask(Run run, int from, int to, SplittableRandom random) {
+            this.run = run;
+            this.from = from;
+            this.to = to;
+            this.random = random;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        protected long[] compute() {
+            if (to - from == 1 || (long) (to - from) * run.opensPerTrial <= OPENS_PER_TASK) {
+                long[] counts = new long[rewards.size() + 1];
+                for (int trial = from; trial < to; trial++) {
+                    simulateTrial(run, trial, random, counts);
+                }
+                return counts;
+            }
+            int middle = (from + to) >>> 1;
+            TrialTask left = new TrialTask(run, from, middle, random.split());
+            left.fork();
+            long[] counts = new TrialTask(run, middle, to, random).compute();
+            long[] leftCounts = left.join();
+            for (int i = 0; i < counts.length; i++) {
+                counts[i] += leftCounts[i];
+            }
+            return counts;
+        }
+    }
+}
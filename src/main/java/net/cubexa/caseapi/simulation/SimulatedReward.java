@@ -0,0 +1,244 @@
+/*
+ * CaseAPI, a Minecraft plugin API by Cubexa Studio
+ * Copyright (C) 2025 Cubexa Studio <https://cubexa.net>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.cubexa.caseapi.simulation;
+
+import net.cubexa.caseapi.models.Case;
+import net.cubexa.caseapi.models.CaseReward;
+import net.cubexa.caseapi.models.CaseRewardType;
+import net.cubexa.caseapi.models.DurationUnit;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Copy of a {@link CaseReward} with its own remaining draws, used by a single simulation trial.
+ * <p>
+ * All properties are read from the original reward, but draws are only counted on the copy,
+ * so simulations never touch the live state. Applying the reward is not supported.
+ */
+final class SimulatedReward implements CaseReward {
+
+    private final CaseReward original;
+    private final int index;
+    private int remainingDraws;
+
+    /**
+     * Constructs a new simulated reward.
+     *
+     * @param original The reward to simulate.
+     * @param index The position of the reward within the simulated reward list.
+     * @param remainingDraws The remaining draws at the start of the trial.
+     */
+    SimulatedReward(CaseReward original, int index, int remainingDraws) {
+        this.original = original;
+        this.index = index;
+        this.remainingDraws = remainingDraws;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CaseRewardType getType() {
+        return original.getType();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double getWinChance(double totalChance) {
+        return original.getWinChance(totalChance);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double getChance() {
+        return original.getChance();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String getItemStackBase64() {
+        return original.getItemStackBase64();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isWithBroadcastMessage() {
+        return original.isWithBroadcastMessage();
+    }
+
+    /**
+     * Returns the position of the reward within the simulated reward list.
+     *
+     * @return The index of the reward.
+     */
+    @Override
+    public int getIndex() {
+        return index;
+    }
+
+    /**
+     * Has no effect, as the index of a simulated reward is fixed.
+     *
+     * @param index Ignored.
+     * @return This reward.
+     */
+    @Override
+    public CaseReward setIndex(int index) {
+        return this;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isLimited() {
+        return original.isLimited();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isAvailable() {
+        return !isLimited() || remainingDraws > 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getMaxDraws() {
+        return original.getMaxDraws();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getRemainingDraws() {
+        return remainingDraws;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void reduceRemainingDraws() {
+        if (isLimited() && remainingDraws > 0) remainingDraws--;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Simulated rewards are confined to one trial, so no synchronization is needed.
+     */
+    @Override
+    public boolean tryReserveDraw() {
+        if (!isLimited()) return true;
+        if (remainingDraws <= 0) return false;
+        remainingDraws--;
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void releaseDraw() {
+        if (isLimited()) remainingDraws++;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Integer getGemsAmount() {
+        return original.getGemsAmount();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Double getMoneyAmount() {
+        return original.getMoneyAmount();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String getCommand() {
+        return original.getCommand();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String getPermission() {
+        return original.getPermission();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Long getRawPermissionDuration() {
+        return original.getRawPermissionDuration();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public DurationUnit getPermissionDurationUnit() {
+        return original.getPermissionDurationUnit();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Duration getPermissionDuration() {
+        return original.getPermissionDuration();
+    }
+
+    /**
+     * Not supported, as simulated rewards must never be applied.
+     *
+     * @param playerUuid Ignored.
+     * @param crate Ignored.
+     * @return Never returns normally.
+     * @throws UnsupportedOperationException Always.
+     */
+    @Override
+    public CompletableFuture<Boolean> apply(UUID playerUuid, Case crate) {
+        throw new UnsupportedOperationException("Simulated rewards cannot be applied");
+    }
+}
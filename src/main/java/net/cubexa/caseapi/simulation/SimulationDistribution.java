@@ -0,0 +1,116 @@
+/*
+ * CaseAPI, a Minecraft plugin API by Cubexa Studio
+ * Copyright (C) 2025 Cubexa Studio <https://cubexa.net>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.cubexa.caseapi.simulation;
+
+import java.util.Arrays;
+
+/**
+ * Distribution of a value across simulation trials, such as the money paid out per trial.
+ * <p>
+ * Instances are immutable.
+ */
+public final class SimulationDistribution {
+
+    private final double[] sorted;
+    private final double mean;
+
+    /**
+     * Constructs a new distribution.
+     *
+     * @param values The observed values. The array is sorted in place and must not be modified afterwards.
+     */
+    SimulationDistribution(double[] values) {
+        Arrays.sort(values);
+        this.sorted = values;
+        double sum = 0;
+        for (double value : values) {
+            sum += value;
+        }
+        this.mean = values.length == 0 ? 0 : sum / values.length;
+    }
+
+    /**
+     * Returns the number of observed values.
+     *
+     * @return The number of values.
+     */
+    public int getCount() {
+        return sorted.length;
+    }
+
+    /**
+     * Returns the smallest observed value.
+     *
+     * @return The minimum, or {@code 0} if no value was observed.
+     */
+    public double getMin() {
+        return sorted.length == 0 ? 0 : sorted[0];
+    }
+
+    /**
+     * Returns the largest observed value.
+     *
+     * @return The maximum, or {@code 0} if no value was observed.
+     */
+    public double getMax() {
+        return sorted.length == 0 ? 0 : sorted[sorted.length - 1];
+    }
+
+    /**
+     * Returns the mean of all observed values.
+     *
+     * @return The mean, or {@code 0} if no value was observed.
+     */
+    public double getMean() {
+        return mean;
+    }
+
+    /**
+     * Returns the value below or at which the given share of observations lies, using the nearest-rank method.
+     *
+     * @param percentile The percentile between {@code 0} and {@code 100}, for example {@code 99} for the p99.
+     * @return The value at the percentile, or {@code 0} if no value was observed.
+     * @throws IllegalArgumentException If the percentile is outside of {@code [0, 100]}.
+     */
+    public double getPercentile(double percentile) {
+        if (percentile < 0 || percentile > 100) throw new IllegalArgumentException("percentile must be between 0 and 100");
+        if (sorted.length == 0) return 0;
+        int rank = (int) Math.ceil(percentile / 100 * sorted.length);
+        return sorted[Math.max(0, rank - 1)];
+    }
+
+    /**
+     * Counts the observed values in equally wide buckets between the minimum and the maximum.
+     *
+     * @param buckets The number of buckets.
+     * @return The number of values per bucket, from the lowest to the highest bucket.
+     * @throws IllegalArgumentException If {@code buckets} is less than {@code 1}.
+     */
+    public long[] getHistogram(int buckets) {
+        if (buckets < 1) throw new IllegalArgumentException("buckets must be at least 1");
+        long[] counts = new long[buckets];
+        if (sorted.length == 0) return counts;
+        double min = getMin();
+        double width = (getMax() - min) / buckets;
+        for (double value : sorted) {
+            int bucket = width == 0 ? 0 : (int) ((value - min) / width);
+            counts[Math.min(bucket, buckets - 1)]++;
+        }
+        return counts;
+    }
+}
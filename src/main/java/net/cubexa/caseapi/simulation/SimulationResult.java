@@ -0,0 +1,173 @@
+/*
+ * CaseAPI, a Minecraft plugin API by Cubexa Studio
+ * Copyright (C) 2025 Cubexa Studio <https://cubexa.net>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.cubexa.caseapi.simulation;
+
+/**
+ * The outcome of a {@link CaseSimulator} run.
+ * <p>
+ * Rewards are identified by their position in the simulated reward list, which equals
+ * {@link net.cubexa.caseapi.models.CaseReward#getIndex()} for the rewards of a case.
+ */
+public final class SimulationResult {
+
+    private final int trials;
+    private final int opensPerTrial;
+    private final long[] drops;
+    private final long emptyOpens;
+    private final SimulationDistribution money;
+    private final SimulationDistribution gems;
+    private final SimulationDistribution[] depletion;
+
+    /**
+     * Constructs a new result.
+     *
+     * @param trials The number of simulated trials.
+     * @param opensPerTrial The number of opens per trial.
+     * @param drops The number of drops per reward.
+     * @param emptyOpens The number of opens in which no reward was available.
+     * @param money The money paid out per trial.
+     * @param gems The gems paid out per trial.
+     * @param depletion The open at which each limited reward ran out, or {@code null} for unlimited rewards.
+     */
+    SimulationResult(int trials, int opensPerTrial, long[] drops, long emptyOpens, SimulationDistribution money,
+                     SimulationDistribution gems, SimulationDistribution[] depletion) {
+        this.trials = trials;
+        this.opensPerTrial = opensPerTrial;
+        this.drops = drops;
+        this.emptyOpens = emptyOpens;
+        this.money = money;
+        this.gems = gems;
+        this.depletion = depletion;
+    }
+
+    /**
+     * Returns the number of simulated trials.
+     *
+     * @return The number of trials.
+     */
+    public int getTrials() {
+        return trials;
+    }
+
+    /**
+     * Returns the number of opens simulated per trial.
+     *
+     * @return The number of opens per trial.
+     */
+    public int getOpensPerTrial() {
+        return opensPerTrial;
+    }
+
+    /**
+     * Returns the total number of simulated opens.
+     *
+     * @return The number of opens.
+     */
+    public long getTotalOpens() {
+        return (long) trials * opensPerTrial;
+    }
+
+    /**
+     * Returns how often a reward dropped across all trials.
+     *
+     * @param rewardIndex The position of the reward.
+     * @return The number of drops.
+     */
+    public long getDrops(int rewardIndex) {
+        return drops[rewardIndex];
+    }
+
+    /**
+     * Returns the observed share of opens that dropped a reward.
+     *
+     * @param rewardIndex The position of the reward.
+     * @return The drop rate between {@code 0} and {@code 1}.
+     */
+    public double getDropRate(int rewardIndex) {
+        long opens = getTotalOpens();
+        return opens == 0 ? 0 : (double) drops[rewardIndex] / opens;
+    }
+
+    /**
+     * Returns the number of opens in which every reward was depleted, so nothing dropped.
+     *
+     * @return The number of empty opens.
+     */
+    public long getEmptyOpens() {
+        return emptyOpens;
+    }
+
+    /**
+     * Returns the expected money paid out by a single open.
+     *
+     * @return The expected money per open.
+     */
+    public double getExpectedMoneyPerOpen() {
+        return opensPerTrial == 0 ? 0 : money.getMean() / opensPerTrial;
+    }
+
+    /**
+     * Returns the expected gems paid out by a single open.
+     *
+     * @return The expected gems per open.
+     */
+    public double getExpectedGemsPerOpen() {
+        return opensPerTrial == 0 ? 0 : gems.getMean() / opensPerTrial;
+    }
+
+    /**
+     * Returns the distribution of the money paid out per trial.
+     *
+     * @return The money distribution.
+     */
+    public SimulationDistribution getMoneyDistribution() {
+        return money;
+    }
+
+    /**
+     * Returns the distribution of the gems paid out per trial.
+     *
+     * @return The gems distribution.
+     */
+    public SimulationDistribution getGemsDistribution() {
+        return gems;
+    }
+
+    /**
+     * Returns the share of trials in which a limited reward ran out.
+     *
+     * @param rewardIndex The position of the reward.
+     * @return The depletion probability between {@code 0} and {@code 1}, or {@code 0} for unlimited rewards.
+     */
+    public double getDepletionProbability(int rewardIndex) {
+        SimulationDistribution distribution = depletion[rewardIndex];
+        if (distribution == null || trials == 0) return 0;
+        return (double) distribution.getCount() / trials;
+    }
+
+    /**
+     * Returns the distribution of the open, counted from {@code 1}, at which a limited reward ran out.
+     * Only trials in which the reward ran out are included.
+     *
+     * @param rewardIndex The position of the reward.
+     * @return The depletion distribution, or {@code null} if the reward is not limited.
+     */
+    public SimulationDistribution getDepletionDistribution(int rewardIndex) {
+        return depletion[rewardIndex];
+    }
+}
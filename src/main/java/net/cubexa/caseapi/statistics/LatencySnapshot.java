@@ -0,0 +1,117 @@
+/*
+ * CaseAPI, a Minecraft plugin API by Cubexa Studio
+ * Copyright (C) 2025 Cubexa Studio <https://cubexa.net>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.cubexa.caseapi.statistics;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Immutable snapshot of a {@link LatencyHistogram}.
+ */
+public class LatencySnapshot {
+
+    private final long[] counts;
+    private final long count;
+    private final long totalNanos;
+    private final long maxNanos;
+
+    /**
+     * Constructs a new {@code LatencySnapshot}.
+     *
+     * @param counts The counts per bucket. The array is owned by the snapshot.
+     * @param totalNanos The sum of all recorded latencies.
+     * @param maxNanos The highest recorded latency.
+     */
+    LatencySnapshot(long[] counts, long totalNanos, long maxNanos) {
+        long sum = 0;
+        for (long bucket : counts) {
+            sum += bucket;
+        }
+        this.counts = counts;
+        this.count = sum;
+        this.totalNanos = totalNanos;
+        this.maxNanos = maxNanos;
+    }
+
+    /**
+     * Returns the number of recorded latencies.
+     *
+     * @return The count.
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * Returns the highest recorded latency.
+     *
+     * @param unit The unit to return the value in.
+     * @return The maximum latency.
+     */
+    public double getMax(TimeUnit unit) {
+        return convert(maxNanos, unit);
+    }
+
+    /**
+     * Returns the average recorded latency.
+     *
+     * @param unit The unit to return the value in.
+     * @return The mean latency, or {@code 0} if nothing was recorded.
+     */
+    public double getMean(TimeUnit unit) {
+        return count == 0 ? 0 : convert(totalNanos, unit) / count;
+    }
+
+    /**
+     * Returns the latency below which the given percentage of all recorded latencies fall.
+     *
+     * @param percentile The percentile between {@code 0} and {@code 100}, e.g. {@code 99.9}.
+     * @param unit The unit to return the value in.
+     * @return The latency at the percentile, or {@code 0} if nothing was recorded.
+     * @throws IllegalArgumentException If the percentile is outside of {@code [0, 100]}.
+     */
+    public double getValueAtPercentile(double percentile, TimeUnit unit) {
+        if (percentile < 0 || percentile > 100) throw new IllegalArgumentException("percentile must be between 0 and 100");
+        if (count == 0) return 0;
+        long target = Math.max(1, (long) Math.ceil(percentile / 100 * count));
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= target) return convert(Math.min(LatencyHistogram.highestValueOf(i), maxNanos), unit);
+        }
+        return convert(maxNanos, unit);
+    }
+
+    /**
+     * Converts nanoseconds into the given unit without truncating fractions.
+     *
+     * @param nanos The value in nanoseconds.
+     * @param unit The target unit.
+     * @return The converted value.
+     */
+    private static double convert(long nanos, TimeUnit unit) {
+        return (double) nanos / unit.toNanos(1);
+    }
+
+    @Override
+    public String toString() {
+        return "LatencySnapshot{count=" + count
+                + ", p50=" + getValueAtPercentile(50, TimeUnit.MILLISECONDS) + "ms"
+                + ", p99=" + getValueAtPercentile(99, TimeUnit.MILLISECONDS) + "ms"
+                + ", max=" + getMax(TimeUnit.MILLISECONDS) + "ms}";
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ * CaseAPI, a Minecraft plugin API by Cubexa Studio
+ * Copyright (C) 2025 Cubexa Studio <https://cubexa.net>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.cubexa.caseapi.statistics;
+
+import net.cubexa.caseapi.models.CaseRewardType;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * Tracks live open rates globally, per case and per {@link CaseRewardType}.
+ * <p>
+ * Fed from the opening path at the point where the {@link net.cubexa.caseapi.events.CaseOpenCompleteEvent}
+ * is fired. Every tracked dimension uses a {@link RollingRateCounter}, so memory is fixed per case
+ * and reward type, regardless of how many openings happen.
+ */
+public class OpenRateTracker {
+
+    private final LongSupplier clock;
+    private final RollingRateCounter total;
+    private final RollingRateCounter[] rewardTypes;
+    private final Map<String, RollingRateCounter> cases = new ConcurrentHashMap<>();
+
+    /**
+     * Constructs a new {@code OpenRateTracker} using the system clock.
+     */
+    public OpenRateTracker() {
+        this(System::currentTimeMillis);
+    }
+
+    /**
+     * Constructs a new {@code OpenRateTracker}.
+     *
+     * @param clock Supplies the current time in milliseconds.
+     */
+    public OpenRateTracker(LongSupplier clock) {
+        this.clock = clock;
+        this.total = new RollingRateCounter(clock);
+        this.rewardTypes = new RollingRateCounter[CaseRewardType.values().length];
+        for (int i = 0; i < rewardTypes.length; i++) {
+            rewardTypes[i] = new RollingRateCounter(clock);
+        }
+    }
+
+    /**
+     * Records a single opening.
+     *
+     * @param caseId The ID of the opened case.
+     * @param rewardType The {@link CaseRewardType} of the reward that dropped.
+     */
+    public void record(String caseId, CaseRewardType rewardType) {
+        total.record();
+        rewardTypes[rewardType.ordinal()].record();
+        caseCounter(caseId).record();
+    }
+
+    /**
+     * Removes the counters of a case, e.g. after the case was deleted.
+     *
+     * @param caseId The ID of the case.
+     */
+    public void removeCase(String caseId) {
+        cases.remove(caseId);
+    }
+
+    /**
+     * Returns the number of openings of all cases per second within a window.
+     *
+     * @param window The {@link RateWindow}.
+     * @return The openings per second.
+     */
+    public double getTotalRate(RateWindow window) {
+        return total.getRatePerSecond(window);
+    }
+
+    /**
+     * Returns the number of openings of a case per second within a window.
+     *
+     * @param caseId The ID of the case.
+     * @param window The {@link RateWindow}.
+     * @return The openings per second, or {@code 0} if the case was not opened yet.
+     */
+    public double getCaseRate(String caseId, RateWindow window) {
+        RollingRateCounter counter = cases.get(caseId);
+        return counter == null ? 0 : counter.getRatePerSecond(window);
+    }
+
+    /**
+     * Returns the number of dropped rewards of a type per second within a window.
+     *
+     * @param rewardType The {@link CaseRewardType}.
+     * @param window The {@link RateWindow}.
+     * @return The drops per second.
+     */
+    public double getRewardTypeRate(CaseRewardType rewardType, RateWindow window) {
+        return rewardTypes[rewardType.ordinal()].getRatePerSecond(window);
+    }
+
+    /**
+     * Returns the counter of a single case, e.g. to read absolute counts.
+     *
+     * @param caseId The ID of the case.
+     * @return The {@link RollingRateCounter} of the case.
+     */
+    public RollingRateCounter getCaseCounter(String caseId) {
+        return caseCounter(caseId);
+    }
+
+    /**
+     * Returns the counter of a case, creating it if necessary.
+     *
+     * @param caseId The ID of the case.
+     * @return The counter of the case.
+     */
+    private RollingRateCounter caseCounter(String caseId) {
+        RollingRateCounter counter = cases.get(caseId);
+        if (counter != null) return counter;
+        return cases.computeIfAbsent(caseId, id -> new RollingRateCounter(clock));
+    }
+}
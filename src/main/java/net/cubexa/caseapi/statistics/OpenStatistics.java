@@ -0,0 +1,457 @@
+/*
+ * CaseAPI, a Minecraft plugin API by Cubexa Studio
+ * Copyright (C) 2025 Cubexa Studio <https://cubexa.net>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.cubexa.caseapi.statistics;
+
+import net.cubexa.caseapi.models.Case;
+import net.cubexa.caseapi.models.CaseReward;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * In-memory opening statistics, kept in striped {@link LongAdder} counters and flushed periodically.
+ * <p>
+ * Counts are kept globally, per player, per case and per reward index, the latter showing how often
+ * each {@link CaseReward} actually dropped. Recording an opening never touches the storage.
+ * Reads return the current in-memory values, including openings not yet flushed.
+ * <p>
+ * Persisted values are loaded into the counters with the {@code seed} methods. Afterwards only the
+ * increments since the last successful flush are handed to the {@link StatisticsWriter}.
+ */
+public class OpenStatistics {
+
+    private final StatisticsWriter writer;
+    private final ScheduledExecutorService executor;
+    private final Duration flushInterval;
+    private final Counter total = new Counter();
+    private final Map<UUID, Counter> players = new ConcurrentHashMap<>();
+    private final Map<String, CaseCounters> cases = new ConcurrentHashMap<>();
+    private CompletableFuture<Void> flushChain = CompletableFuture.completedFuture(null);
+    private ScheduledFuture<?> scheduledFlush;
+
+    /**
+     * Constructs new {@code OpenStatistics}.
+     *
+     * @param writer The {@link StatisticsWriter} used to persist flushed increments.
+     * @param executor The executor used for periodic flushes.
+     * @param flushInterval The interval in which increments are flushed.
+     */
+    public OpenStatistics(StatisticsWriter writer, ScheduledExecutorService executor, Duration flushInterval) {
+        this.writer = writer;
+        this.executor = executor;
+        this.flushInterval = flushInterval;
+    }
+
+    /**
+     * Starts the periodic flush. Calling this method on already started statistics has no effect.
+     */
+    public synchronized void start() {
+        if (scheduledFlush != null) return;
+        long interval = flushInterval.toMillis();
+        scheduledFlush = executor.scheduleWithFixedDelay(this::flush, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Stops the periodic flush and writes all remaining increments. This should be called on shutdown.
+     *
+     * @return A {@link CompletableFuture} that completes once all increments are persisted.
+     */
+    public CompletableFuture<Void> close() {
+        synchronized (this) {
+            if (scheduledFlush != null) {
+                scheduledFlush.cancel(false);
+                scheduledFlush = null;
+            }
+        }
+        return flush();
+    }
+
+    /**
+     * Records a single opening.
+     *
+     * @param playerUuid The UUID of the player who opened the case.
+     * @param crate The {@link Case} that was opened.
+     * @param reward The {@link CaseReward} that dropped.
+     */
+    public void record(UUID playerUuid, Case crate, CaseReward reward) {
+        record(playerUuid, crate.getCaseId(), reward.getIndex());
+    }
+
+    /**
+     * Records a single opening.
+     *
+     * @param playerUuid The UUID of the player who opened the case.
+     * @param caseId The ID of the case that was opened.
+     * @param rewardIndex The index of the reward that dropped.
+     */
+    public void record(UUID playerUuid, String caseId, int rewardIndex) {
+        total.value.increment();
+        Counter counter = players.get(playerUuid);
+        if (counter == null) {
+            counter = players.computeIfAbsent(playerUuid, uuid -> new Counter());
+        }
+        counter.value.increment();
+        if (counter.detached) recordDetached(playerUuid, counter);
+        CaseCounters caseCounters = caseCounters(caseId);
+        caseCounters.opens.value.increment();
+        caseCounters.reward(rewardIndex).value.increment();
+    }
+
+    /**
+     * Re-checks an opening that raced with {@link #releasePlayer(UUID)}.
+     * <p>
+     * Waits for the release to finish. If the counter was removed, the openings recorded on it
+     * after the removal are moved to the counter that replaces it.
+     *
+     * @param playerUuid The UUID of the player.
+     * @param detached The counter the opening was recorded on.
+     */
+    private void recordDetached(UUID playerUuid, Counter detached) {
+        players.compute(playerUuid, (uuid, counter) -> {
+            if (counter == detached) return counter;
+            Counter current = counter == null ? new Counter() : counter;
+            current.value.add(detached.drain());
+            return current;
+        });
+    }
+
+    /**
+     * Loads the persisted global number of opened cases.
+     * <p>
+     * The persisted value replaces any previously seeded value, so seeding twice has no additional effect.
+     * Openings recorded but not yet flushed are kept on top of it.
+     *
+     * @param value The persisted value.
+     */
+    public void seedTotal(long value) {
+        total.seed(value);
+    }
+
+    /**
+     * Loads the persisted number of cases opened by a player, e.g. when the player joins.     * <p>
+     * Replaces any previously seeded value, see {@link #seedTotal(long)}.
+     *
+     * @param playerUuid The UUID of the player.
+     * @param value The persisted value.
+     */
+    public void seedPlayer(UUID playerUuid, long value) {
+        players.computeIfAbsent(playerUuid, uuid -> new Counter()).seed(value);
+    }
+
+    /**
+     * Loads the persisted number of openings of a case.     * <p>
+     * Replaces any previously seeded value, see {@link #seedTotal(long)}.
+     *
+     * @param caseId The ID of the case.
+     * @param value The persisted value.
+     */
+    public void seedCase(String caseId, long value) {
+        caseCounters(caseId).opens.seed(value);
+    }
+
+    /**
+     * Loads the persisted number of drops of a reward.     * <p>
+     * Replaces any previously seeded value, see {@link #seedTotal(long)}.
+     *
+     * @param caseId The ID of the case.
+     * @param rewardIndex The index of the reward.
+     * @param value The persisted value.
+     */
+    public void seedReward(String caseId, int rewardIndex, long value) {
+        caseCounters(caseId).reward(rewardIndex).seed(value);
+    }
+
+    /**
+     * Returns the number of cases opened globally.
+     *
+     * @return The global number of opened cases.
+     */
+    public long getTotalOpened() {
+        return total.value.sum();
+    }
+
+    /**
+     * Checks whether the number of opened cases of a player is kept in memory.
+     *
+     * @param playerUuid The UUID of the player.
+     * @return {@code true} if the player is tracked; {@code false} otherwise.
+     */
+    public boolean isPlayerTracked(UUID playerUuid) {
+        return players.containsKey(playerUuid);
+    }
+
+    /**
+     * Returns the number of cases opened by a player.
+     *
+     * @param playerUuid The UUID of the player.
+     * @return The number of opened cases, or {@code 0} if the player is not tracked.
+     */
+    public long getOpenedByPlayer(UUID playerUuid) {
+        Counter counter = players.get(playerUuid);
+        return counter == null ? 0 : counter.value.sum();
+    }
+
+    /**
+     * Returns the number of openings of a case.
+     *
+     * @param caseId The ID of the case.
+     * @return The number of openings.
+     */
+    public long getOpenedOfCase(String caseId) {
+        CaseCounters caseCounters = cases.get(caseId);
+        return caseCounters == null ? 0 : caseCounters.opens.value.sum();
+    }
+
+    /**
+     * Returns how often a reward dropped.
+     *
+     * @param caseId The ID of the case.
+     * @param rewardIndex The index of the reward.
+     * @return The number of drops.
+     */
+    public long getRewardDrops(String caseId, int rewardIndex) {
+        CaseCounters caseCounters = cases.get(caseId);
+        if (caseCounters == null) return 0;
+        Counter[] rewards = caseCounters.rewards;
+        if (rewardIndex < 0 || rewardIndex >= rewards.length || rewards[rewardIndex] == null) return 0;
+        return rewards[rewardIndex].value.sum();
+    }
+
+    /**
+     * Returns how often each reward of a case dropped.
+     *
+     * @param caseId The ID of the case.
+     * @return The number of drops, indexed by reward index.
+     */
+    public long[] getRewardDrops(String caseId) {
+        CaseCounters caseCounters = cases.get(caseId);
+        if (caseCounters == null) return new long[0];
+        Counter[] rewards = caseCounters.rewards;
+        long[] drops = new long[rewards.length];
+        for (int i = 0; i < rewards.length; i++) {
+            if (rewards[i] != null) drops[i] = rewards[i].value.sum();
+        }
+        return drops;
+    }
+
+    /**
+     * Stops tracking a player, e.g. when the player quits.
+     * <p>
+     * The player is only removed once all of their openings were flushed.
+     *
+     * @param playerUuid The UUID of the player.
+     * @return {@code true} if the player was removed; {@code false} if openings are still pending or the player is not tracked.
+     */
+    public boolean releasePlayer(UUID playerUuid) {
+        boolean[] removed = new boolean[1];
+        players.computeIfPresent(playerUuid, (uuid, counter) -> {
+            removed[0] = counter.detach();
+            return removed[0] ? null : counter;
+        });
+        return removed[0];
+    }
+
+    /**
+     * Writes all increments since the last successful flush.
+     * <p>
+     * If a flush is in progress, this flush starts after it. If writing fails, the increments
+     * stay pending and are included in the next flush.
+     *
+     * @return A {@link CompletableFuture} that completes once the increments are persisted.
+     */
+    public synchronized CompletableFuture<Void> flush() {
+        CompletableFuture<Void> next = flushChain.handle((ignored, throwable) -> null)
+                .thenCompose(ignored -> writeDelta());
+        flushChain = next;
+        return next;
+    }
+
+    /**
+     * Collects the increments of all counters and writes them.
+     *
+     * @return A {@link CompletableFuture} that completes once the increments are persisted.
+     */
+    private CompletableFuture<Void> writeDelta() {
+        List<Runnable> commits = new ArrayList<>();
+        long totalDelta = total.collect(commits);
+
+        Map<UUID, Long> playerOpens = new HashMap<>();
+        for (Map.Entry<UUID, Counter> entry : players.entrySet()) {
+            long delta = entry.getValue().collect(commits);
+            if (delta != 0) playerOpens.put(entry.getKey(), delta);
+        }
+
+        Map<String, Long> caseOpens = new HashMap<>();
+        Map<String, Map<Integer, Long>> rewardDrops = new HashMap<>();
+        for (Map.Entry<String, CaseCounters> entry : cases.entrySet()) {
+            long delta = entry.getValue().opens.collect(commits);
+            if (delta != 0) caseOpens.put(entry.getKey(), delta);
+
+            Counter[] rewards = entry.getValue().rewards;
+            Map<Integer, Long> drops = new HashMap<>();
+            for (int i = 0; i < rewards.length; i++) {
+                if (rewards[i] == null) continue;
+                long rewardDelta = rewards[i].collect(commits);
+                if (rewardDelta != 0) drops.put(i, rewardDelta);
+            }
+            if (!drops.isEmpty()) rewardDrops.put(entry.getKey(), drops);
+        }
+
+        StatisticsDelta delta = new StatisticsDelta(totalDelta, playerOpens, caseOpens, rewardDrops);
+        if (delta.isEmpty()) return CompletableFuture.completedFuture(null);
+
+        CompletableFuture<Void> write;
+        try {
+            write = writer.write(delta);
+        } catch (RuntimeException e) {
+            write = CompletableFuture.failedFuture(e);
+        }
+        return write.thenRun(() -> commits.forEach(Runnable::run));
+    }
+
+    /**
+     * Returns the counters of a case, creating them if necessary.
+     *
+     * @param caseId The ID of the case.
+     * @return The counters of the case.
+     */
+    private CaseCounters caseCounters(String caseId) {
+        CaseCounters caseCounters = cases.get(caseId);
+        if (caseCounters != null) return caseCounters;
+        return cases.computeIfAbsent(caseId, id -> new CaseCounters());
+    }
+
+    /**
+     * Monotonic counter remembering the value persisted by the last successful flush.
+     */
+    private static final class Counter {
+
+        private final LongAdder value = new LongAdder();
+        private volatile long flushed;
+        private volatile boolean detached;
+
+        /**
+         * Replaces the persisted value, keeping the pending increment on top of it.
+         *
+         * @param persisted The persisted value.
+         */
+        private synchronized void seed(long persisted) {
+            value.add(persisted - flushed);
+            flushed = persisted;
+        }
+
+        /**
+         * Returns the increment since the last successful flush.
+         *
+         * @return The pending increment.
+         */
+        private long pending() {
+            return value.sum() - flushed;
+        }
+
+        /**
+         * Detaches the counter if all of its increments were flushed.
+         *
+         * @return {@code true} if the counter was detached; {@code false} if increments are still pending.
+         */
+        private synchronized boolean detach() {
+            detached = true;
+            if (pending() == 0) return true;
+            detached = false;
+            return false;
+        }
+
+        /**
+         * Marks the increments recorded after detaching as flushed and returns them.
+         *
+         * @return The increments recorded after detaching.
+         */
+        private synchronized long drain() {
+            long delta = pending();
+            flushed += delta;
+            return delta;
+        }
+
+        /**
+         * Returns the pending increment and registers a commit marking it as flushed.
+         * A detached counter has no pending increment, as it is {@linkplain #drain() drained} instead.
+         *
+         * @param commits The commits to run once the flush succeeded.
+         * @return The pending increment.
+         */
+        private synchronized long collect(List<Runnable> commits) {
+            if (detached) return 0;
+            long current = value.sum();
+            long delta = current - flushed;
+            if (delta != 0) {
+                commits.add(() -> {
+                    synchronized (this) {
+                        flushed += delta;
+                    }
+                });
+            }
+            return delta;
+        }
+    }
+
+    /**
+     * Counters of a single case and its rewards.
+     */
+    private static final class CaseCounters {
+
+        private final Counter opens = new Counter();
+        private volatile Counter[] rewards = new Counter[0];
+
+        /**
+         * Returns the counter of a reward, creating it if necessary.
+         *
+         * @param rewardIndex The index of the reward.
+         * @return The counter of the reward.
+         * @throws IllegalArgumentException If the index is negative.
+         */
+        private Counter reward(int rewardIndex) {
+            Counter[] current = rewards;
+            if (rewardIndex < current.length && rewardIndex >= 0 && current[rewardIndex] != null) {
+                return current[rewardIndex];
+            }
+            if (rewardIndex < 0) throw new IllegalArgumentException("rewardIndex must not be negative");
+            synchronized (this) {
+                current = rewards;
+                if (rewardIndex >= current.length) {
+                    current = Arrays.copyOf(current, rewardIndex + 1);
+                }
+                if (current[rewardIndex] == null) {
+                    current[rewardIndex] = new Counter();
+                }
+                rewards = current;
+                return current[rewardIndex];
+            }
+        }
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * CaseAPI, a Minecraft plugin API by Cubexa Studio
+ * Copyright (C) 2025 Cubexa Studio <https://cubexa.net>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.cubexa.caseapi.statistics;
+
+/**
+ * JMX view of the {@link OpeningLatencyMonitor}.
+ * <p>
+ * Phases are referenced by the names of {@link OpeningPhase}, latencies are reported in milliseconds.
+ */
+public interface OpeningLatencyMXBean {
+
+    /**
+     * Returns the names of all measured phases.
+     *
+     * @return The phase names.
+     */
+    String[] getPhases();
+
+    /**
+     * Returns the number of latencies recorded for a phase.
+     *
+     * @param phase The name of the phase.
+     * @return The count.
+     */
+    long getCount(String phase);
+
+    /**
+     * Returns the latency of a phase at the given percentile.
+     *
+     * @param phase The name of the phase.
+     * @param percentile The percentile between {@code 0} and {@code 100}.
+     * @return The latency in milliseconds.
+     */
+    double getPercentileMillis(String phase, double percentile);
+
+    /**
+     * Returns the highest latency recorded for a phase.
+     *
+     * @param phase The name of the phase.
+     * @return The latency in milliseconds.
+     */
+    double getMaxMillis(String phase);
+
+    /**
+     * Returns the 99th percentile of the whole opening.
+     *
+     * @return The latency in milliseconds.
+     */
+    double getTotalP99Millis();
+
+    /**
+     * Resets the histograms of all phases.
+     */
+    void reset();
+}
@@ -0,0 +1,158 @@
+/*
+ * CaseAPI, a Minecraft plugin API by Cubexa Studio
+ * Copyright (C) 2025 Cubexa Studio <https://cubexa.net>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.cubexa.caseapi.statistics;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latency histograms for each {@link OpeningPhase} of the case opening pipeline.
+ * <p>
+ * Recording is allocation-free, so it can stay enabled in production. Snapshots provide
+ * percentiles, maximum and count, and can optionally reset the histograms for interval reporting.
+ * The monitor can additionally be registered as {@link OpeningLatencyMXBean} for JMX tooling.
+ */
+public class OpeningLatencyMonitor implements OpeningLatencyMXBean {
+
+    private static final OpeningPhase[] PHASES = OpeningPhase.values();
+
+    private final LatencyHistogram[] histograms = new LatencyHistogram[PHASES.length];
+    private ObjectName objectName;
+
+    /**
+     * Constructs a new {@code OpeningLatencyMonitor} with empty histograms.
+     */
+    public OpeningLatencyMonitor() {
+        for (int i = 0; i < histograms.length; i++) {
+            histograms[i] = new LatencyHistogram();
+        }
+    }
+
+    /**
+     * Returns the current time to be passed to {@link #recordSince(OpeningPhase, long)} later.
+     *
+     * @return The current {@link System#nanoTime()}.
+     */
+    public long start() {
+        return System.nanoTime();
+    }
+
+    /**
+     * Records the time elapsed since the given start for a phase.
+     *
+     * @param phase The {@link OpeningPhase}.
+     * @param startNanos The value returned by {@link #start()}.
+     * @return The current {@link System#nanoTime()}, usable as start of the next phase.
+     */
+    public long recordSince(OpeningPhase phase, long startNanos) {
+        long now = System.nanoTime();
+        histograms[phase.ordinal()].record(now - startNanos);
+        return now;
+    }
+
+    /**
+     * Records a latency for a phase.
+     *
+     * @param phase The {@link OpeningPhase}.
+     * @param nanos The latency in nanoseconds.
+     */
+    public void record(OpeningPhase phase, long nanos) {
+        histograms[phase.ordinal()].record(nanos);
+    }
+
+    /**
+     * Returns a snapshot of a phase.
+     *
+     * @param phase The {@link OpeningPhase}.
+     * @return The {@link LatencySnapshot} of the phase.
+     */
+    public LatencySnapshot snapshot(OpeningPhase phase) {
+        return histograms[phase.ordinal()].snapshot();
+    }
+
+    /**
+     * Returns a snapshot of a phase and resets its histogram.
+     *
+     * @param phase The {@link OpeningPhase}.
+     * @return The {@link LatencySnapshot} of the phase.
+     */
+    public LatencySnapshot snapshotAndReset(OpeningPhase phase) {
+        return histograms[phase.ordinal()].snapshotAndReset();
+    }
+
+    /**
+     * Registers this monitor on the platform MBean server.
+     *
+     * @param name The JMX object name, e.g. {@code net.cubexa.caseapi:type=OpeningLatency}.
+     * @throws JMException If the name is invalid or already registered.
+     */
+    public synchronized void registerMBean(String name) throws JMException {
+        if (objectName != null) return;
+        ObjectName candidate = new ObjectName(name);
+        ManagementFactory.getPlatformMBeanServer().registerMBean(this, candidate);
+        objectName = candidate;
+    }
+
+    /**
+     * Unregisters this monitor from the platform MBean server, if registered.
+     *
+     * @throws JMException If the unregistration fails.
+     */
+    public synchronized void unregisterMBean() throws JMException {
+        if (objectName == null) return;
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        if (server.isRegistered(objectName)) server.unregisterMBean(objectName);
+        objectName = null;
+    }
+
+    @Override
+    public String[] getPhases() {
+        return Arrays.stream(PHASES).map(Enum::name).toArray(String[]::new);
+    }
+
+    @Override
+    public long getCount(String phase) {
+        return snapshot(OpeningPhase.valueOf(phase)).getCount();
+    }
+
+    @Override
+    public double getPercentileMillis(String phase, double percentile) {
+        return snapshot(OpeningPhase.valueOf(phase)).getValueAtPercentile(percentile, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public double getMaxMillis(String phase) {
+        return snapshot(OpeningPhase.valueOf(phase)).getMax(TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public double getTotalP99Millis() {
+        return snapshot(OpeningPhase.TOTAL).getValueAtPercentile(99, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void reset() {
+        for (LatencyHistogram histogram : histograms) {
+            histogram.snapshotAndReset();
+        }
+    }
+}
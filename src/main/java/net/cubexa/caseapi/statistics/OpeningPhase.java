@@ -0,0 +1,54 @@
+/*
+ * CaseAPI, a Minecraft plugin API by Cubexa Studio
+ * Copyright (C) 2025 Cubexa Studio <https://cubexa.net>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.cubexa.caseapi.statistics;
+
+/**
+ * Defines the measured phases of the case opening pipeline.
+ */
+public enum OpeningPhase {
+
+    /**
+     * Dispatching the {@link net.cubexa.caseapi.events.CaseOpenEvent} to all listeners.
+     */
+    LISTENERS,
+
+    /**
+     * Drawing the reward from the case.
+     */
+    REWARD_SELECTION,
+
+    /**
+     * Applying the drawn reward through {@link net.cubexa.caseapi.models.CaseReward#apply(java.util.UUID, net.cubexa.caseapi.models.Case)}.
+     */
+    REWARD_APPLY,
+
+    /**
+     * Removing the opened case from the player's cases.
+     */
+    INVENTORY_UPDATE,
+
+    /**
+     * Writing the opening to the storage.
+     */
+    PERSISTENCE,
+
+    /**
+     * The whole opening from start to completion.
+     */
+    TOTAL
+}
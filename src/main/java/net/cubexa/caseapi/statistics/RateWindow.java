@@ -0,0 +1,53 @@
+/*
+ * CaseAPI, a Minecraft plugin API by Cubexa Studio
+ * Copyright (C) 2025 Cubexa Studio <https://cubexa.net>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.cubexa.caseapi.statistics;
+
+import java.time.Duration;
+
+/**
+ * Defines the sliding windows open rates are measured over.
+ * <p>
+ * Each window covers the most recent completed buckets, so values do not drop
+ * at the start of a new second or minute.
+ */
+public enum RateWindow {
+
+    SECOND(Duration.ofSeconds(1)),
+    MINUTE(Duration.ofMinutes(1)),
+    HOUR(Duration.ofHours(1));
+
+    private final Duration duration;
+
+    /**
+     * Constructs a new {@code RateWindow}.
+     *
+     * @param duration The length of the window.
+     */
+    RateWindow(Duration duration) {
+        this.duration = duration;
+    }
+
+    /**
+     * Returns the length of the window.
+     *
+     * @return The window duration.
+     */
+    public Duration getDuration() {
+        return duration;
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ * CaseAPI, a Minecraft plugin API by Cubexa Studio
+ * Copyright (C) 2025 Cubexa Studio <https://cubexa.net>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.cubexa.caseapi.statistics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.LongSupplier;
+
+/**
+ * Lock-free sliding-window event counter with fixed memory.
+ * <p>
+ * Events are counted in two ring buffers, one with a bucket per second covering the last minute
+ * and one with a bucket per minute covering the last hour. Each bucket stores its time slot and
+ * its count packed into a single {@code long}, so recording is a single compare-and-set and stale
+ * buckets are reused without locks. Memory stays constant no matter how many events are recorded.
+ */
+public class RollingRateCounter {
+
+    private static final int BUCKETS = 60;
+    private static final int RING_SIZE = BUCKETS + 1;
+    private static final long SLOT_SHIFT = 32;
+    private static final long COUNT_MASK = 0xFFFFFFFFL;
+    private static final long SECOND_MILLIS = 1000;
+    private static final long MINUTE_MILLIS = 60_000;
+
+    private final LongSupplier clock;
+    private final AtomicLongArray seconds = new AtomicLongArray(RING_SIZE);
+    private final AtomicLongArray minutes = new AtomicLongArray(RING_SIZE);
+
+    /**
+     * Constructs a new {@code RollingRateCounter} using the system clock.
+     */
+    public RollingRateCounter() {
+        this(System::currentTimeMillis);
+    }
+
+    /**
+     * Constructs a new {@code RollingRateCounter}.
+     *
+     * @param clock Supplies the current time in milliseconds.
+     */
+    public RollingRateCounter(LongSupplier clock) {
+        this.clock = clock;
+    }
+
+    /**
+     * Records a single event.
+     */
+    public void record() {
+        record(1);
+    }
+
+    /**
+     * Records several events at once, e.g. for a bulk opening.
+     *
+     * @param count The number of events.
+     */
+    public void record(int count) {
+        if (count <= 0) return;
+        long now = clock.getAsLong();
+        add(seconds, now / SECOND_MILLIS, count);
+        add(minutes, now / MINUTE_MILLIS, count);
+    }
+
+    /**
+     * Returns the number of events within a window.
+     *
+     * @param window The {@link RateWindow}.
+     * @return The number of events in the most recent completed buckets covering the window.
+     */
+    public long getCount(RateWindow window) {
+        long now = clock.getAsLong();
+        return switch (window) {
+            case SECOND -> sum(seconds, now / SECOND_MILLIS, 1);
+            case MINUTE -> sum(seconds, now / SECOND_MILLIS, BUCKETS);
+            case HOUR -> sum(minutes, now / MINUTE_MILLIS, BUCKETS);
+        };
+    }
+
+    /**
+     * Returns the average number of events per second within a window.
+     *
+     * @param window The {@link RateWindow}.
+     * @return The events per second.
+     */
+    public double getRatePerSecond(RateWindow window) {
+        return (double) getCount(window) / window.getDuration().toSeconds();
+    }
+
+    /**
+     * Adds events to the bucket of the given time slot, resetting it if it still holds an older slot.
+     *
+     * @param ring The ring buffer.
+     * @param slot The current time slot.
+     * @param count The number of events.
+     */
+    private static void add(AtomicLongArray ring, long slot, int count) {
+        int index = (int) (slot % RING_SIZE);
+        long packedSlot = (slot & COUNT_MASK) << SLOT_SHIFT;
+        while (true) {
+            long current = ring.get(index);
+            long updated = (current & ~COUNT_MASK) == packedSlot
+                    ? current + count
+                    : packedSlot | count;
+            if (ring.compareAndSet(index, current, updated)) return;
+        }
+    }
+
+    /**
+     * Sums the buckets of the given number of completed slots before the current slot.
+     *
+     * @param ring The ring buffer.
+     * @param currentSlot The current time slot, which is still incomplete and not included.
+     * @param slots The number of completed slots to sum.
+     * @return The sum of the counts.
+     */
+    private static long sum(AtomicLongArray ring, long currentSlot, int slots) {
+        long sum = 0;
+        for (long slot = currentSlot - slots; slot < currentSlot; slot++) {
+            if (slot < 0) continue;
+            long value = ring.get((int) (slot % RING_SIZE));
+            if (value >>> SLOT_SHIFT == (slot & COUNT_MASK)) sum += value & COUNT_MASK;
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * CaseAPI, a Minecraft plugin API by Cubexa Studio
+ * Copyright (C) 2025 Cubexa Studio <https://cubexa.net>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.cubexa.caseapi.statistics;
+
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Represents the opening statistics accumulated since the last successful flush.
+ * <p>
+ * All values are increments that have to be added to the persisted values.
+ */
+public class StatisticsDelta {
+
+    private final long totalOpened;
+    private final Map<UUID, Long> playerOpens;
+    private final Map<String, Long> caseOpens;
+    private final Map<String, Map<Integer, Long>> rewardDrops;
+
+    /**
+     * Constructs a new {@code StatisticsDelta}.
+     *
+     * @param totalOpened The number of cases opened globally.
+     * @param playerOpens The number of cases opened per player.
+     * @param caseOpens The number of openings per case ID.
+     * @param rewardDrops The number of drops per case ID and reward index.
+     */
+    public StatisticsDelta(long totalOpened, Map<UUID, Long> playerOpens, Map<String, Long> caseOpens,
+                           Map<String, Map<Integer, Long>> rewardDrops) {
+        this.totalOpened = totalOpened;
+        this.playerOpens = Map.copyOf(playerOpens);
+        this.caseOpens = Map.copyOf(caseOpens);
+        this.rewardDrops = Map.copyOf(rewardDrops);
+    }
+
+    /**
+     * Gets the number of cases opened globally.
+     *
+     * @return The global increment.
+     */
+    public long getTotalOpened() {
+        return totalOpened;
+    }
+
+    /**
+     * Gets the number of cases opened per player.
+     *
+     * @return An unmodifiable map of increments, keyed by player UUID.
+     */
+    public Map<UUID, Long> getPlayerOpens() {
+        return playerOpens;
+    }
+
+    /**
+     * Gets the number of openings per case.
+     *
+     * @return An unmodifiable map of increments, keyed by case ID.
+     */
+    public Map<String, Long> getCaseOpens() {
+        return caseOpens;
+    }
+
+    /**
+     * Gets the number of drops per reward.
+     *
+     * @return An unmodifiable map keyed by case ID, containing the increments keyed by reward index.
+     */
+    public Map<String, Map<Integer, Long>> getRewardDrops() {
+        return rewardDrops;
+    }
+
+    /**
+     * Checks whether nothing was opened since the last flush.
+     *
+     * @return {@code true} if the delta is empty; {@code false} otherwise.
+     */
+    public boolean isEmpty() {
+        return totalOpened == 0 && playerOpens.isEmpty() && caseOpens.isEmpty() && rewardDrops.isEmpty();
+    }
+}
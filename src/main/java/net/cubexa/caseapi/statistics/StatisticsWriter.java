@@ -0,0 +1,36 @@
+/*
+ * CaseAPI, a Minecraft plugin API by Cubexa Studio
+ * Copyright (C) 2025 Cubexa Studio <https://cubexa.net>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.cubexa.caseapi.statistics;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Persists the {@link StatisticsDelta}s flushed by {@link OpenStatistics}.
+ */
+@FunctionalInterface
+public interface StatisticsWriter {
+
+    /**
+     * Adds the given increments to the persisted statistics.
+     *
+     * @param delta The increments since the last successful flush.
+     * @return A {@link CompletableFuture} that completes once the delta is persisted, or completes
+     *         exceptionally if it could not be written.
+     */
+    CompletableFuture<Void> write(StatisticsDelta delta);
+}
@@ -0,0 +1,136 @@
+/*
+ * CaseAPI, a Minecraft plugin API by Cubexa Studio
+ * Copyright (C) 2025 Cubexa Studio <https://cubexa.net>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.cubexa.caseapi.storage;
+
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Represents the merged, not yet persisted change of a single balance.
+ * <p>
+ * A balance is either the jewelry of a player or the amount of a specific case a player owns.
+ * The change is either absolute, replacing the stored value, or relative, adding a delta to it.
+ */
+public class BalanceChange {
+
+    private final UUID playerUuid;
+    private final String caseId;
+    private final boolean absolute;
+    private final int value;
+
+    /**
+     * Constructs a new {@code BalanceChange}.
+     *
+     * @param playerUuid The UUID of the player owning the balance.
+     * @param caseId The ID of the case, or {@code null} if the change affects jewelry.
+     * @param absolute {@code true} if {@code value} replaces the stored value; {@code false} if it is added to it.
+     * @param value The new value or the delta, depending on {@code absolute}.
+     */
+    public BalanceChange(UUID playerUuid, String caseId, boolean absolute, int value) {
+        this.playerUuid = playerUuid;
+        this.caseId = caseId;
+        this.absolute = absolute;
+        this.value = value;
+    }
+
+    /**
+     * Gets the UUID of the player owning the balance.
+     *
+     * @return The player's UUID.
+     */
+    public UUID getPlayerUuid() {
+        return playerUuid;
+    }
+
+    /**
+     * Gets the ID of the case whose amount is changed.
+     *
+     * @return The case ID, or {@code null} if the change affects jewelry.
+     */
+    public String getCaseId() {
+        return caseId;
+    }
+
+    /**
+     * Checks whether the change affects the jewelry of the player.
+     *
+     * @return {@code true} if jewelry is changed; {@code false} if cases are changed.
+     */
+    public boolean isJewelry() {
+        return caseId == null;
+    }
+
+    /**
+     * Checks whether the change replaces the stored value.
+     *
+     * @return {@code true} if absolute; {@code false} if relative.
+     */
+    public boolean isAbsolute() {
+        return absolute;
+    }
+
+    /**
+     * Gets the new value for absolute changes or the delta for relative changes.
+     *
+     * @return The value of the change.
+     */
+    public int getValue() {
+        return value;
+    }
+
+    /**
+     * Applies this change to a stored value.
+     *
+     * @param storedValue The value currently persisted.
+     * @return The value after applying this change.
+     */
+    public int applyTo(int storedValue) {
+        return absolute ? value : storedValue + value;
+    }
+
+    /**
+     * Combines this change with a later change of the same balance.
+     *
+     * @param later The change that happened after this one.
+     * @return A single change with the same effect as applying both in order.
+     */
+    public BalanceChange merge(BalanceChange later) {
+        if (later.absolute) return later;
+        return new BalanceChange(playerUuid, caseId, absolute, value + later.value);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof BalanceChange)) return false;
+        BalanceChange that = (BalanceChange) o;
+        return absolute == that.absolute && value == that.value
+                && playerUuid.equals(that.playerUuid) && Objects.equals(caseId, that.caseId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(playerUuid, caseId, absolute, value);
+    }
+
+    @Override
+    public String toString() {
+        return "BalanceChange{playerUuid=" + playerUuid + ", caseId=" + caseId
+                + ", absolute=" + absolute + ", value=" + value + "}";
+    }
+}
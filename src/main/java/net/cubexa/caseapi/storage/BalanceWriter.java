@@ -0,0 +1,42 @@
+/*
+ * CaseAPI, a Minecraft plugin API by Cubexa Studio
+ * Copyright (C) 2025 Cubexa Studio <https://cubexa.net>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.cubexa.caseapi.storage;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Persists batches of {@link BalanceChange}s flushed by a {@link WriteBehindBuffer}.
+ * <p>
+ * Implementations should write the whole batch with as few storage statements as possible,
+ * ideally a single batched statement or transaction.
+ */
+@FunctionalInterface
+public interface BalanceWriter {
+
+    /**
+     * Writes the given changes to the storage.
+     * <p>
+     * Every balance occurs at most once per batch.
+     *
+     * @param changes The merged changes to persist.
+     * @return A {@link CompletableFuture} that completes once all changes are persisted, or completes
+     *         exceptionally if the batch could not be written.
+     */
+    CompletableFuture<Void> write(List<BalanceChange> changes);
+}
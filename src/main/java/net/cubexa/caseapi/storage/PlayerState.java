@@ -0,0 +1,141 @@
+/*
+ * CaseAPI, a Minecraft plugin API by Cubexa Studio
+ * Copyright (C) 2025 Cubexa Studio <https://cubexa.net>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.cubexa.caseapi.storage;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Immutable snapshot of the stored state of a single player.
+ * <p>
+ * Contains the jewelry, the owned cases and the number of cases opened by the player.
+ * Changes produce new snapshots through the {@code with} methods.
+ */
+public class PlayerState {
+
+    private final UUID playerUuid;
+    private final int jewelry;
+    private final Map<String, Integer> cases;
+    private final int totalCasesOpened;
+
+    /**
+     * Constructs a new {@code PlayerState}.
+     *
+     * @param playerUuid The UUID of the player.
+     * @param jewelry The amount of jewelry the player owns.
+     * @param cases The number of cases the player owns, keyed by case ID.
+     * @param totalCasesOpened The total number of cases opened by the player.
+     */
+    public PlayerState(UUID playerUuid, int jewelry, Map<String, Integer> cases, int totalCasesOpened) {
+        this.playerUuid = playerUuid;
+        this.jewelry = jewelry;
+        this.cases = Map.copyOf(cases);
+        this.totalCasesOpened = totalCasesOpened;
+    }
+
+    /**
+     * Gets the UUID of the player.
+     *
+     * @return The player's UUID.
+     */
+    public UUID getPlayerUuid() {
+        return playerUuid;
+    }
+
+    /**
+     * Gets the amount of jewelry the player owns.
+     *
+     * @return The jewelry amount.
+     */
+    public int getJewelry() {
+        return jewelry;
+    }
+
+    /**
+     * Gets the number of a specific case the player owns.
+     *
+     * @param caseId The ID of the case.
+     * @return The number of cases, or {@code 0} if the player owns none.
+     */
+    public int getCases(String caseId) {
+        return cases.getOrDefault(caseId, 0);
+    }
+
+    /**
+     * Gets the number of every case the player owns.
+     *
+     * @return An unmodifiable map of case amounts, keyed by case ID.
+     */
+    public Map<String, Integer> getAllCases() {
+        return cases;
+    }
+
+    /**
+     * Gets the total number of cases opened by the player.
+     *
+     * @return The total number of opened cases.
+     */
+    public int getTotalCasesOpened() {
+        return totalCasesOpened;
+    }
+
+    /**
+     * Returns a copy of this state with a different jewelry amount.
+     *
+     * @param jewelry The new jewelry amount.
+     * @return The new {@code PlayerState}.
+     */
+    public PlayerState withJewelry(int jewelry) {
+        return new PlayerState(playerUuid, jewelry, cases, totalCasesOpened);
+    }
+
+    /**
+     * Returns a copy of this state with a different amount of a specific case.
+     *
+     * @param caseId The ID of the case.
+     * @param amount The new number of cases.
+     * @return The new {@code PlayerState}.
+     */
+    public PlayerState withCases(String caseId, int amount) {
+        Map<String, Integer> updated = new HashMap<>(cases);
+        updated.put(caseId, amount);
+        return new PlayerState(playerUuid, jewelry, updated, totalCasesOpened);
+    }
+
+    /**
+     * Returns a copy of this state with a different number of opened cases.
+     *
+     * @param totalCasesOpened The new total number of opened cases.
+     * @return The new {@code PlayerState}.
+     */
+    public PlayerState withTotalCasesOpened(int totalCasesOpened) {
+        return new PlayerState(playerUuid, jewelry, cases, totalCasesOpened);
+    }
+
+    /**
+     * Returns a copy of this state with the given balance change applied.
+     *
+     * @param change The {@link BalanceChange} to apply. Must belong to this player.
+     * @return The new {@code PlayerState}.
+     */
+    public PlayerState apply(BalanceChange change) {
+        if (change.isJewelry()) return withJewelry(change.applyTo(jewelry));
+        return withCases(change.getCaseId(), change.applyTo(getCases(change.getCaseId())));
+    }
+}
@@ -0,0 +1,298 @@
+/*
+ * CaseAPI, a Minecraft plugin API by Cubexa Studio
+ * Copyright (C) 2025 Cubexa Studio <https://cubexa.net>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.cubexa.caseapi.storage;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+
+/**
+ * Bounded read-through cache of {@link PlayerState}s keyed by player UUID.
+ * <p>
+ * Players are usually preloaded on join with {@link #preload(UUID)} and evicted on quit with
+ * {@link #invalidate(UUID)}. Players not accessed within the configured time are expired, and the
+ * least recently accessed players are evicted once the maximum size is exceeded.
+ * <p>
+ * On a hit, {@link #get(UUID)} returns an already completed {@link CompletableFuture} without
+ * allocating. Mutations keep the cache consistent either by updating the cached state with
+ * {@link #update(UUID, UnaryOperator)} or by invalidating it.
+ */
+public class PlayerStateCache {
+
+    private static final double EVICTION_TARGET = 0.9;
+
+    private final PlayerStateCacheSettings settings;
+    private final Function<UUID, CompletableFuture<PlayerState>> loader;
+    private final long expireAfterAccessNanos;
+    private final Map<UUID, Entry> entries = new ConcurrentHashMap<>();
+    private final ReentrantLock evictionLock = new ReentrantLock();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * Constructs a new {@code PlayerStateCache}.
+     *
+     * @param settings The settings controlling size and expiry.
+     * @param loader Loads the stored state of a player on a miss.
+     */
+    public PlayerStateCache(PlayerStateCacheSettings settings, Function<UUID, CompletableFuture<PlayerState>> loader) {
+        this.settings = settings;
+        this.loader = loader;
+        this.expireAfterAccessNanos = settings.getExpireAfterAccess().toNanos();
+    }
+
+    /**
+     * Gets the state of a player, loading it on a miss.
+     *
+     * @param playerUuid The UUID of the player.
+     * @return A {@link CompletableFuture} with the player's state, already completed on a hit.
+     */
+    public CompletableFuture<PlayerState> get(UUID playerUuid) {
+        return lookup(playerUuid, true);
+    }
+
+    /**
+     * Loads the state of a player into the cache, e.g. when the player joins.
+     * <p>
+     * Preloading is not counted as hit or miss.
+     *
+     * @param playerUuid The UUID of the player.
+     * @return A {@link CompletableFuture} that completes with the loaded state.
+     */
+    public CompletableFuture<PlayerState> preload(UUID playerUuid) {
+        return lookup(playerUuid, false);
+    }
+
+    /**
+     * Gets the cached state of a player without loading it.
+     *
+     * @param playerUuid The UUID of the player.
+     * @return The cached state, or {@code null} if the player is not cached or still loading.
+     */
+    public PlayerState getIfPresent(UUID playerUuid) {
+        Entry entry = entries.get(playerUuid);
+        if (entry == null || !entry.future.isDone() || entry.future.isCompletedExceptionally()) return null;
+        if (isExpired(entry, System.nanoTime())) return null;
+        return entry.future.join();
+    }
+
+    /**
+     * Applies a mutation to the cached state of a player.
+     * <p>
+     * If the player is not cached, nothing happens. If the state is still loading, the entry is
+     * invalidated instead, so the next read loads the mutated state from the storage.
+     *
+     * @param playerUuid The UUID of the player.
+     * @param mutation Produces the new state from the cached state.
+     */
+    public void update(UUID playerUuid, UnaryOperator<PlayerState> mutation) {
+        entries.computeIfPresent(playerUuid, (uuid, entry) -> {
+            if (!entry.future.isDone() || entry.future.isCompletedExceptionally()) return null;
+            return new Entry(CompletableFuture.completedFuture(mutation.apply(entry.future.join())), entry.lastAccess);
+        });
+    }
+
+    /**
+     * Removes a player from the cache, e.g. when the player quits or the state was changed externally.
+     *
+     * @param playerUuid The UUID of the player.
+     */
+    public void invalidate(UUID playerUuid) {
+        if (entries.remove(playerUuid) != null) evictions.increment();
+    }
+
+    /**
+     * Removes all players from the cache.
+     */
+    public void invalidateAll() {
+        int size = entries.size();
+        entries.clear();
+        evictions.add(size);
+    }
+
+    /**
+     * Removes all expired players from the cache.
+     * <p>
+     * Expired players are also skipped on access, so calling this method only frees memory earlier.
+     */
+    public void cleanUp() {
+        long now = System.nanoTime();
+        for (Map.Entry<UUID, Entry> entry : entries.entrySet()) {
+            if (isExpired(entry.getValue(), now) && entries.remove(entry.getKey(), entry.getValue())) {
+                evictions.increment();
+            }
+        }
+    }
+
+    /**
+     * Returns the number of currently cached players, including players still loading.
+     *
+     * @return The cache size.
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Returns the number of lookups served from the cache.
+     *
+     * @return The hit count.
+     */
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * Returns the number of lookups that had to load from the storage.
+     *
+     * @return The miss count.
+     */
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * Returns the number of players removed by invalidation, expiry or size eviction.
+     *
+     * @return The eviction count.
+     */
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    /**
+     * Returns the ratio of hits to all lookups.
+     *
+     * @return The hit rate between {@code 0} and {@code 1}, or {@code 1} if there were no lookups.
+     */
+    public double getHitRate() {
+        long hitCount = hits.sum();
+        long total = hitCount + misses.sum();
+        return total == 0 ? 1 : (double) hitCount / total;
+    }
+
+    /**
+     * Looks up a player and starts loading it on a miss.
+     *
+     * @param playerUuid The UUID of the player.
+     * @param recordStats {@code true} to count the lookup as hit or miss.
+     * @return A {@link CompletableFuture} with the player's state.
+     */
+    private CompletableFuture<PlayerState> lookup(UUID playerUuid, boolean recordStats) {
+        long now = System.nanoTime();
+        Entry entry = entries.get(playerUuid);
+        if (entry != null) {
+            if (!isExpired(entry, now)) {
+                entry.lastAccess = now;
+                if (recordStats) hits.increment();
+                return entry.future;
+            }
+            if (entries.remove(playerUuid, entry)) evictions.increment();
+        }
+
+        CompletableFuture<PlayerState> future = new CompletableFuture<>();
+        Entry created = new Entry(future, now);
+        Entry existing = entries.putIfAbsent(playerUuid, created);
+        if (existing != null) {
+            existing.lastAccess = now;
+            if (recordStats) hits.increment();
+            return existing.future;
+        }
+        if (recordStats) misses.increment();
+
+        CompletableFuture<PlayerState> load;
+        try {
+            load = loader.apply(playerUuid);
+        } catch (RuntimeException e) {
+            load = CompletableFuture.failedFuture(e);
+        }
+        load.whenComplete((state, throwable) -> {
+            if (throwable != null) {
+                entries.remove(playerUuid, created);
+                future.completeExceptionally(throwable);
+            } else {
+                future.complete(state);
+            }
+        });
+
+        evictIfNeeded();
+        return future;
+    }
+
+    /**
+     * Evicts the least recently accessed players once the maximum size is exceeded.
+     * <p>
+     * The cache is shrunk slightly below its maximum size, so evictions happen in batches.
+     */
+    private void evictIfNeeded() {
+        int maximumSize = settings.getMaximumSize();
+        if (entries.size() <= maximumSize || !evictionLock.tryLock()) return;
+        try {
+            List<Map.Entry<UUID, Entry>> candidates = new ArrayList<>(entries.entrySet());
+            int excess = candidates.size() - (int) (maximumSize * EVICTION_TARGET);
+            if (excess <= 0) return;
+            candidates.sort(Comparator.comparingLong(candidate -> candidate.getValue().lastAccess));
+            for (int i = 0; i < excess && i < candidates.size(); i++) {
+                Map.Entry<UUID, Entry> candidate = candidates.get(i);
+                if (entries.remove(candidate.getKey(), candidate.getValue())) evictions.increment();
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    /**
+     * Checks whether an entry was not accessed within the configured time.
+     *
+     * @param entry The entry to check.
+     * @param now The current {@link System#nanoTime()}.
+     * @return {@code true} if expired; {@code false} otherwise.
+     */
+    private boolean isExpired(Entry entry, long now) {
+        return now - entry.lastAccess > expireAfterAccessNanos;
+    }
+
+    /**
+     * Cached state of a single player.
+     */
+    private static final class Entry {
+
+        private final CompletableFuture<PlayerState> future;
+        private volatile long lastAccess;
+
+        /**
+         * Constructs a new cache entry.
+         *
+         * @param future The future holding the player's state.
+         * @param lastAccess The {@link System#nanoTime()} of the last access.
+         */
+        private Entry(CompletableFuture<PlayerState> future, long lastAccess) {
+            this.future = future;
+            this.lastAccess = lastAccess;
+        }
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * CaseAPI, a Minecraft plugin API by Cubexa Studio
+ * Copyright (C) 2025 Cubexa Studio <https://cubexa.net>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.cubexa.caseapi.storage;
+
+import java.time.Duration;
+
+/**
+ * Configuration of the {@link PlayerStateCache}.
+ */
+public class PlayerStateCacheSettings {
+
+    private final int maximumSize;
+    private final Duration expireAfterAccess;
+
+    /**
+     * Constructs new {@code PlayerStateCacheSettings}.
+     *
+     * @param maximumSize The maximum number of cached players.
+     * @param expireAfterAccess The time after which a player that was not accessed is evicted.
+     * @throws IllegalArgumentException If {@code maximumSize} is less than {@code 1} or the duration is not positive.
+     */
+    public PlayerStateCacheSettings(int maximumSize, Duration expireAfterAccess) {
+        if (maximumSize < 1) throw new IllegalArgumentException("maximumSize must be at least 1");
+        if (expireAfterAccess == null || expireAfterAccess.isZero() || expireAfterAccess.isNegative()) {
+            throw new IllegalArgumentException("expireAfterAccess must be positive");
+        }
+        this.maximumSize = maximumSize;
+        this.expireAfterAccess = expireAfterAccess;
+    }
+
+    /**
+     * Returns the default settings, caching up to {@code 5000} players for {@code 30} minutes after their last access.
+     *
+     * @return The default {@code PlayerStateCacheSettings}.
+     */
+    public static PlayerStateCacheSettings defaults() {
+        return new PlayerStateCacheSettings(5000, Duration.ofMinutes(30));
+    }
+
+    /**
+     * Gets the maximum number of cached players.
+     *
+     * @return The maximum size.
+     */
+    public int getMaximumSize() {
+        return maximumSize;
+    }
+
+    /**
+     * Gets the time after which a player that was not accessed is evicted.
+     *
+     * @return The expiry duration.
+     */
+    public Duration getExpireAfterAccess() {
+        return expireAfterAccess;
+    }
+}
@@ -0,0 +1,443 @@
+/*
+ * CaseAPI, a Minecraft plugin API by Cubexa Studio
+ * Copyright (C) 2025 Cubexa Studio <https://cubexa.net>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.cubexa.caseapi.storage;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Coalescing write-behind buffer for jewelry and case balance mutations.
+ * <p>
+ * Mutations are merged per balance, that is per player for jewelry and per player and case ID
+ * for cases, and written by a {@link BalanceWriter} in batches. A flush happens in the configured
+ * interval, as soon as the configured number of balances is pending, or when {@link #flush()}
+ * is called. Only one batch is written at a time.
+ * <p>
+ * Reads through {@link #read(UUID, String, Supplier)}, {@link #readAll(Collection, String, Function)}
+ * and {@link #readCases(UUID, Supplier)} always include pending and in-flight changes,
+ * so callers observe their own writes even before they are persisted.
+ */
+public class WriteBehindBuffer {
+
+    private static final int DRAIN_HISTORY = 64;
+
+    private final WriteBehindSettings settings;
+    private final BalanceWriter writer;
+    private final ScheduledExecutorService executor;
+    private final Map<Key, BalanceChange> pending = new ConcurrentHashMap<>();
+    private final Map<Key, BalanceChange> inFlight = new ConcurrentHashMap<>();
+    private final AtomicLong generation = new AtomicLong();
+    private final Deque<Drain> drains = new ConcurrentLinkedDeque<>();
+    private final AtomicBoolean sizeFlushRequested = new AtomicBoolean();
+    private final LongAdder mergedWrites = new LongAdder();
+    private final LongAdder flushedWrites = new LongAdder();
+    private volatile CompletableFuture<Void> flushChain = CompletableFuture.completedFuture(null);
+    private ScheduledFuture<?> scheduledFlush;
+
+    /**
+     * Constructs a new {@code WriteBehindBuffer}.
+     *
+     * @param settings The settings controlling when pending changes are flushed.
+     * @param writer The {@link BalanceWriter} used to persist flushed batches.
+     * @param executor The executor used for periodic and size-triggered flushes.
+     */
+    public WriteBehindBuffer(WriteBehindSettings settings, BalanceWriter writer, ScheduledExecutorService executor) {
+        this.settings = settings;
+        this.writer = writer;
+        this.executor = executor;
+    }
+
+    /**
+     * Starts the periodic flush in the configured interval.
+     * <p>
+     * Calling this method on an already started buffer has no effect.
+     */
+    public synchronized void start() {
+        if (scheduledFlush != null) return;
+        long interval = settings.getFlushInterval().toMillis();
+        scheduledFlush = executor.scheduleWithFixedDelay(this::flush, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Stops the periodic flush and writes all pending changes.
+     * <p>
+     * This should be called on shutdown.
+     *
+     * @return A {@link CompletableFuture} that completes once all pending changes are persisted.
+     */
+    public CompletableFuture<Void> close() {
+        synchronized (this) {
+            if (scheduledFlush != null) {
+                scheduledFlush.cancel(false);
+                scheduledFlush = null;
+            }
+        }
+        return flush();
+    }
+
+    /**
+     * Buffers an absolute change, replacing all earlier pending changes of the balance.
+     *
+     * @param playerUuid The UUID of the player owning the balance.
+     * @param caseId The ID of the case, or {@code null} for jewelry.
+     * @param value The new value of the balance.
+     */
+    public void set(UUID playerUuid, String caseId, int value) {
+        record(new BalanceChange(playerUuid, caseId, true, value));
+    }
+
+    /**
+     * Buffers a relative change, merging it into the pending change of the balance.
+     *
+     * @param playerUuid The UUID of the player owning the balance.
+     * @param caseId The ID of the case, or {@code null} for jewelry.
+     * @param delta The amount to add, negative to remove.
+     */
+    public void add(UUID playerUuid, String caseId, int delta) {
+        record(new BalanceChange(playerUuid, caseId, false, delta));
+    }
+
+    /**
+     * Reads a balance including all changes that are pending or currently being written.
+     * <p>
+     * If the balance is part of a batch that is currently being written, the read waits for that
+     * batch first, so the stored value and the buffered changes are never counted twice.
+     *
+     * @param playerUuid The UUID of the player owning the balance.
+     * @param caseId The ID of the case, or {@code null} for jewelry.
+     * @param loader Loads the value currently persisted in the storage.
+     * @return A {@link CompletableFuture} that completes with the effective value of the balance.
+     */
+    public CompletableFuture<Integer> read(UUID playerUuid, String caseId, Supplier<CompletableFuture<Integer>> loader) {
+        Key key = new Key(playerUuid, caseId);
+        long observed = generation.get();
+        BalanceChange change = pending.get(key);
+        if (change != null && change.isAbsolute() && (observed & 1) == 0 && generation.get() == observed) {
+            return CompletableFuture.completedFuture(change.getValue());
+        }
+        return readConsistent(key::equals, loader, stored -> resolve(key, stored));
+    }
+
+    /**
+     * Reads the same balance of several players including all pending and in-flight changes.
+     * <p>
+     * The stored values are loaded with a single call to the loader. Players missing in the
+     * loaded map are treated as having a stored value of {@code 0}.
+     *
+     * @param playerUuids The UUIDs of the players owning the balances.
+     * @param caseId The ID of the case, or {@code null} for jewelry.
+     * @param loader Loads the values currently persisted in the storage for the given players.
+     * @return A {@link CompletableFuture} that completes with the effective value per player.
+     */
+    public CompletableFuture<Map<UUID, Integer>> readAll(Collection<UUID> playerUuids, String caseId,
+                                                         Function<Collection<UUID>, CompletableFuture<Map<UUID, Integer>>> loader) {
+        Set<UUID> players = Set.copyOf(playerUuids);
+        return readConsistent(
+                key -> Objects.equals(key.caseId, caseId) && players.contains(key.playerUuid),
+                () -> loader.apply(players),
+                stored -> {
+                    Map<UUID, Integer> result = new HashMap<>(players.size());
+                    for (UUID playerUuid : players) {
+                        result.put(playerUuid, resolve(new Key(playerUuid, caseId), stored.getOrDefault(playerUuid, 0)));
+                    }
+                    return result;
+                });
+    }
+
+    /**
+     * Reads all case amounts of a player including all pending and in-flight changes.
+     * <p>
+     * Cases that only exist as pending changes are included as well.
+     *
+     * @param playerUuid The UUID of the player owning the cases.
+     * @param loader Loads the case amounts currently persisted in the storage, keyed by case ID.
+     * @return A {@link CompletableFuture} that completes with the effective amount per case ID.
+     */
+    public CompletableFuture<Map<String, Integer>> readCases(UUID playerUuid, Supplier<CompletableFuture<Map<String, Integer>>> loader) {
+        return readConsistent(
+                key -> key.caseId != null && key.playerUuid.equals(playerUuid),
+                loader,
+                stored -> {
+                    Map<String, Integer> result = new HashMap<>(stored);
+                    for (Map.Entry<Key, BalanceChange> entry : pending.entrySet()) {
+                        Key key = entry.getKey();
+                        if (key.caseId == null || !key.playerUuid.equals(playerUuid)) continue;
+                        result.put(key.caseId, entry.getValue().applyTo(result.getOrDefault(key.caseId, 0)));
+                    }
+                    return result;
+                });
+    }
+
+    /**
+     * Writes all pending changes in a single batch.
+     * <p>
+     * If a batch is currently being written, the new batch is written after it. If writing fails,
+     * the changes are merged back into the buffer and retried with the next flush.
+     *
+     * @return A {@link CompletableFuture} that completes once the batch is persisted.
+     */
+    public synchronized CompletableFuture<Void> flush() {
+        CompletableFuture<Void> previous = flushChain;
+        CompletableFuture<Void> next = new CompletableFuture<>();
+        flushChain = next;
+        previous.handle((ignored, throwable) -> null)
+                .thenCompose(ignored -> writeBatch())
+                .whenComplete((ignored, throwable) -> {
+                    if (throwable == null) next.complete(null);
+                    else next.completeExceptionally(throwable);
+                });
+        return next;
+    }
+
+    /**
+     * Returns the number of balances with changes that are not yet persisted.
+     *
+     * @return The number of pending balances.
+     */
+    public int getPendingWrites() {
+        return pending.size();
+    }
+
+    /**
+     * Returns the number of mutations that were merged into an already pending change
+     * and therefore did not cause a storage write of their own.
+     *
+     * @return The number of merged writes.
+     */
+    public long getMergedWrites() {
+        return mergedWrites.sum();
+    }
+
+    /**
+     * Returns the number of balance changes that were persisted successfully.
+     *
+     * @return The number of flushed writes.
+     */
+    public long getFlushedWrites() {
+        return flushedWrites.sum();
+    }
+
+    /**
+     * Loads stored values and resolves pending changes without racing a concurrent flush.
+     * <p>
+     * If an affected balance is currently being written, or pending changes are being drained into a
+     * batch, the read waits for that flush first. The read is only repeated if a flush drained one of
+     * the affected balances while the stored values were loaded.
+     *
+     * @param affects Matches the balances covered by the read.
+     * @param loader Loads the values currently persisted in the storage.
+     * @param resolver Applies the pending changes to the loaded values.
+     * @param <T> The type of the loaded values.
+     * @return A {@link CompletableFuture} that completes with the resolved values.
+     */
+    private <T> CompletableFuture<T> readConsistent(Predicate<Key> affects, Supplier<CompletableFuture<T>> loader,
+                                                    Function<T, T> resolver) {
+        long observed = generation.get();
+        boolean flushing = (observed & 1) != 0;
+        for (Key key : inFlight.keySet()) {
+            if (flushing) break;
+            flushing = affects.test(key);
+        }
+        if (flushing) {
+            return flushChain.handle((ignored, throwable) -> null)
+                    .thenCompose(ignored -> readConsistent(affects, loader, resolver));
+        }
+
+        return loader.get().thenCompose(stored -> {
+            T value = resolver.apply(stored);
+            if (!drainedSince(observed, affects)) return CompletableFuture.completedFuture(value);
+            return readConsistent(affects, loader, resolver);
+        });
+    }
+
+    /**
+     * Checks whether a flush drained one of the given balances after a generation was observed.
+     * <p>
+     * If the drains since then are no longer or not yet recorded, the balances are assumed to be affected.
+     *
+     * @param observed The generation observed before the stored values were loaded.
+     * @param affects Matches the balances covered by the read.
+     * @return {@code true} if an affected balance may have been drained; {@code false} otherwise.
+     */
+    private boolean drainedSince(long observed, Predicate<Key> affects) {
+        long current = generation.get();
+        if (current == observed) return false;
+        if ((current & 1) != 0) return true;
+        long recorded = 0;
+        boolean affected = false;
+        for (Drain drain : drains) {
+            if (drain.generation <= observed || drain.generation > current) continue;
+            recorded++;
+            for (Key key : drain.keys) {
+                if (affects.test(key)) {
+                    affected = true;
+                    break;
+                }
+            }
+        }
+        return affected || recorded < (current - observed) / 2;
+    }
+
+    /**
+     * Applies the pending change of a balance to its stored value.
+     *
+     * @param key The balance.
+     * @param stored The value currently persisted.
+     * @return The effective value of the balance.
+     */
+    private int resolve(Key key, int stored) {
+        BalanceChange change = pending.get(key);
+        return change == null ? stored : change.applyTo(stored);
+    }
+
+    /**
+     * Merges a change into the pending changes and triggers a flush if the size threshold is reached.
+     *
+     * @param change The change to record.
+     */
+    private void record(BalanceChange change) {
+        pending.compute(new Key(change.getPlayerUuid(), change.getCaseId()), (key, current) -> {
+            if (current == null) return change;
+            mergedWrites.increment();
+            return current.merge(change);
+        });
+
+        if (pending.size() >= settings.getMaxPendingWrites() && sizeFlushRequested.compareAndSet(false, true)) {
+            executor.execute(() -> flush().whenComplete((ignored, throwable) -> sizeFlushRequested.set(false)));
+        }
+    }
+
+    /**
+     * Moves all pending changes into the in-flight set and writes them.
+     * <p>
+     * The generation only advances if at least one change is drained, so idle flushes never cause
+     * concurrent reads to be repeated.
+     *
+     * @return A {@link CompletableFuture} that completes once the batch is persisted.
+     */
+    private CompletableFuture<Void> writeBatch() {
+        List<BalanceChange> batch = new ArrayList<>();
+        Set<Key> keys = new HashSet<>();
+        try {
+            for (Key key : pending.keySet()) {
+                BalanceChange change = pending.remove(key);
+                if (change == null) continue;
+                if (keys.isEmpty()) generation.incrementAndGet();
+                inFlight.put(key, change);
+                batch.add(change);
+                keys.add(key);
+            }
+        } finally {
+            if (!keys.isEmpty()) {
+                drains.addLast(new Drain(generation.incrementAndGet(), keys));
+                if (drains.size() > DRAIN_HISTORY) drains.pollFirst();
+            }
+        }
+        if (batch.isEmpty()) return CompletableFuture.completedFuture(null);
+
+        CompletableFuture<Void> write;
+        try {
+            write = writer.write(batch);
+        } catch (RuntimeException e) {
+            write = CompletableFuture.failedFuture(e);
+        }
+        return write.whenComplete((ignored, throwable) -> {
+            if (throwable == null) {
+                flushedWrites.add(batch.size());
+            } else {
+                for (Map.Entry<Key, BalanceChange> entry : inFlight.entrySet()) {
+                    pending.merge(entry.getKey(), entry.getValue(), (current, failed) -> failed.merge(current));
+                }
+            }
+            inFlight.clear();
+        });
+    }
+
+    /**
+     * Identifies a single balance.
+     */
+    private static final class Key {
+
+        private final UUID playerUuid;
+        private final String caseId;
+
+        /**
+         * Constructs a new balance key.
+         *
+         * @param playerUuid The UUID of the player owning the balance.
+         * @param caseId The ID of the case, or {@code null} for jewelry.
+         */
+        private Key(UUID playerUuid, String caseId) {
+            this.playerUuid = playerUuid;
+            this.caseId = caseId;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key)) return false;
+            Key key = (Key) o;
+            return playerUuid.equals(key.playerUuid) && Objects.equals(caseId, key.caseId);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * playerUuid.hashCode() + Objects.hashCode(caseId);
+        }
+    }
+
+    /**
+     * The balances drained into a batch by one flush.
+     */
+    private static final class Drain {
+
+        private final long generation;
+        private final Set<Key> keys;
+
+        /**
+         * Constructs a new drain record.
+         *
+         * @param generation The generation after the drain.
+         * @param keys The drained balances.
+         */
+        private Drain(long generation, Set<Key> keys) {
+            this.generation = generation;
+            this.keys = keys;
+        }
+    }
+}
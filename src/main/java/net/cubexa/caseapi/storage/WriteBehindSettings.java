@@ -0,0 +1,72 @@
+/*
+ * CaseAPI, a Minecraft plugin API by Cubexa Studio
+ * Copyright (C) 2025 Cubexa Studio <https://cubexa.net>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.cubexa.caseapi.storage;
+
+import java.time.Duration;
+
+/**
+ * Configuration of the write-behind mode for jewelry and case balance mutations.
+ */
+public class WriteBehindSettings {
+
+    private final Duration flushInterval;
+    private final int maxPendingWrites;
+
+    /**
+     * Constructs new {@code WriteBehindSettings}.
+     *
+     * @param flushInterval The interval in which pending changes are flushed.
+     * @param maxPendingWrites The number of pending balances that triggers an early flush.
+     * @throws IllegalArgumentException If the interval is not positive or {@code maxPendingWrites} is less than {@code 1}.
+     */
+    public WriteBehindSettings(Duration flushInterval, int maxPendingWrites) {
+        if (flushInterval == null || flushInterval.isZero() || flushInterval.isNegative()) {
+            throw new IllegalArgumentException("flushInterval must be positive");
+        }
+        if (maxPendingWrites < 1) throw new IllegalArgumentException("maxPendingWrites must be at least 1");
+        this.flushInterval = flushInterval;
+        this.maxPendingWrites = maxPendingWrites;
+    }
+
+    /**
+     * Returns the default settings, flushing every second or once {@code 1000} balances are pending.
+     *
+     * @return The default {@code WriteBehindSettings}.
+     */
+    public static WriteBehindSettings defaults() {
+        return new WriteBehindSettings(Duration.ofSeconds(1), 1000);
+    }
+
+    /**
+     * Gets the interval in which pending changes are flushed.
+     *
+     * @return The flush interval.
+     */
+    public Duration getFlushInterval() {
+        return flushInterval;
+    }
+
+    /**
+     * Gets the number of pending balances that triggers an early flush.
+     *
+     * @return The size threshold.
+     */
+    public int getMaxPendingWrites() {
+        return maxPendingWrites;
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * CaseAPI, a Minecraft plugin API by Cubexa Studio
+ * Copyright (C) 2025 Cubexa Studio <https://cubexa.net>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.cubexa.caseapi.stream;
+
+import net.cubexa.caseapi.models.CaseRewardType;
+
+import java.util.UUID;
+
+/**
+ * A compact, immutable record of a single reward drawn from a case.
+ */
+public final class OpeningRecord {
+
+    private final UUID playerUuid;
+    private final String caseId;
+    private final int rewardIndex;
+    private final CaseRewardType rewardType;
+    private final long timestamp;
+
+    /**
+     * Constructs a new {@code OpeningRecord}.
+     *
+     * @param playerUuid The UUID of the player who opened the case.
+     * @param caseId The ID of the opened case.
+     * @param rewardIndex The index of the drawn reward within the case.
+     * @param rewardType The {@link CaseRewardType} of the drawn reward.
+     * @param timestamp The time of the opening in milliseconds since the epoch.
+     */
+    public OpeningRecord(UUID playerUuid, String caseId, int rewardIndex, CaseRewardType rewardType, long timestamp) {
+        this.playerUuid = playerUuid;
+        this.caseId = caseId;
+        this.rewardIndex = rewardIndex;
+        this.rewardType = rewardType;
+        this.timestamp = timestamp;
+    }
+
+    /**
+     * Returns the UUID of the player who opened the case.
+     *
+     * @return The UUID of the player.
+     */
+    public UUID getPlayerUuid() {
+        return playerUuid;
+    }
+
+    /**
+     * Returns the ID of the opened case.
+     *
+     * @return The case ID.
+     */
+    public String getCaseId() {
+        return caseId;
+    }
+
+    /**
+     * Returns the index of the drawn reward within the case.
+     *
+     * @return The reward index.
+     */
+    public int getRewardIndex() {
+        return rewardIndex;
+    }
+
+    /**
+     * Returns the type of the drawn reward.
+     *
+     * @return The {@link CaseRewardType}.
+     */
+    public CaseRewardType getRewardType() {
+        return rewardType;
+    }
+
+    /**
+     * Returns the time of the opening.
+     *
+     * @return The timestamp in milliseconds since the epoch.
+     */
+    public long getTimestamp() {
+        return timestamp;
+    }
+}
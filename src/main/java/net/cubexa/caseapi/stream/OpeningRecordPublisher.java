@@ -0,0 +1,214 @@
+/*
+ * CaseAPI, a Minecraft plugin API by Cubexa Studio
+ * Copyright (C) 2025 Cubexa Studio <https://cubexa.net>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.cubexa.caseapi.stream;
+
+import net.cubexa.caseapi.models.Case;
+import net.cubexa.caseapi.models.CaseReward;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@link Flow.Publisher} of the {@link OpeningRecord}s of all case openings.
+ * <p>
+ * Every subscriber gets its own bounded buffer and receives records only as far as it has requested
+ * them. Publishing never waits for subscribers, except for subscriptions using
+ * {@link StreamOverflowPolicy#BLOCK}, which wait at most the configured time per publish call,
+ * however many records it publishes.
+ */
+public class OpeningRecordPublisher implements Flow.Publisher<OpeningRecord> {
+
+    private static final OpeningRecordSubscription[] EMPTY = new OpeningRecordSubscription[0];
+
+    private final Executor executor;
+    private final LongAdder published = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private volatile OpeningRecordSubscription[] subscriptions = EMPTY;
+    private boolean closed;
+
+    /**
+     * Constructs a new {@code OpeningRecordPublisher}.
+     *
+     * @param executor The executor delivering records to the subscribers.
+     */
+    public OpeningRecordPublisher(Executor executor) {
+        this.executor = executor;
+    }
+
+    /**
+     * Subscribes with the {@linkplain OpeningStreamSettings#defaults() default settings}.
+     *
+     * @param subscriber The subscriber receiving the records.
+     */
+    @Override
+    public void subscribe(Flow.Subscriber<? super OpeningRecord> subscriber) {
+        subscribe(subscriber, OpeningStreamSettings.defaults());
+    }
+
+    /**
+     * Subscribes with the given buffer and overflow settings.
+     * <p>
+     * If the publisher is closed, the subscriber is completed immediately.
+     *
+     * @param subscriber The subscriber receiving the records.
+     * @param settings The buffer and overflow settings of the subscription.
+     * @return The {@link OpeningRecordSubscription}, which also exposes the drop counters.
+     * @throws NullPointerException If {@code subscriber} is {@code null}.
+     */
+    public OpeningRecordSubscription subscribe(Flow.Subscriber<? super OpeningRecord> subscriber,
+                                               OpeningStreamSettings settings) {
+        if (subscriber == null) throw new NullPointerException("subscriber must not be null");
+        OpeningRecordSubscription subscription = new OpeningRecordSubscription(this, subscriber, settings, executor);
+        boolean added;
+        synchronized (this) {
+            added = !closed;
+            if (added) {
+                OpeningRecordSubscription[] current = subscriptions;
+                OpeningRecordSubscription[] updated = Arrays.copyOf(current, current.length + 1);
+                updated[current.length] = subscription;
+                subscriptions = updated;
+            }
+        }
+        subscriber.onSubscribe(subscription);
+        if (!added) subscription.complete();
+        subscription.start();
+        return subscription;
+    }
+
+    /**
+     * Checks whether there are active subscribers.
+     *
+     * @return {@code true} if at least one subscriber receives records; {@code false} otherwise.
+     */
+    public boolean hasSubscribers() {
+        return subscriptions.length != 0;
+    }
+
+    /**
+     * Publishes a record to all subscribers.
+     *
+     * @param record The record to publish.
+     */
+    public void publish(OpeningRecord record) {
+        publish(record, System.nanoTime());
+    }
+
+    /**
+     * Publishes the record of a single opening, timestamped with the current time.
+     *
+     * @param playerUuid The UUID of the player who opened the case.
+     * @param crate The opened {@link Case}.
+     * @param reward The drawn {@link CaseReward}.
+     */
+    public void publish(UUID playerUuid, Case crate, CaseReward reward) {
+        if (!hasSubscribers()) return;
+        publish(new OpeningRecord(playerUuid, crate.getCaseId(), reward.getIndex(), reward.getType(), System.currentTimeMillis()));
+    }
+
+    /**
+     * Publishes the records of a bulk opening, all timestamped with the current time.
+     *
+     * @param playerUuid The UUID of the player who opened the cases.
+     * @param crate The opened {@link Case}.
+     * @param rewards The drawn {@link CaseReward}s.
+     */
+    public void publish(UUID playerUuid, Case crate, List<CaseReward> rewards) {
+        if (!hasSubscribers()) return;
+        long timestamp = System.currentTimeMillis();
+        long blockStart = System.nanoTime();
+        for (CaseReward reward : rewards) {
+            publish(new OpeningRecord(playerUuid, crate.getCaseId(), reward.getIndex(), reward.getType(), timestamp),
+                    blockStart);
+        }
+    }
+
+    /**
+     * Completes all subscribers after their buffered records were delivered. Later subscribers are
+     * completed immediately.
+     */
+    public synchronized void close() {
+        closed = true;
+        OpeningRecordSubscription[] current = subscriptions;
+        subscriptions = EMPTY;
+        for (OpeningRecordSubscription subscription : current) {
+            subscription.complete();
+        }
+    }
+
+    /**
+     * Returns the number of records published while at least one subscriber was present.
+     *
+     * @return The number of published records.
+     */
+    public long getPublishedRecords() {
+        return published.sum();
+    }
+
+    /**
+     * Returns the number of records dropped across all subscriptions.
+     *
+     * @return The number of dropped records.
+     */
+    public long getDroppedRecords() {
+        return dropped.sum();
+    }
+
+    /**
+     * Publishes a record to all subscribers.
+     *
+     * @param record The record to publish.
+     * @param blockStart The {@link System#nanoTime()} at which the publish call started, from which
+     *                   {@link StreamOverflowPolicy#BLOCK} subscriptions measure their maximum wait.
+     */
+    private void publish(OpeningRecord record, long blockStart) {
+        OpeningRecordSubscription[] current = subscriptions;
+        if (current.length == 0) return;
+        for (OpeningRecordSubscription subscription : current) {
+            subscription.offer(record, blockStart);
+        }
+        published.increment();
+    }
+
+    /**
+     * Removes a cancelled or terminated subscription.
+     *
+     * @param subscription The subscription to remove.
+     */
+    synchronized void remove(OpeningRecordSubscription subscription) {
+        OpeningRecordSubscription[] current = subscriptions;
+        for (int i = 0; i < current.length; i++) {
+            if (current[i] != subscription) continue;
+            OpeningRecordSubscription[] updated = new OpeningRecordSubscription[current.length - 1];
+            System.arraycopy(current, 0, updated, 0, i);
+            System.arraycopy(current, i + 1, updated, i, current.length - i - 1);
+            subscriptions = updated;
+            return;
+        }
+    }
+
+    /**
+     * Counts a record dropped by one of the subscriptions.
+     */
+    void recordDrop() {
+        dropped.increment();
+    }
+}
@@ -0,0 +1,313 @@
+/*
+ * CaseAPI, a Minecraft plugin API by Cubexa Studio
+ * Copyright (C) 2025 Cubexa Studio <https://cubexa.net>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.cubexa.caseapi.stream;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * The subscription of a single subscriber to the {@link OpeningRecordPublisher}.
+ * <p>
+ * Records are buffered up to the configured capacity and delivered on the publisher's executor
+ * as long as the subscriber has outstanding demand. While the buffer is full, new records are
+ * handled according to the {@link StreamOverflowPolicy}, so a slow subscriber never grows memory
+ * beyond its buffer.
+ */
+public final class OpeningRecordSubscription implements Flow.Subscription {
+
+    private final OpeningRecordPublisher publisher;
+    private final Flow.Subscriber<? super OpeningRecord> subscriber;
+    private final OpeningStreamSettings settings;
+    private final Executor executor;
+    private final ArrayDeque<OpeningRecord> buffer;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notFull = lock.newCondition();
+    private final AtomicLong demand = new AtomicLong();
+    private final AtomicInteger drainRequests = new AtomicInteger();
+    private final LongAdder delivered = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private long overflowed;
+    private volatile boolean started;
+    private volatile boolean cancelled;
+    private volatile boolean completed;
+    private volatile Throwable error;
+
+    /**
+     * Constructs a new subscription.
+     *
+     * @param publisher The publisher the subscription belongs to.
+     * @param subscriber The subscriber receiving the records.
+     * @param settings The buffer and overflow settings.
+     * @param executor The executor delivering the records.
+     */
+    OpeningRecordSubscription(OpeningRecordPublisher publisher, Flow.Subscriber<? super OpeningRecord> subscriber,
+                              OpeningStreamSettings settings, Executor executor) {
+        this.publisher = publisher;
+        this.subscriber = subscriber;
+        this.settings = settings;
+        this.executor = executor;
+        this.buffer = new ArrayDeque<>(Math.min(settings.getBufferCapacity(), 1024));
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * A non-positive {@code n} cancels the subscription and signals an {@link IllegalArgumentException}.
+     */
+    @Override
+    public void request(long n) {
+        if (cancelled) return;
+        if (n <= 0) {
+            error = new IllegalArgumentException("Requested demand must be positive, got " + n);
+        } else {
+            demand.accumulateAndGet(n, (current, added) -> current + added < 0 ? Long.MAX_VALUE : current + added);
+        }
+        schedule();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void cancel() {
+        if (cancelled) return;
+        cancelled = true;
+        publisher.remove(this);
+        lock.lock();
+        try {
+            buffer.clear();
+            notFull.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the settings of this subscription.
+     *
+     * @return The {@link OpeningStreamSettings}.
+     */
+    public OpeningStreamSettings getSettings() {
+        return settings;
+    }
+
+    /**
+     * Returns the number of records currently waiting for demand.
+     *
+     * @return The number of buffered records.
+     */
+    public int getBufferedRecords() {
+        lock.lock();
+        try {
+            return buffer.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the number of records delivered to the subscriber.
+     *
+     * @return The number of delivered records.
+     */
+    public long getDeliveredRecords() {
+        return delivered.sum();
+    }
+
+    /**
+     * Returns the number of records dropped because the buffer was full.
+     *
+     * @return The number of dropped records.
+     */
+    public long getDroppedRecords() {
+        return dropped.sum();
+    }
+
+    /**
+     * Checks whether the subscription was cancelled or has terminated.
+     *
+     * @return {@code true} if no further records are delivered; {@code false} otherwise.
+     */
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    /**
+     * Starts signalling the subscriber. Called once {@link Flow.Subscriber#onSubscribe(Flow.Subscription)} returned,
+     * so completion and errors are never signalled before it.
+     */
+    void start() {
+        started = true;
+        schedule();
+    }
+
+    /**
+     * Buffers a record for delivery, applying the overflow policy if the buffer is full.
+     *
+     * @param record The record to buffer.
+     * @param blockStart The {@link System#nanoTime()} from which a {@link StreamOverflowPolicy#BLOCK} wait is measured.
+     */
+    void offer(OpeningRecord record, long blockStart) {
+        if (cancelled || completed) return;
+        lock.lock();
+        try {
+            if (buffer.size() >= settings.getBufferCapacity() && !makeRoom(blockStart)) {
+                drop();
+                return;
+            }
+            buffer.add(record);
+        } finally {
+            lock.unlock();
+        }
+        schedule();
+    }
+
+    /**
+     * Delivers all buffered records and completes the subscriber afterwards.
+     */
+    void complete() {
+        completed = true;
+        schedule();
+    }
+
+    /**
+     * Frees a buffer slot for a new record according to the overflow policy. Must be called while holding the lock.
+     *
+     * @param blockStart The {@link System#nanoTime()} from which a {@link StreamOverflowPolicy#BLOCK} wait is measured.
+     * @return {@code true} if the new record can be added; {@code false} if it has to be dropped.
+     */
+    private boolean makeRoom(long blockStart) {
+        return switch (settings.getOverflowPolicy()) {
+            case DROP_OLDEST -> {
+                buffer.poll();
+                drop();
+                yield true;
+            }
+            case SAMPLE -> {
+                if (++overflowed % settings.getSampleInterval() != 0) yield false;
+                buffer.poll();
+                drop();
+                yield true;
+            }
+            case BLOCK -> awaitSpace(blockStart);
+        };
+    }
+
+    /**
+     * Waits for a free buffer slot until the configured time has passed since {@code blockStart}.
+     * Must be called while holding the lock.
+     *
+     * @param blockStart The {@link System#nanoTime()} from which the wait is measured.
+     * @return {@code true} if a slot became free; {@code false} if the wait timed out, was interrupted,
+     *         or the subscription was cancelled.
+     */
+    private boolean awaitSpace(long blockStart) {
+        long nanos = settings.getMaxBlock().toNanos() - (System.nanoTime() - blockStart);
+        try {
+            while (buffer.size() >= settings.getBufferCapacity()) {
+                if (cancelled || nanos <= 0) return false;
+                nanos = notFull.awaitNanos(nanos);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+        return !cancelled;
+    }
+
+    /**
+     * Counts a dropped record.
+     */
+    private void drop() {
+        dropped.increment();
+        publisher.recordDrop();
+    }
+
+    /**
+     * Schedules a delivery pass unless one is already running, in which case that pass repeats.
+     * Nothing is scheduled before the subscription {@linkplain #start() started}.
+     */
+    private void schedule() {
+        if (!started) return;
+        if (drainRequests.getAndIncrement() != 0) return;
+        try {
+            executor.execute(this::drain);
+        } catch (RejectedExecutionException e) {
+            drainRequests.set(0);
+        }
+    }
+
+    /**
+     * Delivers buffered records while there is demand, and signals errors and completion.
+     */
+    private void drain() {
+        int missed = 1;
+        do {
+            long requested = demand.get();
+            long emitted = 0;
+            while (emitted != requested && !cancelled && error == null) {
+                OpeningRecord record = poll();
+                if (record == null) break;
+                try {
+                    subscriber.onNext(record);
+                } catch (Throwable throwable) {
+                    cancel();
+                    return;
+                }
+                delivered.increment();
+                emitted++;
+            }
+            if (cancelled) return;
+            if (error != null) {
+                cancel();
+                subscriber.onError(error);
+                return;
+            }
+            if (completed && getBufferedRecords() == 0) {
+                cancel();
+                subscriber.onComplete();
+                return;
+            }
+            if (emitted != 0 && requested != Long.MAX_VALUE) demand.addAndGet(-emitted);
+            missed = drainRequests.addAndGet(-missed);
+        } while (missed != 0);
+    }
+
+    /**
+     * Removes the oldest buffered record and wakes up a waiting publisher.
+     *
+     * @return The oldest record, or {@code null} if the buffer is empty.
+     */
+    private OpeningRecord poll() {
+        lock.lock();
+        try {
+            OpeningRecord record = buffer.poll();
+            if (record != null) notFull.signal();
+            return record;
+        } finally {
+            lock.unlock();
+        }
+    }
+}
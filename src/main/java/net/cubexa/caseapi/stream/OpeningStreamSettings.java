@@ -0,0 +1,98 @@
+/*
+ * CaseAPI, a Minecraft plugin API by Cubexa Studio
+ * Copyright (C) 2025 Cubexa Studio <https://cubexa.net>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.cubexa.caseapi.stream;
+
+import java.time.Duration;
+
+/**
+ * Configuration of a subscription to the {@link OpeningRecordPublisher}.
+ */
+public class OpeningStreamSettings {
+
+    private final int bufferCapacity;
+    private final StreamOverflowPolicy overflowPolicy;
+    private final int sampleInterval;
+    private final Duration maxBlock;
+
+    /**
+     * Constructs new {@code OpeningStreamSettings}.
+     *
+     * @param bufferCapacity The maximum number of records buffered for the subscriber.
+     * @param overflowPolicy How new records are handled while the buffer is full.
+     * @param sampleInterval The interval of kept records for {@link StreamOverflowPolicy#SAMPLE}.
+     * @param maxBlock The maximum time the publishing thread waits for {@link StreamOverflowPolicy#BLOCK}.
+     * @throws IllegalArgumentException If {@code bufferCapacity} or {@code sampleInterval} is less than {@code 1},
+     *                                  the policy is {@code null}, or {@code maxBlock} is negative.
+     */
+    public OpeningStreamSettings(int bufferCapacity, StreamOverflowPolicy overflowPolicy, int sampleInterval, Duration maxBlock) {
+        if (bufferCapacity < 1) throw new IllegalArgumentException("bufferCapacity must be at least 1");
+        if (overflowPolicy == null) throw new IllegalArgumentException("overflowPolicy must not be null");
+        if (sampleInterval < 1) throw new IllegalArgumentException("sampleInterval must be at least 1");
+        if (maxBlock == null || maxBlock.isNegative()) throw new IllegalArgumentException("maxBlock must not be negative");
+        this.bufferCapacity = bufferCapacity;
+        this.overflowPolicy = overflowPolicy;
+        this.sampleInterval = sampleInterval;
+        this.maxBlock = maxBlock;
+    }
+
+    /**
+     * Returns the default settings, buffering up to {@code 1024} records and dropping the oldest record
+     * while the buffer is full.
+     *
+     * @return The default {@code OpeningStreamSettings}.
+     */
+    public static OpeningStreamSettings defaults() {
+        return new OpeningStreamSettings(1024, StreamOverflowPolicy.DROP_OLDEST, 10, Duration.ofMillis(50));
+    }
+
+    /**
+     * Gets the maximum number of records buffered for the subscriber.
+     *
+     * @return The buffer capacity.
+     */
+    public int getBufferCapacity() {
+        return bufferCapacity;
+    }
+
+    /**
+     * Gets how new records are handled while the buffer is full.
+     *
+     * @return The {@link StreamOverflowPolicy}.
+     */
+    public StreamOverflowPolicy getOverflowPolicy() {
+        return overflowPolicy;
+    }
+
+    /**
+     * Gets the interval of kept records while the buffer is full with {@link StreamOverflowPolicy#SAMPLE}.
+     *
+     * @return The sample interval.
+     */
+    public int getSampleInterval() {
+        return sampleInterval;
+    }
+
+    /**
+     * Gets the maximum time the publishing thread waits for free space with {@link StreamOverflowPolicy#BLOCK}.
+     *
+     * @return The maximum blocking time.
+     */
+    public Duration getMaxBlock() {
+        return maxBlock;
+    }
+}
@@ -0,0 +1,39 @@
+/*
+ * CaseAPI, a Minecraft plugin API by Cubexa Studio
+ * Copyright (C) 2025 Cubexa Studio <https://cubexa.net>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.cubexa.caseapi.stream;
+
+/**
+ * Defines how an {@link OpeningRecordSubscription} handles new records while its buffer is full.
+ */
+public enum StreamOverflowPolicy {
+
+    /**
+     * The oldest buffered record is dropped to make room for the new one.
+     */
+    DROP_OLDEST,
+
+    /**
+     * Only every n-th new record is kept, replacing the oldest buffered record; all others are dropped.
+     */
+    SAMPLE,
+
+    /**
+     * The publishing thread waits for free space up to a configured time, after which the new record is dropped.
+     */
+    BLOCK
+}
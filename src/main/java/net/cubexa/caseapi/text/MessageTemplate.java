@@ -0,0 +1,156 @@
+/*
+ * CaseAPI, a Minecraft plugin API by Cubexa Studio
+ * Copyright (C) 2025 Cubexa Studio <https://cubexa.net>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.cubexa.caseapi.text;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A message or command with {@link Placeholder}s, parsed once into literal and placeholder segments.
+ * <p>
+ * Placeholders are written as {@code {key}}, for example {@code {player}}. Braces that do not enclose
+ * a known placeholder key are kept as literal text. Rendering only appends the segments to a builder,
+ * so templates that are rendered frequently should be compiled once and reused.
+ * <p>
+ * Instances are immutable and thread-safe.
+ */
+public final class MessageTemplate {
+
+    private static final ThreadLocal<StringBuilder> BUILDER = ThreadLocal.withInitial(StringBuilder::new);
+
+    private final String source;
+    private final String[] literals;
+    private final Placeholder[] placeholders;
+    private final int literalLength;
+    private final int placeholderMask;
+
+    /**
+     * Constructs a new template from its segments.
+     *
+     * @param source The original template string.
+     * @param literals The literal segments; always one more than placeholders.
+     * @param placeholders The placeholder segments between the literals.
+     */
+    private MessageTemplate(String source, String[] literals, Placeholder[] placeholders) {
+        this.source = source;
+        this.literals = literals;
+        this.placeholders = placeholders;
+        int length = 0;
+        for (String literal : literals) {
+            length += literal.length();
+        }
+        int mask = 0;
+        for (Placeholder placeholder : placeholders) {
+            mask |= 1 << placeholder.ordinal();
+        }
+        this.literalLength = length;
+        this.placeholderMask = mask;
+    }
+
+    /**
+     * Parses a template string.
+     *
+     * @param source The template string.
+     * @return The compiled {@code MessageTemplate}.
+     * @throws IllegalArgumentException If {@code source} is {@code null}.
+     */
+    public static MessageTemplate compile(String source) {
+        if (source == null) throw new IllegalArgumentException("source must not be null");
+        List<String> literals = new ArrayList<>();
+        List<Placeholder> placeholders = new ArrayList<>();
+        int literalStart = 0;
+        int open = source.indexOf('{');
+        while (open >= 0) {
+            int close = source.indexOf('}', open + 1);
+            if (close < 0) break;
+            Placeholder placeholder = Placeholder.fromKey(source.substring(open + 1, close));
+            if (placeholder == null) {
+                open = source.indexOf('{', open + 1);
+                continue;
+            }
+            literals.add(source.substring(literalStart, open));
+            placeholders.add(placeholder);
+            literalStart = close + 1;
+            open = source.indexOf('{', literalStart);
+        }
+        literals.add(source.substring(literalStart));
+        return new MessageTemplate(source, literals.toArray(new String[0]), placeholders.toArray(new Placeholder[0]));
+    }
+
+    /**
+     * Returns the original template string.
+     *
+     * @return The template string.
+     */
+    public String getSource() {
+        return source;
+    }
+
+    /**
+     * Checks whether the template contains a placeholder.
+     *
+     * @param placeholder The placeholder to check.
+     * @return {@code true} if the placeholder occurs at least once; {@code false} otherwise.
+     */
+    public boolean contains(Placeholder placeholder) {
+        return (placeholderMask & 1 << placeholder.ordinal()) != 0;
+    }
+
+    /**
+     * Renders the template into a string, using a builder reused per thread.
+     *
+     * @param values The values of the placeholders.
+     * @return The rendered message.
+     */
+    public String render(PlaceholderValues values) {
+        if (placeholders.length == 0) return source;
+        StringBuilder builder = BUILDER.get();
+        builder.setLength(0);
+        renderTo(builder, values);
+        return builder.toString();
+    }
+
+    /**
+     * Appends the rendered template to a builder.
+     *
+     * @param builder The builder to append to.
+     * @param values The values of the placeholders.
+     * @return The given builder, for chaining.
+     */
+    public StringBuilder renderTo(StringBuilder builder, PlaceholderValues values) {
+        builder.ensureCapacity(builder.length() + literalLength + placeholders.length * 16);
+        builder.append(literals[0]);
+        for (int i = 0; i < placeholders.length; i++) {
+            String value = values.get(placeholders[i]);
+            if (value != null) builder.append(value);
+            else builder.append('{').append(placeholders[i].getKey()).append('}');
+            builder.append(literals[i + 1]);
+        }
+        return builder;
+    }
+
+    /**
+     * Returns the original template string.
+     *
+     * @return The template string.
+     */
+    @Override
+    public String toString() {
+        return source;
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * CaseAPI, a Minecraft plugin API by Cubexa Studio
+ * Copyright (C) 2025 Cubexa Studio <https://cubexa.net>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.cubexa.caseapi.text;
+
+/**
+ * Defines the placeholders supported by {@link MessageTemplate}s.
+ */
+public enum Placeholder {
+
+    PLAYER("player"),
+    CASE("case"),
+    REWARD("reward"),
+    AMOUNT("amount"),
+    DURATION("duration");
+
+    private static final Placeholder[] VALUES = values();
+
+    private final String key;
+
+    /**
+     * Constructs a new placeholder.
+     *
+     * @param key The key written between braces in templates.
+     */
+    Placeholder(String key) {
+        this.key = key;
+    }
+
+    /**
+     * Returns the key written between braces in templates, for example {@code player} for {@code {player}}.
+     *
+     * @return The key of the placeholder.
+     */
+    public String getKey() {
+        return key;
+    }
+
+    /**
+     * Returns the placeholder with the given key.
+     * <p>
+     * If the key does not match any placeholder, {@code null} is returned.
+     *
+     * @param key The key to look up, without braces.
+     * @return The corresponding {@link Placeholder}, or {@code null} if no match was found.
+     */
+    public static Placeholder fromKey(String key) {
+        for (Placeholder placeholder : VALUES) {
+            if (placeholder.key.equals(key)) return placeholder;
+        }
+        return null;
+    }
+}
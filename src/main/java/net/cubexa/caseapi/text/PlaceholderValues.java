@@ -0,0 +1,74 @@
+/*
+ * CaseAPI, a Minecraft plugin API by Cubexa Studio
+ * Copyright (C) 2025 Cubexa Studio <https://cubexa.net>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.cubexa.caseapi.text;
+
+import java.util.Arrays;
+
+/**
+ * The values substituted for the {@link Placeholder}s of a {@link MessageTemplate}.
+ * <p>
+ * Instances are mutable and can be reused for several renders. Placeholders without a value are
+ * rendered unchanged, including their braces.
+ */
+public final class PlaceholderValues {
+
+    private final String[] values = new String[Placeholder.values().length];
+
+    /**
+     * Sets the value of a placeholder.
+     *
+     * @param placeholder The placeholder to set.
+     * @param value The value to substitute, or {@code null} to leave the placeholder unchanged.
+     * @return This instance, for chaining.
+     */
+    public PlaceholderValues set(Placeholder placeholder, String value) {
+        values[placeholder.ordinal()] = value;
+        return this;
+    }
+
+    /**
+     * Returns the value of a placeholder.
+     *
+     * @param placeholder The placeholder to look up.
+     * @return The value, or {@code null} if none is set.
+     */
+    public String get(Placeholder placeholder) {
+        return values[placeholder.ordinal()];
+    }
+
+    /**
+     * Creates an independent copy of these values.
+     *
+     * @return The copy.
+     */
+    public PlaceholderValues copy() {
+        PlaceholderValues copy = new PlaceholderValues();
+        System.arraycopy(values, 0, copy.values, 0, values.length);
+        return copy;
+    }
+
+    /**
+     * Removes all values, so the instance can be reused.
+     *
+     * @return This instance, for chaining.
+     */
+    public PlaceholderValues clear() {
+        Arrays.fill(values, null);
+        return this;
+    }
+}
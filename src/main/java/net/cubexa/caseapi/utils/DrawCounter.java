@@ -0,0 +1,157 @@
+/*
+ * CaseAPI, a Minecraft plugin API by Cubexa Studio
+ * Copyright (C) 2025 Cubexa Studio <https://cubexa.net>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.cubexa.caseapi.utils;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * Lock-free counter for the remaining draws of a limited reward.
+ * <p>
+ * The remaining draws are split across several stripes, each updated with compare-and-set.
+ * Threads start at their own stripe and only move on to other stripes when it is empty,
+ * so concurrent openings of the same hot reward rarely contend on a single memory location.
+ * A draw is never handed out twice, and the counter never goes below zero.
+ * <p>
+ * A counter created with a negative amount is unlimited and always grants a reservation.
+ */
+public class DrawCounter {
+
+    private static final int PADDING = 16;
+    private static final int MIN_DRAWS_PER_STRIPE = 8;
+    private static final int RELEASES = 0;
+
+    private final boolean limited;
+    private final int stripes;
+    private final AtomicIntegerArray cells;
+
+    /**
+     * Constructs a new {@code DrawCounter} with one stripe per available processor.
+     *
+     * @param remainingDraws The number of draws left, or a negative value for an unlimited reward.
+     */
+    public DrawCounter(int remainingDraws) {
+        this(remainingDraws, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Constructs a new {@code DrawCounter}.
+     * <p>
+     * The number of stripes is reduced for small amounts, so that a reward with only a few
+     * draws left is not spread thinly across many stripes.
+     *
+     * @param remainingDraws The number of draws left, or a negative value for an unlimited reward.
+     * @param maxStripes The maximum number of stripes to use.
+     * @throws IllegalArgumentException If {@code maxStripes} is less than {@code 1}.
+     */
+    public DrawCounter(int remainingDraws, int maxStripes) {
+        if (maxStripes < 1) throw new IllegalArgumentException("maxStripes must be at least 1");
+        this.limited = remainingDraws >= 0;
+        this.stripes = limited ? Math.max(1, Math.min(maxStripes, remainingDraws / MIN_DRAWS_PER_STRIPE)) : 1;
+        this.cells = new AtomicIntegerArray((stripes + 1) * PADDING);
+
+        if (!limited) return;
+        int share = remainingDraws / stripes;
+        int rest = remainingDraws % stripes;
+        for (int i = 0; i < stripes; i++) {
+            cells.set(cell(i), share + (i < rest ? 1 : 0));
+        }
+    }
+
+    /**
+     * Checks whether this counter limits the number of draws.
+     *
+     * @return {@code true} if limited; {@code false} if unlimited.
+     */
+    public boolean isLimited() {
+        return limited;
+    }
+
+    /**
+     * Atomically reserves one draw.
+     * <p>
+     * The stripes are scanned again if a draw was released during a scan, so a draw returned to an
+     * already scanned stripe is not missed.
+     *
+     * @return {@code true} if a draw was reserved or the counter is unlimited; {@code false} if no draws are left.
+     */
+    public boolean tryReserve() {
+        if (!limited) return true;
+        int home = homeStripe();
+        int releases;
+        do {
+            releases = cells.get(RELEASES);
+            for (int offset = 0; offset < stripes; offset++) {
+                int index = cell((home + offset) % stripes);
+                int current = cells.get(index);
+                while (current > 0) {
+                    if (cells.compareAndSet(index, current, current - 1)) return true;
+                    current = cells.get(index);
+                }
+            }
+        } while (cells.get(RELEASES) != releases);
+        return false;
+    }
+
+    /**
+     * Returns a previously reserved draw, e.g. because the opening was cancelled after the reservation.
+     * <p>
+     * Has no effect on unlimited counters.
+     */
+    public void release() {
+        if (!limited) return;
+        cells.getAndIncrement(cell(homeStripe()));
+        cells.getAndIncrement(RELEASES);
+    }
+
+    /**
+     * Returns the number of draws currently left.
+     * <p>
+     * The value is a sum over all stripes and therefore only a snapshot under concurrent updates.
+     *
+     * @return The remaining draws, or {@code -1} if the counter is unlimited.
+     */
+    public int getRemaining() {
+        if (!limited) return -1;
+        int sum = 0;
+        for (int i = 0; i < stripes; i++) {
+            sum += cells.get(cell(i));
+        }
+        return sum;
+    }
+
+    /**
+     * Returns the array index of a stripe, spaced apart to avoid false sharing.
+     *
+     * @param stripe The stripe number.
+     * @return The index into the cell array.
+     */
+    private static int cell(int stripe) {
+        return (stripe + 1) * PADDING;
+    }
+
+    /**
+     * Returns the stripe the current thread starts with.
+     *
+     * @return The home stripe of the current thread.
+     */
+    private int homeStripe() {
+        long id = Thread.currentThread().getId();
+        int hash = (int) (id ^ (id >>> 32)) * 0x9E3779B9;
+        return (hash >>> 1) % stripes;
+    }
+}
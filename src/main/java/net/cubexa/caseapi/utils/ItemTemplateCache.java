@@ -0,0 +1,172 @@
+/*
+ * CaseAPI, a Minecraft plugin API by Cubexa Studio
+ * Copyright (C) 2025 Cubexa Studio <https://cubexa.net>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.cubexa.caseapi.utils;
+
+import net.cubexa.caseapi.models.Case;
+import net.cubexa.caseapi.models.CaseReward;
+
+import java.nio.ByteBuffer;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Shared cache of decoded item templates for cases and their rewards.
+ * <p>
+ * Each serialized item is decoded at most once, on first access, from
+ * {@link Case#getItemStackData()} or {@link CaseReward#getItemStackData()}. Templates are looked up
+ * by case ID and reward index, so previews and GUIs of cases with many rewards render without
+ * decoding or allocating. All templates of a case must be invalidated when the case is edited.
+ * <p>
+ * Templates are bound to the {@link Case} instance they were decoded from. A lookup with a different
+ * instance of the same case, e.g. one still held from before an edit, replaces the templates instead
+ * of returning or restoring outdated ones.
+ * <p>
+ * Cached templates are shared. Callers have to copy a template before modifying it.
+ *
+ * @param <T> The type of the decoded item, e.g. an {@code ItemStack}.
+ */
+public class ItemTemplateCache<T> {
+
+    private final Function<ByteBuffer, T> decoder;
+    private final Map<String, CaseTemplates<T>> templates = new ConcurrentHashMap<>();
+    private final LongAdder decodes = new LongAdder();
+
+    /**
+     * Constructs a new {@code ItemTemplateCache}.
+     *
+     * @param decoder Deserializes an item from its serialized bytes.
+     */
+    public ItemTemplateCache(Function<ByteBuffer, T> decoder) {
+        this.decoder = decoder;
+    }
+
+    /**
+     * Returns the decoded item of a case.
+     *
+     * @param crate The {@link Case}.
+     * @return The decoded item template.
+     */
+    public T getCaseItem(Case crate) {
+        CaseTemplates<T> entry = entryOf(crate);
+        T item = entry.caseItem;
+        if (item == null) {
+            item = decode(crate.getItemStackData());
+            entry.caseItem = item;
+        }
+        return item;
+    }
+
+    /**
+     * Returns the decoded item of a reward.
+     *
+     * @param crate The {@link Case} the reward belongs to.
+     * @param reward The {@link CaseReward}.
+     * @return The decoded item template, or {@code null} if the reward has no item.
+     */
+    public T getRewardItem(Case crate, CaseReward reward) {
+        CaseTemplates<T> entry = entryOf(crate);
+        int index = reward.getIndex();
+        if (index < 0 || index >= entry.rewardItems.length()) {
+            ByteBuffer data = reward.getItemStackData();
+            return data == null ? null : decode(data);
+        }
+
+        T item = entry.rewardItems.get(index);
+        if (item == null) {
+            ByteBuffer data = reward.getItemStackData();
+            if (data == null) return null;
+            item = decode(data);
+            if (!entry.rewardItems.compareAndSet(index, null, item)) item = entry.rewardItems.get(index);
+        }
+        return item;
+    }
+
+    /**
+     * Removes all templates of a case, e.g. after the case was edited.
+     *
+     * @param caseId The ID of the case.
+     */
+    public void invalidate(String caseId) {
+        templates.remove(caseId);
+    }
+
+    /**
+     * Removes all templates, e.g. after a reload.
+     */
+    public void invalidateAll() {
+        templates.clear();
+    }
+
+    /**
+     * Returns the number of items decoded since the cache was created.
+     *
+     * @return The number of decodes.
+     */
+    public long getDecodeCount() {
+        return decodes.sum();
+    }
+
+    /**
+     * Returns the templates of a case, creating an empty entry sized for its rewards if necessary.
+     *
+     * @param crate The {@link Case}.
+     * @return The templates of the given case instance.
+     */
+    private CaseTemplates<T> entryOf(Case crate) {
+        CaseTemplates<T> entry = templates.get(crate.getCaseId());
+        if (entry != null && entry.crate == crate) return entry;
+        return templates.compute(crate.getCaseId(),
+                (id, existing) -> existing != null && existing.crate == crate ? existing : new CaseTemplates<>(crate));
+    }
+
+    /**
+     * Decodes an item and counts the decode.
+     *
+     * @param data The serialized item.
+     * @return The decoded item.
+     */
+    private T decode(ByteBuffer data) {
+        decodes.increment();
+        return decoder.apply(data.duplicate());
+    }
+
+    /**
+     * Decoded templates of a single case.
+     *
+     * @param <T> The type of the decoded item.
+     */
+    private static final class CaseTemplates<T> {
+
+        private final Case crate;
+        private final AtomicReferenceArray<T> rewardItems;
+        private volatile T caseItem;
+
+        /**
+         * Constructs new, empty templates for a case.
+         *
+         * @param crate The {@link Case} instance the templates are decoded from.
+         */
+        private CaseTemplates(Case crate) {
+            this.crate = crate;
+            this.rewardItems = new AtomicReferenceArray<>(crate.getRewards().size());
+        }
+    }
+}
@@ -0,0 +1,296 @@
+/*
+ * CaseAPI, a Minecraft plugin API by Cubexa Studio
+ * Copyright (C) 2025 Cubexa Studio <https://cubexa.net>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.cubexa.caseapi.utils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Hierarchical timing wheel for large numbers of deadlines.
+ * <p>
+ * Time is divided into ticks of a fixed length. The wheel consists of several levels with
+ * {@code 64} slots each, every level covering {@code 64} times the span of the level below,
+ * so six levels cover more than two thousand years at a one-second tick. Scheduling and cancelling
+ * a deadline take constant time; deadlines move down one level whenever the level below completes
+ * a rotation, until they expire from the lowest level.
+ * <p>
+ * All methods are synchronized on the wheel. Expiry callbacks are invoked while holding the lock
+ * and should therefore only hand the expired payloads over.
+ *
+ * @param <T> The type of the payload attached to each deadline.
+ */
+public class TimingWheel<T> {
+
+    private static final int SLOT_BITS = 6;
+    private static final int SLOTS = 1 << SLOT_BITS;
+    private static final int SLOT_MASK = SLOTS - 1;
+    private static final int LEVELS = 6;
+    private static final long MAX_DELTA = (1L << (SLOT_BITS * LEVELS)) - 1;
+    private static final long CATCH_UP_LIMIT = (long) SLOTS * SLOTS;
+
+    private final long tickMillis;
+    private final Slot<T>[][] wheels;
+    private long nextTick;
+    private int size;
+
+    /**
+     * Constructs a new {@code TimingWheel}.
+     *
+     * @param tickMillis The length of a tick in milliseconds.
+     * @param startMillis The current time in milliseconds.
+     * @throws IllegalArgumentException If {@code tickMillis} is not positive.
+     */
+    @SuppressWarnings("unchecked")
+    public TimingWheel(long tickMillis, long startMillis) {
+        if (tickMillis <= 0) throw new IllegalArgumentException("tickMillis must be positive");
+        this.tickMillis = tickMillis;
+        this.nextTick = startMillis / tickMillis + 1;
+        this.wheels = (Slot<T>[][]) new Slot<?>[LEVELS][SLOTS];
+        for (int level = 0; level < LEVELS; level++) {
+            for (int slot = 0; slot < SLOTS; slot++) {
+                wheels[level][slot] = new Slot<>();
+            }
+        }
+    }
+
+    /**
+     * Schedules a payload to expire at the given time.
+     * <p>
+     * Deadlines in the past expire with the next processed tick.
+     *
+     * @param payload The payload handed to the expiry callback.
+     * @param deadlineMillis The time of expiry in milliseconds.
+     * @return The {@link Timeout} handle, which can be used to cancel the deadline.
+     */
+    public synchronized Timeout<T> schedule(T payload, long deadlineMillis) {
+        Timeout<T> timeout = new Timeout<>(payload, deadlineMillis, Math.floorDiv(deadlineMillis + tickMillis - 1, tickMillis));
+        place(timeout);
+        size++;
+        return timeout;
+    }
+
+    /**
+     * Cancels a scheduled deadline.
+     *
+     * @param timeout The handle returned by {@link #schedule(Object, long)}.
+     * @return {@code true} if the deadline was cancelled; {@code false} if it already expired or was cancelled.
+     */
+    public synchronized boolean cancel(Timeout<T> timeout) {
+        if (timeout.slot == null) return false;
+        timeout.slot.remove(timeout);
+        size--;
+        return true;
+    }
+
+    /**
+     * Expires all deadlines up to the given time.
+     * <p>
+     * After a long pause, all deadlines are redistributed in a single pass instead of processing
+     * every missed tick.
+     *
+     * @param nowMillis The current time in milliseconds.
+     * @param expired Receives the payload of every expired deadline, in deadline order per tick.
+     */
+    public synchronized void advance(long nowMillis, Consumer<T> expired) {
+        long nowTick = Math.floorDiv(nowMillis, tickMillis);
+        if (nowTick - nextTick > CATCH_UP_LIMIT) {
+            catchUp(nowTick, expired);
+            return;
+        }
+        while (nextTick <= nowTick) {
+            int index = (int) (nextTick & SLOT_MASK);
+            if (index == 0) cascade(1);
+            Slot<T> slot = wheels[0][index];
+            Timeout<T> timeout;
+            while ((timeout = slot.poll()) != null) {
+                size--;
+                expired.accept(timeout.payload);
+            }
+            nextTick++;
+        }
+    }
+
+    /**
+     * Returns the number of scheduled deadlines.
+     *
+     * @return The number of pending deadlines.
+     */
+    public synchronized int size() {
+        return size;
+    }
+
+    /**
+     * Moves the deadlines of the current slot of a level down, cascading further levels first
+     * whenever this level completes a rotation.
+     *
+     * @param level The level to cascade.
+     */
+    private void cascade(int level) {
+        if (level >= LEVELS) return;
+        int index = (int) ((nextTick >>> (SLOT_BITS * level)) & SLOT_MASK);
+        if (index == 0) cascade(level + 1);
+        Slot<T> slot = wheels[level][index];
+        Timeout<T> timeout;
+        while ((timeout = slot.poll()) != null) {
+            place(timeout);
+        }
+    }
+
+    /**
+     * Expires every due deadline and redistributes the others after jumping to the given tick.
+     *
+     * @param nowTick The current tick.
+     * @param expired Receives the payload of every expired deadline.
+     */
+    private void catchUp(long nowTick, Consumer<T> expired) {
+        List<Timeout<T>> all = new ArrayList<>(size);
+        for (Slot<T>[] wheel : wheels) {
+            for (Slot<T> slot : wheel) {
+                Timeout<T> timeout;
+                while ((timeout = slot.poll()) != null) {
+                    all.add(timeout);
+                }
+            }
+        }
+        all.sort((a, b) -> Long.compare(a.deadlineTick, b.deadlineTick));
+        nextTick = nowTick + 1;
+        for (Timeout<T> timeout : all) {
+            if (timeout.deadlineTick <= nowTick) {
+                size--;
+                expired.accept(timeout.payload);
+            } else {
+                place(timeout);
+            }
+        }
+    }
+
+    /**
+     * Places a deadline in the slot matching its distance to the next processed tick.
+     *
+     * @param timeout The deadline to place.
+     */
+    private void place(Timeout<T> timeout) {
+        long tick = Math.max(timeout.deadlineTick, nextTick);
+        long delta = Math.min(tick - nextTick, MAX_DELTA);
+        int level = 0;
+        while (level < LEVELS - 1 && delta >= 1L << (SLOT_BITS * (level + 1))) {
+            level++;
+        }
+        long target = nextTick + delta;
+        int index = (int) ((target >>> (SLOT_BITS * level)) & SLOT_MASK);
+        wheels[level][index].add(timeout);
+    }
+
+    /**
+     * Handle of a scheduled deadline.
+     *
+     * @param <T> The type of the payload.
+     */
+    public static final class Timeout<T> {
+
+        private final T payload;
+        private final long deadlineMillis;
+        private final long deadlineTick;
+        private Slot<T> slot;
+        private Timeout<T> previous;
+        private Timeout<T> next;
+
+        /**
+         * Constructs a new timeout.
+         *
+         * @param payload The attached payload.
+         * @param deadlineMillis The deadline in milliseconds.
+         * @param deadlineTick The first tick at or after the deadline.
+         */
+        private Timeout(T payload, long deadlineMillis, long deadlineTick) {
+            this.payload = payload;
+            this.deadlineMillis = deadlineMillis;
+            this.deadlineTick = deadlineTick;
+        }
+
+        /**
+         * Returns the payload attached to the deadline.
+         *
+         * @return The payload.
+         */
+        public T getPayload() {
+            return payload;
+        }
+
+        /**
+         * Returns the deadline in milliseconds.
+         *
+         * @return The deadline.
+         */
+        public long getDeadlineMillis() {
+            return deadlineMillis;
+        }
+    }
+
+    /**
+     * Doubly linked list of the deadlines in one slot.
+     *
+     * @param <T> The type of the payload.
+     */
+    private static final class Slot<T> {
+
+        private Timeout<T> head;
+        private Timeout<T> tail;
+
+        /**
+         * Appends a deadline.
+         *
+         * @param timeout The deadline to append.
+         */
+        private void add(Timeout<T> timeout) {
+            timeout.slot = this;
+            timeout.previous = tail;
+            timeout.next = null;
+            if (tail == null) head = timeout;
+            else tail.next = timeout;
+            tail = timeout;
+        }
+
+        /**
+         * Unlinks a deadline.
+         *
+         * @param timeout The deadline to unlink.
+         */
+        private void remove(Timeout<T> timeout) {
+            if (timeout.previous == null) head = timeout.next;
+            else timeout.previous.next = timeout.next;
+            if (timeout.next == null) tail = timeout.previous;
+            else timeout.next.previous = timeout.previous;
+            timeout.slot = null;
+            timeout.previous = null;
+            timeout.next = null;
+        }
+
+        /**
+         * Removes and returns the first deadline.
+         *
+         * @return The first deadline, or {@code null} if the slot is empty.
+         */
+        private Timeout<T> poll() {
+            Timeout<T> first = head;
+            if (first != null) remove(first);
+            return first;
+        }
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * CaseAPI, a Minecraft plugin API by Cubexa Studio
+ * Copyright (C) 2025 Cubexa Studio <https://cubexa.net>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.cubexa.caseapi.utils;
+
+/**
+ * Thread-safe token bucket rate limiter.
+ * <p>
+ * The bucket holds up to {@code capacity} tokens and refills continuously at a fixed rate.
+ * Each permitted action takes one token, so short bursts up to the capacity are allowed while
+ * the long-term rate never exceeds the refill rate.
+ */
+public class TokenBucket {
+
+    private final double capacity;
+    private final double tokensPerNano;
+    private double tokens;
+    private long lastRefill;
+
+    /**
+     * Constructs a new, full {@code TokenBucket}.
+     *
+     * @param capacity The maximum number of tokens, i.e. the allowed burst.
+     * @param tokensPerSecond The number of tokens added per second.
+     * @throws IllegalArgumentException If {@code capacity} is less than {@code 1} or the rate is not positive.
+     */
+    public TokenBucket(int capacity, double tokensPerSecond) {
+        if (capacity < 1) throw new IllegalArgumentException("capacity must be at least 1");
+        if (!(tokensPerSecond > 0)) throw new IllegalArgumentException("tokensPerSecond must be positive");
+        this.capacity = capacity;
+        this.tokensPerNano = tokensPerSecond / 1_000_000_000d;
+        this.tokens = capacity;
+        this.lastRefill = System.nanoTime();
+    }
+
+    /**
+     * Takes a token if one is available.
+     *
+     * @return {@code true} if a token was taken; {@code false} if the rate limit is exceeded.
+     */
+    public synchronized boolean tryAcquire() {
+        refill();
+        if (tokens < 1) return false;
+        tokens--;
+        return true;
+    }
+
+    /**
+     * Returns the number of whole tokens currently available.
+     *
+     * @return The available tokens.
+     */
+    public synchronized int getAvailableTokens() {
+        refill();
+        return (int) tokens;
+    }
+
+    /**
+     * Adds the tokens accumulated since the last refill.
+     */
+    private void refill() {
+        long now = System.nanoTime();
+        tokens = Math.min(capacity, tokens + (now - lastRefill) * tokensPerNano);
+        lastRefill = now;
+    }
+}